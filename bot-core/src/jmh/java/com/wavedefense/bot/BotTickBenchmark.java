@@ -0,0 +1,51 @@
+package com.wavedefense.bot;
+
+import com.wavedefense.bot.sim.FightSimulation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One tick of simulated fights per behaviour and difficulty: the BotEngine passes plus the cheap
+ * simulated bodies, targets and arrows. Fights that end are replaced, so the number of bots stays
+ * at {@code bots}. Kits that fight alike share a behaviour (Kit.getBehaviour()).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BotTickBenchmark {
+    @Param
+    public Behaviour behaviour;
+
+    @Param
+    public Difficulty difficulty;
+
+    @Param({"1", "256"})
+    public int bots;
+
+    private FightSimulation simulation;
+
+    @Setup
+    public void setUp() {
+        simulation = new FightSimulation(behaviour, difficulty, bots, true);
+    }
+
+    @Benchmark
+    public boolean tick() {
+        return simulation.tick();
+    }
+}
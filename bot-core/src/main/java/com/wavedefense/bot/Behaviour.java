@@ -0,0 +1,23 @@
+package com.wavedefense.bot;
+
+/**
+ * The ways a bot can fight; every kit maps to one of them. KitBehaviours holds the graph of each.
+ */
+public enum Behaviour {
+    // W-tap combos, jump crits, sprint resets
+    SWORD,
+    // Shield breaking, heavy crits
+    AXE,
+    // Wind charge jumps, smash attacks
+    MACE,
+    // Predictive shooting with kiting
+    BOW,
+    // Explosion damage
+    CRYSTAL,
+    // Rod combos and sword
+    UHC,
+    // Splash potions and self buffs
+    POTION,
+    // Block timing and counter attacks
+    SHIELD
+}
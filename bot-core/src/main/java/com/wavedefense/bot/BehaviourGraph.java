@@ -0,0 +1,461 @@
+package com.wavedefense.bot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Declarative description of a bot AI: a list of nodes, each guarded by conditions and running
+ * actions and child nodes in order. A node may have an else branch and its own rate; nodes without
+ * one run every time the bot's AI runs.
+ *
+ * <pre>
+ * when(distanceBelow(3.5), ready(ATTACK)).then(
+ *         when(onGround(), ready(JUMP), chance(CRIT)).then(jump(12)),
+ *         melee(7.0),
+ *         cooldown(ATTACK, 10))
+ * </pre>
+ *
+ * Operands given as a table hold one value per difficulty (in ordinal order). A graph is compiled
+ * once per difficulty into a BehaviourProgram.
+ */
+final class BehaviourGraph {
+    // Cooldowns, one ready bit each
+    static final int ATTACK = 0, JUMP = 1, SPECIAL = 2, SPRINT_RESET = 3, BLOCK = 4, HEAL = 5, DODGE = 6,
+            WIND_CHARGE = 7, RETREAT = 8;
+    static final int COOLDOWNS = 9;
+
+    private final List<Node> nodes;
+
+    private BehaviourGraph(List<Node> nodes) {
+        this.nodes = nodes;
+    }
+
+    static BehaviourGraph of(Node... nodes) {
+        return new BehaviourGraph(List.of(nodes));
+    }
+
+    /**
+     * Returns a new graph running this graph's nodes, then the given ones.
+     */
+    BehaviourGraph then(Node... more) {
+        List<Node> all = new ArrayList<>(nodes);
+        all.addAll(Arrays.asList(more));
+        return new BehaviourGraph(List.copyOf(all));
+    }
+
+    BehaviourProgram compile(Difficulty difficulty) {
+        Compiler compiler = new Compiler(difficulty.ordinal());
+        for (Node node : nodes) {
+            compiler.node(node);
+        }
+        return compiler.finish();
+    }
+
+    // ---- Nodes ----
+
+    sealed interface Part permits Node, Step {
+    }
+
+    static final class Node implements Part {
+        private final List<Step> conditions;
+        private final List<Part> actions = new ArrayList<>();
+        private final List<Part> otherwise = new ArrayList<>();
+        private int every = 1;
+
+        private Node(List<Step> conditions) {
+            this.conditions = conditions;
+        }
+
+        Node then(Part... parts) {
+            for (Part part : parts) {
+                actions.add(action(part));
+            }
+            return this;
+        }
+
+        Node otherwise(Part... parts) {
+            for (Part part : parts) {
+                otherwise.add(action(part));
+            }
+            return this;
+        }
+
+        /**
+         * Evaluates the node at most once per the given number of ticks (4 = 5 Hz).
+         */
+        Node every(int ticks) {
+            if (ticks < 1) throw new IllegalArgumentException("Node rate must be at least one tick: " + ticks);
+            every = ticks;
+            return this;
+        }
+
+        private static Part action(Part part) {
+            if (part instanceof Step step && step.condition) {
+                throw new IllegalArgumentException("Condition used as an action: op " + step.op);
+            }
+            return part;
+        }
+    }
+
+    static final class Step implements Part {
+        private final int op;
+        private final boolean condition;
+        private final double[] a;
+        private final double[] b;
+
+        private Step(int op, double[] a, double[] b) {
+            this.op = op;
+            this.condition = BehaviourProgram.isCondition(op);
+            this.a = a;
+            this.b = b;
+        }
+    }
+
+    static Node when(Step... conditions) {
+        for (Step condition : conditions) {
+            if (!condition.condition) {
+                throw new IllegalArgumentException("Action used as a condition: op " + condition.op);
+            }
+        }
+        return new Node(List.of(conditions));
+    }
+
+    // ---- Conditions ----
+
+    static Step not(Step condition) {
+        return new Step(condition.op ^ BehaviourProgram.NOT, condition.a, condition.b);
+    }
+
+    static Step distanceBelow(double blocks) {
+        return step(BehaviourProgram.DISTANCE_BELOW, blocks);
+    }
+
+    static Step distanceAbove(double blocks) {
+        return step(BehaviourProgram.DISTANCE_ABOVE, blocks);
+    }
+
+    static Step ready(int cooldown) {
+        return step(BehaviourProgram.READY, cooldown);
+    }
+
+    /**
+     * The cooldown ends in less than the given number of ticks (or already has).
+     */
+    static Step cooldownWithin(int cooldown, int ticks) {
+        return step(BehaviourProgram.COOLDOWN_WITHIN, cooldown, ticks);
+    }
+
+    static Step onGround() {
+        return step(BehaviourProgram.ON_GROUND);
+    }
+
+    /**
+     * The bot was hurt since its AI last ran.
+     */
+    static Step hurt() {
+        return step(BehaviourProgram.HURT);
+    }
+
+    static Step targetBlocking() {
+        return step(BehaviourProgram.TARGET_BLOCKING);
+    }
+
+    static Step noEffects() {
+        return step(BehaviourProgram.NO_EFFECTS);
+    }
+
+    static Step preparingSmash() {
+        return step(BehaviourProgram.PREPARING_SMASH);
+    }
+
+    static Step blocking() {
+        return step(BehaviourProgram.BLOCKING);
+    }
+
+    static Step comboStarted() {
+        return step(BehaviourProgram.COMBO_STARTED);
+    }
+
+    /**
+     * The bow has been drawn for at least the given number of ticks.
+     */
+    static Step drawn(int[] ticks) {
+        return new Step(BehaviourProgram.DRAWN, table(ticks), null);
+    }
+
+    static Step healthBelow(double fraction) {
+        return step(BehaviourProgram.HEALTH_BELOW, fraction);
+    }
+
+    static Step healthBelow(double[] fraction) {
+        return new Step(BehaviourProgram.HEALTH_BELOW, fraction, null);
+    }
+
+    static Step healthAbove(double fraction) {
+        return step(BehaviourProgram.HEALTH_ABOVE, fraction);
+    }
+
+    static Step chance(double chance) {
+        return step(BehaviourProgram.CHANCE, chance);
+    }
+
+    static Step chance(double[] chance) {
+        return new Step(BehaviourProgram.CHANCE, chance, null);
+    }
+
+    /**
+     * Like chance, but twice as likely while the target swings (has its hand raised).
+     */
+    static Step chanceVsSwing(double[] chance) {
+        return new Step(BehaviourProgram.CHANCE_VS_SWING, chance, null);
+    }
+
+    // ---- Actions ----
+
+    static Step cooldown(int cooldown, int ticks) {
+        return step(BehaviourProgram.COOLDOWN, cooldown, ticks);
+    }
+
+    static Step cooldown(int cooldown, int[] ticks) {
+        return new Step(BehaviourProgram.COOLDOWN, new double[] {cooldown}, table(ticks));
+    }
+
+    /**
+     * Jumps and starts the jump cooldown.
+     */
+    static Step jump(int cooldownTicks) {
+        return step(BehaviourProgram.JUMP, cooldownTicks);
+    }
+
+    /**
+     * Hits the target; a crit while falling.
+     */
+    static Step melee(double baseDamage) {
+        return step(BehaviourProgram.MELEE, baseDamage);
+    }
+
+    /**
+     * Knocks the target away from the bot.
+     */
+    static Step push(double forward, double up) {
+        return step(BehaviourProgram.PUSH, forward, up);
+    }
+
+    static Step push(double[] forward, double up) {
+        return new Step(BehaviourProgram.PUSH, forward, new double[] {up});
+    }
+
+    static Step effect(int fx) {
+        return step(BehaviourProgram.EFFECT, fx);
+    }
+
+    /**
+     * Strafes partly away from the target.
+     */
+    static Step dodge() {
+        return step(BehaviourProgram.DODGE);
+    }
+
+    static Step countHitTaken() {
+        return step(BehaviourProgram.COUNT_HIT_TAKEN);
+    }
+
+    /**
+     * Eats a simulated golden apple.
+     */
+    static Step heal(double[] amount) {
+        return new Step(BehaviourProgram.HEAL, amount, null);
+    }
+
+    static Step retreat() {
+        return step(BehaviourProgram.RETREAT);
+    }
+
+    static Step stopRetreat() {
+        return step(BehaviourProgram.STOP_RETREAT);
+    }
+
+    /**
+     * Wind charge jump towards the target; the next landing is a smash.
+     */
+    static Step launch(double forward, double[] up) {
+        return new Step(BehaviourProgram.LAUNCH, new double[] {forward}, up);
+    }
+
+    static Step land() {
+        return step(BehaviourProgram.LAND);
+    }
+
+    /**
+     * Mace smash; the damage grows with the height fallen since the launch.
+     */
+    static Step smash(double baseDamage, double perBlock) {
+        return step(BehaviourProgram.SMASH, baseDamage, perBlock);
+    }
+
+    static Step draw() {
+        return step(BehaviourProgram.DRAW);
+    }
+
+    /**
+     * Slowly lets the bow go while out of range.
+     */
+    static Step relaxDraw() {
+        return step(BehaviourProgram.RELAX_DRAW);
+    }
+
+    /**
+     * Releases the arrow at where the target will be after the given share of the flight time,
+     * with inaccuracy (in 1/100 per axis).
+     */
+    static Step shoot(double[] prediction, double[] inaccuracy) {
+        return new Step(BehaviourProgram.SHOOT, prediction, inaccuracy);
+    }
+
+    /**
+     * End crystal between bot and target: hits both, the bot for a quarter.
+     */
+    static Step explode(double baseDamage) {
+        return step(BehaviourProgram.EXPLODE, baseDamage);
+    }
+
+    static Step rodPull(double[] strength) {
+        return new Step(BehaviourProgram.ROD_PULL, strength, null);
+    }
+
+    /**
+     * Drinks speed and strength.
+     */
+    static Step buff() {
+        return step(BehaviourProgram.BUFF);
+    }
+
+    /**
+     * Splash potion of harming: magic damage without an attacker.
+     */
+    static Step harm(double baseDamage) {
+        return step(BehaviourProgram.HARM, baseDamage);
+    }
+
+    static Step slow(int[] ticks) {
+        return new Step(BehaviourProgram.SLOW, table(ticks), null);
+    }
+
+    static Step block() {
+        return step(BehaviourProgram.BLOCK);
+    }
+
+    static Step unblock() {
+        return step(BehaviourProgram.UNBLOCK);
+    }
+
+    static Step comboHit() {
+        return step(BehaviourProgram.COMBO_HIT);
+    }
+
+    /**
+     * Drops the combo when the last hit on the target is longer ago than the given ticks.
+     */
+    static Step resetComboAfter(int ticks) {
+        return step(BehaviourProgram.RESET_COMBO_AFTER, ticks);
+    }
+
+    private static Step step(int op, double... operands) {
+        return new Step(op, operands.length > 0 ? new double[] {operands[0]} : null,
+                operands.length > 1 ? new double[] {operands[1]} : null);
+    }
+
+    private static double[] table(int[] values) {
+        double[] table = new double[values.length];
+        for (int d = 0; d < values.length; d++) {
+            table[d] = values[d];
+        }
+        return table;
+    }
+
+    // ---- Compilation ----
+
+    private static final class Compiler {
+        private final int difficulty;
+        private int[] ops = new int[32];
+        private int[] jumps = new int[32];
+        private double[] a = new double[32];
+        private double[] b = new double[32];
+        private int size = 0;
+        private int timers = 0;
+
+        Compiler(int difficulty) {
+            this.difficulty = difficulty;
+        }
+
+        /**
+         * [RATE] conditions then-parts [GOTO end] else-parts; failing conditions jump to the else
+         * branch, an undue RATE past it.
+         */
+        void node(Node node) {
+            int rate = -1;
+            if (node.every > 1) {
+                rate = emit(BehaviourProgram.RATE, timers++, node.every);
+            }
+            int firstCondition = size;
+            for (Step condition : node.conditions) {
+                emit(condition);
+            }
+            int lastCondition = size;
+            parts(node.actions);
+
+            int skipElse = -1;
+            if (!node.otherwise.isEmpty()) {
+                skipElse = emit(BehaviourProgram.GOTO, 0, 0);
+            }
+            int elseStart = size;
+            parts(node.otherwise);
+            int end = size;
+
+            for (int k = firstCondition; k < lastCondition; k++) {
+                jumps[k] = elseStart;
+            }
+            if (skipElse >= 0) jumps[skipElse] = end;
+            if (rate >= 0) jumps[rate] = end;
+        }
+
+        private void parts(List<Part> parts) {
+            for (Part part : parts) {
+                if (part instanceof Node child) {
+                    node(child);
+                } else {
+                    emit((Step) part);
+                }
+            }
+        }
+
+        private void emit(Step step) {
+            emit(step.op, resolve(step.a), resolve(step.b));
+        }
+
+        private double resolve(double[] operand) {
+            if (operand == null) return 0;
+            return operand.length == 1 ? operand[0] : operand[difficulty];
+        }
+
+        private int emit(int op, double x, double y) {
+            if (size == ops.length) {
+                ops = Arrays.copyOf(ops, size * 2);
+                jumps = Arrays.copyOf(jumps, size * 2);
+                a = Arrays.copyOf(a, size * 2);
+                b = Arrays.copyOf(b, size * 2);
+            }
+            ops[size] = op;
+            jumps[size] = size + 1;
+            a[size] = x;
+            b[size] = y;
+            return size++;
+        }
+
+        BehaviourProgram finish() {
+            return new BehaviourProgram(Arrays.copyOf(ops, size), Arrays.copyOf(jumps, size),
+                    Arrays.copyOf(a, size), Arrays.copyOf(b, size), timers);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.wavedefense.bot;
+
+/**
+ * A behaviour graph compiled for one difficulty: a flat list of instructions run by BotEngine,
+ * one bot at a time. Instruction k is ops[k] with the operands a[k] and b[k]; per-difficulty
+ * tables are already resolved into the operands.
+ *
+ * Conditions jump to jumps[k] when they fail (the node's else branch, or its end) and fall through
+ * otherwise; actions always fall through. RATE starts a node with its own rate: it jumps to the end
+ * of the node unless the node's timer (operand a) is due, then re-arms it b ticks ahead.
+ */
+final class BehaviourProgram {
+    // Control
+    static final int RATE = 0, GOTO = 1;
+
+    // Conditions; NOT inverts one
+    static final int DISTANCE_BELOW = 2, DISTANCE_ABOVE = 3, READY = 4, COOLDOWN_WITHIN = 5, ON_GROUND = 6,
+            HURT = 7, TARGET_BLOCKING = 8, NO_EFFECTS = 9, PREPARING_SMASH = 10, BLOCKING = 11,
+            COMBO_STARTED = 12, DRAWN = 13, HEALTH_BELOW = 14, HEALTH_ABOVE = 15, CHANCE = 16,
+            CHANCE_VS_SWING = 17;
+    static final int FIRST_ACTION = 32;
+    static final int NOT = 1 << 8;
+
+    // Actions
+    static final int COOLDOWN = 32, JUMP = 33, MELEE = 34, PUSH = 35, EFFECT = 36, DODGE = 37,
+            COUNT_HIT_TAKEN = 38, HEAL = 39, RETREAT = 40, STOP_RETREAT = 41, LAUNCH = 42, LAND = 43,
+            SMASH = 44, DRAW = 45, RELAX_DRAW = 46, SHOOT = 47, EXPLODE = 48, ROD_PULL = 49, BUFF = 50,
+            HARM = 51, SLOW = 52, BLOCK = 53, UNBLOCK = 54, COMBO_HIT = 55, RESET_COMBO_AFTER = 56;
+
+    final int[] ops;
+    final int[] jumps;
+    final double[] a;
+    final double[] b;
+    // Number of node timers a bot running this program needs
+    final int timers;
+    // Whether the program tests NO_EFFECTS, so the sample pass has to read the bot's effects
+    final boolean readsEffects;
+
+    BehaviourProgram(int[] ops, int[] jumps, double[] a, double[] b, int timers) {
+        this.ops = ops;
+        this.jumps = jumps;
+        this.a = a;
+        this.b = b;
+        this.timers = timers;
+        boolean effects = false;
+        for (int op : ops) {
+            if ((op & ~NOT) == NO_EFFECTS) effects = true;
+        }
+        this.readsEffects = effects;
+    }
+
+    static boolean isCondition(int op) {
+        int code = op & ~NOT;
+        return code >= DISTANCE_BELOW && code < FIRST_ACTION;
+    }
+}
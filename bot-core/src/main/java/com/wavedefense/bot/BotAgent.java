@@ -0,0 +1,95 @@
+package com.wavedefense.bot;
+
+/**
+ * One bot as a BotEngine knows it: its body, its target, how it fights and how well. The AI state
+ * itself lives in the engine's slot while the agent is added.
+ */
+public final class BotAgent {
+    private final BotBody body;
+    private final TargetView target;
+    private final Behaviour behaviour;
+    private final Difficulty difficulty;
+
+    // Set from damage listeners, consumed by the engine once per tick
+    private volatile boolean wasRecentlyHurt = false;
+
+    // Engine running this agent and the agent's slot in it, or null/-1 while not added
+    private volatile BotEngine engine;
+    private volatile int slot = -1;
+
+    public BotAgent(BotBody body, TargetView target, Behaviour behaviour, Difficulty difficulty) {
+        this.body = body;
+        this.target = target;
+        this.behaviour = behaviour;
+        this.difficulty = difficulty;
+    }
+
+    public BotBody getBody() {
+        return body;
+    }
+
+    public TargetView getTarget() {
+        return target;
+    }
+
+    public Behaviour getBehaviour() {
+        return behaviour;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Signals that the bot was just hurt; it reacts (dodges) in its next run.
+     */
+    public void notifyHurt() {
+        this.wasRecentlyHurt = true;
+    }
+
+    /**
+     * Returns and clears the hurt flag; read by the engine once per tick.
+     */
+    boolean consumeHurt() {
+        if (!wasRecentlyHurt) return false;
+        wasRecentlyHurt = false;
+        return true;
+    }
+
+    public BotEngine getEngine() {
+        return engine;
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    void setEngine(BotEngine engine, int slot) {
+        this.engine = engine;
+        this.slot = slot;
+    }
+
+    public boolean isBlocking() {
+        BotEngine e = engine;
+        int i = slot;
+        return e != null && i >= 0 && e.isBlocking(i);
+    }
+
+    public int getComboCount() {
+        BotEngine e = engine;
+        int i = slot;
+        return e != null && i >= 0 ? e.getComboCount(i) : 0;
+    }
+
+    public int getHitsLanded() {
+        BotEngine e = engine;
+        int i = slot;
+        return e != null && i >= 0 ? e.getHitsLanded(i) : 0;
+    }
+
+    public int getHitsTaken() {
+        BotEngine e = engine;
+        int i = slot;
+        return e != null && i >= 0 ? e.getHitsTaken(i) : 0;
+    }
+}
@@ -0,0 +1,83 @@
+package com.wavedefense.bot;
+
+/**
+ * The entity a bot fights with, as the AI sees it. refresh() captures the entity once per tick;
+ * the getters read that capture, so a BotEngine can sample many values without going back to the
+ * server for each. All methods are called on the thread ticking the engine, never by its workers.
+ */
+public interface BotBody {
+    /**
+     * Captures the entity's current state; false when it is gone (dead, unloaded, removed).
+     */
+    boolean refresh();
+
+    /**
+     * Whether the entity still exists; checked again before commands are applied.
+     */
+    boolean isValid();
+
+    /**
+     * The world the entity is in, compared by identity with the target's.
+     */
+    Object getWorld();
+
+    double getX();
+
+    double getY();
+
+    double getZ();
+
+    float getYaw();
+
+    double getEyeHeight();
+
+    boolean isOnGround();
+
+    double getHealth();
+
+    double getMaxHealth();
+
+    /**
+     * Velocity in blocks per tick.
+     */
+    double getVelocityX();
+
+    double getVelocityY();
+
+    double getVelocityZ();
+
+    /**
+     * Whether any potion effect is active.
+     */
+    boolean hasEffects();
+
+    // ---- Commands ----
+
+    void setRotation(float yaw, float pitch);
+
+    void setVelocity(double x, double y, double z);
+
+    /**
+     * Sets the horizontal velocity and keeps the vertical one.
+     */
+    void setHorizontalVelocity(double x, double z);
+
+    /**
+     * Sets the vertical velocity and keeps the horizontal one.
+     */
+    void setVerticalVelocity(double y);
+
+    /**
+     * Simulated golden apple: health (up to the maximum) and absorption.
+     */
+    void heal(double amount);
+
+    /**
+     * Speed and strength, as from a drunk potion.
+     */
+    void buff();
+
+    void swing();
+
+    void damage(double amount);
+}
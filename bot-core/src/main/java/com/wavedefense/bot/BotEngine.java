@@ -0,0 +1,1028 @@
+package com.wavedefense.bot;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Runs the AI of many bots as one batch per tick. Bot state lives in primitive parallel arrays
+ * indexed by slot; BotAgent is only the handle of a slot. The engine knows nothing about the
+ * server: bots, targets and the world are reached through BotBody, TargetView and WorldEffects,
+ * so the same AI runs on Paper (BotSystem) and in the headless simulation.
+ *
+ * A tick is a sequence of passes over all bots: sample the bodies and targets (positions,
+ * velocity, health) and pick the bots BotLod lets run, then cooldowns, distance/aim and reaction
+ * delay, the behaviour program (KitBehaviours; bots grouped by program), movement, and finally one
+ * pass that applies the collected commands. Only the first and the last pass call the interfaces.
+ * Velocity is worked on a per-bot copy, so later phases see what earlier phases decided. Two hits
+ * on the target in the same run are merged into the larger one, which is what its damage immunity
+ * made of them anyway.
+ *
+ * The owner drives the passes: prepare() samples, decide() runs the decision passes over a range
+ * of the due bots and apply() hands the commands out. The decision passes only read the snapshot
+ * taken by prepare() and only write bot state and commands, so they may run on worker threads
+ * (submit()) while the owner does something else; until the batch is joined and applied the
+ * owner may only add and remove bots. Commands of a batch applied later than it was sampled
+ * stay correct: velocity commands only overwrite the components that were decided and the heal is
+ * added to the bot's health at apply time.
+ *
+ * An engine is otherwise confined to the thread that ticks it. Adds and removals take effect at
+ * the start of the next prepare(); removing bots while commands are applied is safe.
+ *
+ * While profiling, every bot is charged the time of its own sample and apply plus an equal share
+ * of the decision passes it ran in; reportCosts() hands those times out per bot.
+ */
+public final class BotEngine {
+    private static final int INITIAL_CAPACITY = 16;
+    // Bots per worker task of a parallel batch
+    private static final int CHUNK = 32;
+
+    // Per difficulty (ordinal order: PRACTICE, EASY, MEDIUM, HARD)
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+    private static final double[] SPEED = new double[DIFFICULTIES.length];
+    private static final double[] DAMAGE = new double[DIFFICULTIES.length];
+    private static final int[] REACTION_DELAY = new int[DIFFICULTIES.length];
+
+    static {
+        for (Difficulty difficulty : DIFFICULTIES) {
+            SPEED[difficulty.ordinal()] = difficulty.getMovementSpeed();
+            DAMAGE[difficulty.ordinal()] = difficulty.getDamageMultiplier();
+            REACTION_DELAY[difficulty.ordinal()] = difficulty.getReactionDelayTicks();
+        }
+    }
+
+    private static final int[] REACTION_CHANCE = {70, 35, 12, 3};
+    private static final double[] STRAFE_AMOUNT = {0.1, 0.25, 0.4, 0.55};
+
+    private static final int[][] STRAFE_PATTERNS = {
+        {1, 1, 1, -1, -1, -1},           // Simple alternating
+        {1, 1, -1, 1, -1, -1},           // Unpredictable
+        {1, -1, 1, -1, 1, -1},           // Fast switches
+        {1, 1, 1, 1, -1, -1, -1, -1},    // Long holds
+        {1, -1, -1, 1, 1, -1}            // Mixed
+    };
+    // Ticks per step of a strafe pattern
+    private static final int STRAFE_STEP = 3;
+
+    // Commands for the apply pass
+    private static final int CMD_ROTATE = 1, CMD_ACT = 1 << 1, CMD_SET_XZ = 1 << 2, CMD_SET_Y = 1 << 3,
+            CMD_PUSH = 1 << 4, CMD_SWING = 1 << 5, CMD_HEAL = 1 << 6, CMD_BUFF = 1 << 7, CMD_SLOW = 1 << 8,
+            CMD_ARROW = 1 << 9;
+
+    private static final int COOLDOWNS = BehaviourGraph.COOLDOWNS;
+    private static final int TIMERS = KitBehaviours.TIMERS;
+    private static final double MAX_SMASH_DAMAGE = 28.0;
+    private static final double ARROW_SPEED = 2.8;
+
+    private final WorldEffects world;
+    private boolean lodEnabled = true;
+    private double lodFullRateDistance = 16.0;
+    private boolean profiling = false;
+
+    private int count = 0;
+    private int removed = 0;
+    private final Queue<BotAgent> pendingAdds = new ConcurrentLinkedQueue<>();
+
+    // Identity; program is the KitBehaviours program id of the bot's behaviour and difficulty
+    private BotAgent[] agents;
+    private int[] program;
+    private int[] difficulty;
+
+    // Cooldowns (COOLDOWNS per slot) and node timers (TIMERS per slot): tick from which the action
+    // or node is available again
+    private long[] readyAt, nodeDueAt;
+    private long[] reactionUntil;
+
+    // State
+    private int[] strafeDirection, pattern, patternTicks, comboCount, ticksSinceLastHit, drawTicks,
+            hitsTaken, hitsLanded, pendingTicks;
+    private boolean[] blocking, retreating, preparingSmash, drawing, hurt;
+    private double[] fallStartY, lastTargetHealth;
+
+    // Snapshot of the current batch; a null target marks a bot whose commands were applied
+    private BotBody[] bodies;
+    private TargetView[] targets;
+    // Motion history of each target, for prediction
+    private TargetMotion[] motions;
+    private int[] elapsed;
+    private double[] botX, botY, botZ, botEyeHeight;
+    private float[] botYaw;
+    private boolean[] onGround, noEffects;
+    private double[] health, maxHealth;
+    private double[] targetX, targetY, targetZ, targetEyeHeight, targetHeight;
+    private boolean[] targetBlocking, targetHandRaised;
+
+    // Derived in the current batch
+    private int[] ready;
+    private double[] distance, toTargetX, toTargetZ;
+
+    // Commands of the current batch; velX/Y/Z start as the sampled velocity
+    private int[] commands, effects;
+    private float[] yaw, pitch;
+    private double[] velX, velY, velZ, pushX, pushY, pushZ;
+    private double[] meleeDamage, magicDamage, selfDamage, healAmount, arrowX, arrowY, arrowZ;
+    private int[] slowTicks;
+
+    // Slots of the current batch, grouped by program; sorted is the buffer of the sort
+    private int[] due;
+    private int[] sorted;
+    // Nanoseconds each slot cost since the last reportCosts(), while profiling
+    private long[] cost;
+    private final int[] groupStart = new int[KitBehaviours.programCount() + 1];
+
+    private long now;
+    private long strafeClock;
+
+    public BotEngine(WorldEffects world) {
+        this(world, INITIAL_CAPACITY);
+    }
+
+    public BotEngine(WorldEffects world, int capacity) {
+        this.world = world;
+        allocate(Math.max(1, capacity));
+    }
+
+    /**
+     * Level-of-detail settings, see BotLod; read by the next prepare().
+     */
+    public void setLevelOfDetail(boolean enabled, double fullRateDistance) {
+        this.lodEnabled = enabled;
+        this.lodFullRateDistance = fullRateDistance;
+    }
+
+    /**
+     * Whether to time the bots of the following batches, see reportCosts().
+     */
+    public void setProfiling(boolean enabled) {
+        this.profiling = enabled;
+    }
+
+    /**
+     * Bots holding a slot; queued bots count from the next prepare().
+     */
+    public int getBotCount() {
+        return count - removed;
+    }
+
+    /**
+     * Queues a bot; it gets its slot in the next prepare(). Safe from any thread.
+     */
+    public void add(BotAgent agent) {
+        agent.setEngine(this, -1);
+        pendingAdds.add(agent);
+    }
+
+    /**
+     * Stops running a bot. Safe while commands are applied; otherwise call from the owner's thread.
+     */
+    public void remove(BotAgent agent) {
+        if (agent.getEngine() != this) return;
+        int i = agent.getSlot();
+        if (i < 0) {
+            // Still queued; addPending skips it
+            agent.setEngine(null, -1);
+            return;
+        }
+        if (agents[i] != agent) return;
+        agents[i] = null;
+        removed++;
+        agent.setEngine(null, -1);
+    }
+
+    private void addPending() {
+        BotAgent agent;
+        while ((agent = pendingAdds.poll()) != null) {
+            if (agent.getEngine() == this) {
+                insert(agent);
+            }
+        }
+    }
+
+    private void insert(BotAgent agent) {
+        if (count == agents.length) {
+            allocate(agents.length * 2);
+        }
+        int i = count++;
+        agents[i] = agent;
+        program[i] = KitBehaviours.programId(agent.getBehaviour(), agent.getDifficulty());
+        difficulty[i] = agent.getDifficulty().ordinal();
+
+        Arrays.fill(readyAt, i * COOLDOWNS, (i + 1) * COOLDOWNS, 0);
+        Arrays.fill(nodeDueAt, i * TIMERS, (i + 1) * TIMERS, 0);
+        reactionUntil[i] = 0;
+
+        strafeDirection[i] = 1;
+        pattern[i] = ThreadLocalRandom.current().nextInt(STRAFE_PATTERNS.length);
+        patternTicks[i] = comboCount[i] = ticksSinceLastHit[i] = drawTicks[i] = 0;
+        hitsTaken[i] = hitsLanded[i] = pendingTicks[i] = 0;
+        blocking[i] = retreating[i] = preparingSmash[i] = drawing[i] = hurt[i] = false;
+        fallStartY[i] = 0;
+        lastTargetHealth[i] = 20.0;
+
+        agent.setEngine(this, i);
+    }
+
+    /**
+     * Moves the last slots into the ones freed since the previous tick.
+     */
+    private void compact() {
+        if (removed == 0) return;
+        int i = 0;
+        while (i < count) {
+            if (agents[i] != null) {
+                i++;
+                continue;
+            }
+            int last = --count;
+            // A freed last slot is just dropped; slot i is then filled from the one before it
+            if (last != i && agents[last] != null) {
+                move(last, i);
+            }
+            agents[last] = null;
+            bodies[last] = null;
+            targets[last] = null;
+            motions[last] = null;
+        }
+        removed = 0;
+    }
+
+    /**
+     * Runs a whole tick inline: prepare, decide and apply.
+     */
+    public void tick(long now) {
+        int dueCount = prepare(now);
+        if (dueCount > 0) {
+            decide(0, dueCount);
+            apply(dueCount);
+        }
+    }
+
+    /**
+     * Starts the batch of tick now: takes in added and removed bots, samples every bot and returns
+     * how many are due to run. Decide and apply them before the next prepare().
+     */
+    public int prepare(long now) {
+        compact();
+        addPending();
+        if (count == 0) return 0;
+
+        this.now = now;
+        strafeClock = now / STRAFE_STEP;
+        int dueCount = sample();
+        if (dueCount > 0) {
+            groupByProgram(dueCount);
+        }
+        return dueCount;
+    }
+
+    /**
+     * Decides the batch of dueCount bots on the pool; join the task, then apply().
+     */
+    public ForkJoinTask<?> submit(ForkJoinPool pool, int dueCount) {
+        return pool.submit(new DecideTask(0, dueCount));
+    }
+
+    /**
+     * Forgets the commands of the current batch, after its decisions failed.
+     */
+    public void dropBatch() {
+        Arrays.fill(targets, null);
+    }
+
+    /**
+     * Counting sort of the due slots by program, so bots running the same program run back to back.
+     */
+    private void groupByProgram(int dueCount) {
+        Arrays.fill(groupStart, 0);
+        for (int n = 0; n < dueCount; n++) {
+            groupStart[program[due[n]] + 1]++;
+        }
+        for (int p = 0; p < groupStart.length - 1; p++) {
+            groupStart[p + 1] += groupStart[p];
+        }
+        for (int n = 0; n < dueCount; n++) {
+            int i = due[n];
+            sorted[groupStart[program[i]]++] = i;
+        }
+        int[] grouped = sorted;
+        sorted = due;
+        due = grouped;
+    }
+
+    /**
+     * Runs the decision passes for the due bots [from, to) of the batch.
+     */
+    public void decide(int from, int to) {
+        long start = profiling ? System.nanoTime() : 0L;
+        updateCooldowns(from, to);
+        measure(from, to);
+        runPrograms(from, to);
+        decideMovement(from, to);
+        if (profiling && to > from) {
+            // The passes work on all bots of the range at once, each gets an equal share
+            long share = (System.nanoTime() - start) / (to - from);
+            for (int n = from; n < to; n++) {
+                cost[due[n]] += share;
+            }
+        }
+    }
+
+    private final class DecideTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from, to;
+
+        DecideTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK) {
+                decide(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new DecideTask(from, mid), new DecideTask(mid, to));
+        }
+    }
+
+    // ---- Pass 1: sample bodies and targets, level of detail ----
+
+    private int sample() {
+        int dueCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (agents[i] == null) continue;
+            boolean isDue;
+            if (profiling) {
+                long start = System.nanoTime();
+                isDue = sampleSlot(i);
+                cost[i] += System.nanoTime() - start;
+            } else {
+                isDue = sampleSlot(i);
+            }
+            if (isDue) {
+                due[dueCount++] = i;
+            }
+        }
+        return dueCount;
+    }
+
+    /**
+     * Samples one bot; returns whether it runs in this batch.
+     */
+    private boolean sampleSlot(int i) {
+        BotAgent agent = agents[i];
+        pendingTicks[i]++;
+        if (agent.consumeHurt()) {
+            hurt[i] = true;
+        }
+
+        BotBody body = agent.getBody();
+        TargetView target = agent.getTarget();
+        boolean sampled = body.refresh() && target.refresh() && body.getWorld() == target.getWorld();
+        double distanceSq = 0;
+        TargetMotion motion = null;
+        if (sampled) {
+            botX[i] = body.getX();
+            botY[i] = body.getY();
+            botZ[i] = body.getZ();
+            botYaw[i] = body.getYaw();
+            // Shared by every bot chasing the same target
+            motion = target.observe();
+            targetX[i] = motion.getX();
+            targetY[i] = motion.getY();
+            targetZ[i] = motion.getZ();
+            double dx = targetX[i] - botX[i], dy = targetY[i] - botY[i], dz = targetZ[i] - botZ[i];
+            distanceSq = dx * dx + dy * dy + dz * dz;
+        }
+
+        int interval = lodEnabled ? BotLod.interval(sampled, distanceSq, DIFFICULTIES[difficulty[i]],
+                hurt[i] || drawing[i], lodFullRateDistance) : BotLod.FULL_RATE;
+        if (pendingTicks[i] < interval) return false;
+        elapsed[i] = Math.max(1, pendingTicks[i]);
+        pendingTicks[i] = 0;
+        if (!sampled) return false;
+
+        bodies[i] = body;
+        targets[i] = target;
+        motions[i] = motion;
+        velX[i] = body.getVelocityX();
+        velY[i] = body.getVelocityY();
+        velZ[i] = body.getVelocityZ();
+        botEyeHeight[i] = body.getEyeHeight();
+        onGround[i] = body.isOnGround();
+        health[i] = body.getHealth();
+        maxHealth[i] = body.getMaxHealth();
+        // Only the potion AI asks, and only once its buff is ready again
+        noEffects[i] = KitBehaviours.program(program[i]).readsEffects
+                && now >= readyAt[i * COOLDOWNS + BehaviourGraph.SPECIAL] && !body.hasEffects();
+        targetEyeHeight[i] = target.getEyeHeight();
+        targetHeight[i] = target.getHeight();
+        targetBlocking[i] = target.isBlocking();
+        targetHandRaised[i] = target.isHandRaised();
+
+        commands[i] = 0;
+        effects[i] = 0;
+        pushX[i] = pushY[i] = pushZ[i] = 0;
+        meleeDamage[i] = magicDamage[i] = selfDamage[i] = 0;
+        return true;
+    }
+
+    // ---- Pass 2: cooldowns ----
+
+    private void updateCooldowns(int from, int to) {
+        long now = this.now;
+        for (int n = from; n < to; n++) {
+            int i = due[n];
+            int bits = 0;
+            int base = i * COOLDOWNS;
+            for (int c = 0; c < COOLDOWNS; c++) {
+                if (now >= readyAt[base + c]) bits |= 1 << c;
+            }
+            ready[i] = bits;
+        }
+    }
+
+    // ---- Pass 3: distance, aim and reaction delay ----
+
+    /**
+     * Marks the bots that act in this batch (past their reaction delay) with CMD_ACT.
+     */
+    private void measure(int from, int to) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int n = from; n < to; n++) {
+            int i = due[n];
+            double dx = targetX[i] - botX[i];
+            double dz = targetZ[i] - botZ[i];
+            double horizontal = Math.sqrt(dx * dx + dz * dz);
+
+            // Face the target's eyes (same formula as Location.setDirection)
+            double dy = targetY[i] + targetEyeHeight[i] - botY[i];
+            if (horizontal != 0 || dy != 0) {
+                yaw[i] = horizontal == 0 ? botYaw[i]
+                        : (float) Math.toDegrees((Math.atan2(-dx, dz) + 2 * Math.PI) % (2 * Math.PI));
+                pitch[i] = (float) Math.toDegrees(Math.atan(-dy / horizontal));
+                commands[i] |= CMD_ROTATE;
+            }
+
+            // Reaction delay - makes bot feel more human
+            if (now < reactionUntil[i]) continue;
+            int d = difficulty[i];
+            if (random.nextInt(100) < REACTION_CHANCE[d]) {
+                reactionUntil[i] = now + 1 + random.nextInt(Math.max(1, REACTION_DELAY[d] / 2));
+                continue;
+            }
+
+            toTargetX[i] = horizontal > 0 ? dx / horizontal : 0;
+            toTargetZ[i] = horizontal > 0 ? dz / horizontal : 0;
+            double dyFeet = targetY[i] - botY[i];
+            distance[i] = Math.sqrt(dx * dx + dyFeet * dyFeet + dz * dz);
+            ticksSinceLastHit[i] += elapsed[i];
+
+            commands[i] |= CMD_ACT;
+        }
+    }
+
+    // ---- Pass 4: kit behaviour programs ----
+
+    private void runPrograms(int from, int to) {
+        for (int n = from; n < to; n++) {
+            int i = due[n];
+            if ((commands[i] & CMD_ACT) == 0) continue;
+            run(i, KitBehaviours.program(program[i]));
+            hurt[i] = false;
+        }
+    }
+
+    /**
+     * Interprets one bot's program; see BehaviourProgram for the instruction format.
+     */
+    private void run(int i, BehaviourProgram code) {
+        int[] ops = code.ops;
+        int[] jumps = code.jumps;
+        double[] a = code.a;
+        double[] b = code.b;
+        int pc = 0;
+        while (pc < ops.length) {
+            int op = ops[pc];
+            if (op == BehaviourProgram.RATE) {
+                int timer = i * TIMERS + (int) a[pc];
+                if (now < nodeDueAt[timer]) {
+                    pc = jumps[pc];
+                    continue;
+                }
+                nodeDueAt[timer] = now + (long) b[pc];
+                pc++;
+            } else if (op == BehaviourProgram.GOTO) {
+                pc = jumps[pc];
+            } else if ((op & ~BehaviourProgram.NOT) < BehaviourProgram.FIRST_ACTION) {
+                boolean passed = test(i, op & ~BehaviourProgram.NOT, a[pc], b[pc]) != ((op & BehaviourProgram.NOT) != 0);
+                pc = passed ? pc + 1 : jumps[pc];
+            } else {
+                execute(i, op, a[pc], b[pc]);
+                pc++;
+            }
+        }
+    }
+
+    private boolean test(int i, int op, double a, double b) {
+        return switch (op) {
+            case BehaviourProgram.DISTANCE_BELOW -> distance[i] < a;
+            case BehaviourProgram.DISTANCE_ABOVE -> distance[i] > a;
+            case BehaviourProgram.READY -> (ready[i] & (1 << (int) a)) != 0;
+            case BehaviourProgram.COOLDOWN_WITHIN -> readyAt[i * COOLDOWNS + (int) a] - now < b;
+            case BehaviourProgram.ON_GROUND -> onGround[i];
+            case BehaviourProgram.HURT -> hurt[i];
+            case BehaviourProgram.TARGET_BLOCKING -> targetBlocking[i];
+            case BehaviourProgram.NO_EFFECTS -> noEffects[i];
+            case BehaviourProgram.PREPARING_SMASH -> preparingSmash[i];
+            case BehaviourProgram.BLOCKING -> blocking[i];
+            case BehaviourProgram.COMBO_STARTED -> comboCount[i] > 0;
+            case BehaviourProgram.DRAWN -> drawTicks[i] >= a;
+            case BehaviourProgram.HEALTH_BELOW -> health[i] / maxHealth[i] < a;
+            case BehaviourProgram.HEALTH_ABOVE -> health[i] / maxHealth[i] > a;
+            case BehaviourProgram.CHANCE -> ThreadLocalRandom.current().nextDouble() < a;
+            case BehaviourProgram.CHANCE_VS_SWING ->
+                    ThreadLocalRandom.current().nextDouble() < a * (targetHandRaised[i] ? 2 : 1);
+            default -> throw new IllegalStateException("Unknown condition " + op);
+        };
+    }
+
+    private void execute(int i, int op, double a, double b) {
+        switch (op) {
+            case BehaviourProgram.COOLDOWN -> cooldown(i, (int) a, (long) b);
+            case BehaviourProgram.JUMP -> {
+                jump(i);
+                cooldown(i, BehaviourGraph.JUMP, (long) a);
+            }
+            case BehaviourProgram.MELEE -> melee(i, a);
+            case BehaviourProgram.PUSH -> push(i, toTargetX[i] * a, b, toTargetZ[i] * a);
+            case BehaviourProgram.EFFECT -> effects[i] |= (int) a;
+            case BehaviourProgram.DODGE -> {
+                // Strafe dodge, partly away from the target
+                double awayX = -toTargetX[i], awayZ = -toTargetZ[i];
+                int dir = ThreadLocalRandom.current().nextBoolean() ? 1 : -1;
+                setVelocity(i, -awayZ * 0.4 * dir + awayX * 0.2, 0.1, awayX * 0.4 * dir + awayZ * 0.2);
+                strafeDirection[i] *= -1;
+            }
+            case BehaviourProgram.COUNT_HIT_TAKEN -> hitsTaken[i]++;
+            case BehaviourProgram.HEAL -> {
+                health[i] = Math.min(health[i] + a, maxHealth[i]);
+                healAmount[i] = a;
+                commands[i] |= CMD_HEAL;
+            }
+            case BehaviourProgram.RETREAT -> retreating[i] = true;
+            case BehaviourProgram.STOP_RETREAT -> retreating[i] = false;
+            case BehaviourProgram.LAUNCH -> {
+                setVelocity(i, toTargetX[i] * a, b, toTargetZ[i] * a);
+                preparingSmash[i] = true;
+                fallStartY[i] = botY[i] + 5;
+            }
+            case BehaviourProgram.LAND -> preparingSmash[i] = false;
+            case BehaviourProgram.SMASH -> {
+                double fallDist = Math.max(0, fallStartY[i] - botY[i]);
+                float damage = (float) Math.min((a + fallDist * b) * DAMAGE[difficulty[i]], MAX_SMASH_DAMAGE);
+                commands[i] |= CMD_SWING;
+                meleeDamage[i] = Math.max(meleeDamage[i], damage);
+            }
+            case BehaviourProgram.DRAW -> {
+                drawing[i] = true;
+                drawTicks[i] += elapsed[i];
+            }
+            case BehaviourProgram.RELAX_DRAW -> {
+                drawTicks[i] = Math.max(0, drawTicks[i] - 2 * elapsed[i]);
+                drawing[i] = false;
+            }
+            case BehaviourProgram.SHOOT -> {
+                aimArrow(i, a, b);
+                drawTicks[i] = 0;
+                drawing[i] = false;
+            }
+            case BehaviourProgram.EXPLODE -> {
+                float damage = (float) (a * DAMAGE[difficulty[i]]);
+                // Self damage (but less)
+                selfDamage[i] += damage * 0.25f;
+                meleeDamage[i] = Math.max(meleeDamage[i], damage);
+            }
+            case BehaviourProgram.ROD_PULL -> {
+                // (-dx, 0.25, -dz) normalized
+                double dx = botX[i] - targetX[i];
+                double dz = botZ[i] - targetZ[i];
+                double length = Math.sqrt(dx * dx + 0.0625 + dz * dz);
+                push(i, dx / length * a, 0.25 / length, dz / length * a);
+            }
+            case BehaviourProgram.BUFF -> commands[i] |= CMD_BUFF;
+            case BehaviourProgram.HARM -> magicDamage[i] += a * DAMAGE[difficulty[i]];
+            case BehaviourProgram.SLOW -> {
+                slowTicks[i] = (int) a;
+                commands[i] |= CMD_SLOW;
+            }
+            case BehaviourProgram.BLOCK -> blocking[i] = true;
+            case BehaviourProgram.UNBLOCK -> blocking[i] = false;
+            case BehaviourProgram.COMBO_HIT -> comboCount[i]++;
+            case BehaviourProgram.RESET_COMBO_AFTER -> {
+                if (ticksSinceLastHit[i] > a) comboCount[i] = 0;
+            }
+            default -> throw new IllegalStateException("Unknown action " + op);
+        }
+    }
+
+    /**
+     * Aims from the bot's eyes at where the target will be when the arrow arrives, with
+     * inaccuracy and an arc depending on difficulty. prediction is the share of the flight time
+     * the bot leads the target by.
+     */
+    private void aimArrow(int i, double prediction, double inaccuracy) {
+        double eyeY = botY[i] + botEyeHeight[i];
+        double lead = distance[i] / ARROW_SPEED * prediction;
+
+        TargetMotion motion = motions[i];
+        double x = motion.predictX(lead) - botX[i];
+        double y = motion.predictY(lead) + targetHeight[i] * 0.65 - eyeY;
+        double z = motion.predictZ(lead) - botZ[i];
+        double length = Math.sqrt(x * x + y * y + z * z);
+        x /= length;
+        y /= length;
+        z /= length;
+
+        // Inaccuracy based on difficulty
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double spread = inaccuracy * 0.01;
+        x += (random.nextDouble() - 0.5) * spread;
+        y += (random.nextDouble() - 0.5) * spread;
+        z += (random.nextDouble() - 0.5) * spread;
+        length = Math.sqrt(x * x + y * y + z * z);
+        if (length > 0) {
+            x /= length;
+            y /= length;
+            z /= length;
+        }
+
+        // Calculate proper arc
+        y += 0.1 + distance[i] * 0.008;
+        length = Math.sqrt(x * x + y * y + z * z);
+        if (length > 0) {
+            x /= length;
+            y /= length;
+            z /= length;
+        }
+
+        arrowX[i] = x;
+        arrowY[i] = y;
+        arrowZ[i] = z;
+        commands[i] |= CMD_ARROW;
+        effects[i] |= WorldEffects.FX_ARROW;
+    }
+
+    // ---- Pass 5: movement ----
+
+    private void decideMovement(int from, int to) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int n = from; n < to; n++) {
+            int i = due[n];
+            if ((commands[i] & CMD_ACT) == 0) continue;
+            double distance = this.distance[i];
+            double speed = SPEED[difficulty[i]];
+
+            // Update strafe pattern, occasionally switch patterns
+            patternTicks[i] += elapsed[i];
+            if (patternTicks[i] >= 8) {
+                patternTicks[i] = 0;
+                int[] strafe = STRAFE_PATTERNS[pattern[i]];
+                strafeDirection[i] = strafe[(int) (strafeClock % strafe.length)];
+                if (random.nextFloat() < 0.05f) {
+                    pattern[i] = random.nextInt(STRAFE_PATTERNS.length);
+                }
+            }
+
+            // Strafe vector (perpendicular to the direction to the target)
+            double dirX = toTargetX[i], dirZ = toTargetZ[i];
+            double strafeX = -dirZ * strafeDirection[i];
+            double strafeZ = dirX * strafeDirection[i];
+
+            // Retreating behavior
+            if (retreating[i] && distance < 10.0) {
+                double retreat = speed * 0.85;
+                setHorizontal(i, -dirX * retreat + strafeX * retreat * 0.4, -dirZ * retreat + strafeZ * retreat * 0.4);
+                continue;
+            }
+
+            // Approach with strafing and some randomness
+            if (distance > 3.0 && distance < 12.0) {
+                double strafeAmount = STRAFE_AMOUNT[difficulty[i]];
+                double noise = (random.nextDouble() - 0.5) * 0.1;
+                setHorizontal(i, dirX * speed + strafeX * speed * strafeAmount + noise,
+                        dirZ * speed + strafeZ * speed * strafeAmount + noise);
+            }
+
+            // Circle strafing when close
+            if (distance < 3.0 && distance > 1.5) {
+                double circle = speed * 0.65;
+                setHorizontal(i, strafeX * circle + dirX * circle * 0.2, strafeZ * circle + dirZ * circle * 0.2);
+            }
+        }
+    }
+
+    // ---- Decision helpers ----
+
+    private void cooldown(int i, int cooldown, long ticks) {
+        readyAt[i * COOLDOWNS + cooldown] = now + ticks;
+        ready[i] &= ~(1 << cooldown);
+    }
+
+    private void setVelocity(int i, double x, double y, double z) {
+        velX[i] = x;
+        velY[i] = y;
+        velZ[i] = z;
+        commands[i] |= CMD_SET_XZ | CMD_SET_Y;
+    }
+
+    private void setHorizontal(int i, double x, double z) {
+        velX[i] = x;
+        velZ[i] = z;
+        commands[i] |= CMD_SET_XZ;
+    }
+
+    private void jump(int i) {
+        velY[i] = 0.42;
+        commands[i] |= CMD_SET_Y;
+    }
+
+    private void push(int i, double x, double y, double z) {
+        pushX[i] += x;
+        pushY[i] += y;
+        pushZ[i] += z;
+        commands[i] |= CMD_PUSH;
+    }
+
+    private void melee(int i, double baseDamage) {
+        float damage = (float) (baseDamage * DAMAGE[difficulty[i]]);
+
+        // Crit bonus if falling
+        if (velY[i] < -0.08) {
+            damage *= 1.5f;
+            effects[i] |= WorldEffects.FX_CRIT;
+        }
+
+        commands[i] |= CMD_SWING;
+        meleeDamage[i] = Math.max(meleeDamage[i], damage);
+        effects[i] |= WorldEffects.FX_HURT;
+    }
+
+    // ---- Pass 6: apply ----
+
+    /**
+     * Hands the commands of the batch of dueCount bots to their bodies, targets and the world.
+     */
+    public void apply(int dueCount) {
+        for (int n = 0; n < dueCount; n++) {
+            int i = due[n];
+            if (profiling) {
+                long start = System.nanoTime();
+                applySlot(i);
+                cost[i] += System.nanoTime() - start;
+            } else {
+                applySlot(i);
+            }
+        }
+    }
+
+    private void applySlot(int i) {
+        BotAgent agent = agents[i];
+        BotBody body = bodies[i];
+        TargetView target = targets[i];
+        targets[i] = null;
+        // Removed while an earlier bot was applied, or gone since the snapshot
+        if (agent == null || target == null || !body.isValid() || !target.isValid()) return;
+
+        int cmd = commands[i];
+        if ((cmd & CMD_ROTATE) != 0) {
+            body.setRotation(yaw[i], pitch[i]);
+        }
+        // Held back by its reaction delay
+        if ((cmd & CMD_ACT) == 0) return;
+
+        if ((cmd & CMD_HEAL) != 0) {
+            body.heal(healAmount[i]);
+        }
+        if ((cmd & CMD_BUFF) != 0) {
+            body.buff();
+        }
+        if ((cmd & CMD_SWING) != 0) {
+            body.swing();
+        }
+        if (selfDamage[i] > 0) {
+            body.damage(selfDamage[i]);
+        }
+        if (meleeDamage[i] > 0) {
+            target.attack(meleeDamage[i]);
+        }
+        if (magicDamage[i] > 0) {
+            target.damage(magicDamage[i]);
+        }
+        if ((cmd & CMD_PUSH) != 0) {
+            target.push(pushX[i], pushY[i], pushZ[i]);
+        }
+        if ((cmd & CMD_SLOW) != 0) {
+            target.slow(slowTicks[i]);
+        }
+        if ((cmd & CMD_ARROW) != 0) {
+            world.shootArrow(body, botX[i], botY[i] + botEyeHeight[i], botZ[i], arrowX[i], arrowY[i], arrowZ[i],
+                    ARROW_SPEED, 6.0 * DAMAGE[difficulty[i]]);
+        }
+        if (effects[i] != 0) {
+            world.play(body, effects[i], botX[i], botY[i], botZ[i], targetX[i], targetY[i], targetZ[i]);
+        }
+        // Only the decided components; the rest is the bot's current motion
+        int velocity = cmd & (CMD_SET_XZ | CMD_SET_Y);
+        if (velocity == (CMD_SET_XZ | CMD_SET_Y)) {
+            body.setVelocity(velX[i], velY[i], velZ[i]);
+        } else if (velocity == CMD_SET_XZ) {
+            body.setHorizontalVelocity(velX[i], velZ[i]);
+        } else if (velocity == CMD_SET_Y) {
+            body.setVerticalVelocity(velY[i]);
+        }
+
+        // Track if target took damage
+        double targetHealth = target.getHealth();
+        if (targetHealth < lastTargetHealth[i]) {
+            hitsLanded[i]++;
+            ticksSinceLastHit[i] = 0;
+        }
+        lastTargetHealth[i] = targetHealth;
+    }
+
+    /**
+     * Receives the time a bot cost, see reportCosts().
+     */
+    public interface CostListener {
+        void onCost(BotAgent agent, long nanos);
+    }
+
+    /**
+     * Hands every bot's time since the previous report to the listener and starts counting anew.
+     * Call after apply(), from the owner's thread; bots only cost time while profiling.
+     */
+    public void reportCosts(CostListener listener) {
+        for (int i = 0; i < count; i++) {
+            long nanos = cost[i];
+            if (nanos == 0) continue;
+            cost[i] = 0;
+            BotAgent agent = agents[i];
+            if (agent != null) {
+                listener.onCost(agent, nanos);
+            }
+        }
+    }
+
+    // ---- Slot accessors for BotAgent ----
+
+    int getComboCount(int slot) {
+        return comboCount[slot];
+    }
+
+    int getHitsLanded(int slot) {
+        return hitsLanded[slot];
+    }
+
+    int getHitsTaken(int slot) {
+        return hitsTaken[slot];
+    }
+
+    boolean isBlocking(int slot) {
+        return blocking[slot];
+    }
+
+    // ---- Storage ----
+
+    /**
+     * Copies the persistent state of one slot into another; the per-tick arrays are rebuilt
+     * every tick and need no copy.
+     */
+    private void move(int from, int to) {
+        BotAgent agent = agents[from];
+        agents[to] = agent;
+        agent.setEngine(this, to);
+        program[to] = program[from];
+        difficulty[to] = difficulty[from];
+
+        System.arraycopy(readyAt, from * COOLDOWNS, readyAt, to * COOLDOWNS, COOLDOWNS);
+        System.arraycopy(nodeDueAt, from * TIMERS, nodeDueAt, to * TIMERS, TIMERS);
+        reactionUntil[to] = reactionUntil[from];
+
+        strafeDirection[to] = strafeDirection[from];
+        pattern[to] = pattern[from];
+        patternTicks[to] = patternTicks[from];
+        comboCount[to] = comboCount[from];
+        ticksSinceLastHit[to] = ticksSinceLastHit[from];
+        drawTicks[to] = drawTicks[from];
+        hitsTaken[to] = hitsTaken[from];
+        hitsLanded[to] = hitsLanded[from];
+        pendingTicks[to] = pendingTicks[from];
+        blocking[to] = blocking[from];
+        retreating[to] = retreating[from];
+        preparingSmash[to] = preparingSmash[from];
+        drawing[to] = drawing[from];
+        hurt[to] = hurt[from];
+        fallStartY[to] = fallStartY[from];
+        lastTargetHealth[to] = lastTargetHealth[from];
+    }
+
+    private void allocate(int capacity) {
+        agents = agents == null ? new BotAgent[capacity] : Arrays.copyOf(agents, capacity);
+        program = grow(program, capacity);
+        difficulty = grow(difficulty, capacity);
+
+        readyAt = grow(readyAt, capacity * COOLDOWNS);
+        nodeDueAt = grow(nodeDueAt, capacity * TIMERS);
+        reactionUntil = grow(reactionUntil, capacity);
+
+        strafeDirection = grow(strafeDirection, capacity);
+        pattern = grow(pattern, capacity);
+        patternTicks = grow(patternTicks, capacity);
+        comboCount = grow(comboCount, capacity);
+        ticksSinceLastHit = grow(ticksSinceLastHit, capacity);
+        drawTicks = grow(drawTicks, capacity);
+        hitsTaken = grow(hitsTaken, capacity);
+        hitsLanded = grow(hitsLanded, capacity);
+        pendingTicks = grow(pendingTicks, capacity);
+        blocking = grow(blocking, capacity);
+        retreating = grow(retreating, capacity);
+        preparingSmash = grow(preparingSmash, capacity);
+        drawing = grow(drawing, capacity);
+        hurt = grow(hurt, capacity);
+        fallStartY = grow(fallStartY, capacity);
+        lastTargetHealth = grow(lastTargetHealth, capacity);
+
+        bodies = bodies == null ? new BotBody[capacity] : Arrays.copyOf(bodies, capacity);
+        targets = targets == null ? new TargetView[capacity] : Arrays.copyOf(targets, capacity);
+        motions = motions == null ? new TargetMotion[capacity] : Arrays.copyOf(motions, capacity);
+        elapsed = new int[capacity];
+        botX = new double[capacity];
+        botY = new double[capacity];
+        botZ = new double[capacity];
+        botEyeHeight = new double[capacity];
+        botYaw = new float[capacity];
+        onGround = new boolean[capacity];
+        noEffects = new boolean[capacity];
+        health = new double[capacity];
+        maxHealth = new double[capacity];
+        targetX = new double[capacity];
+        targetY = new double[capacity];
+        targetZ = new double[capacity];
+        targetEyeHeight = new double[capacity];
+        targetHeight = new double[capacity];
+        targetBlocking = new boolean[capacity];
+        targetHandRaised = new boolean[capacity];
+
+        ready = new int[capacity];
+        distance = new double[capacity];
+        toTargetX = new double[capacity];
+        toTargetZ = new double[capacity];
+
+        commands = new int[capacity];
+        effects = new int[capacity];
+        yaw = new float[capacity];
+        pitch = new float[capacity];
+        velX = new double[capacity];
+        velY = new double[capacity];
+        velZ = new double[capacity];
+        pushX = new double[capacity];
+        pushY = new double[capacity];
+        pushZ = new double[capacity];
+        meleeDamage = new double[capacity];
+        magicDamage = new double[capacity];
+        selfDamage = new double[capacity];
+        healAmount = new double[capacity];
+        arrowX = new double[capacity];
+        arrowY = new double[capacity];
+        arrowZ = new double[capacity];
+        slowTicks = new int[capacity];
+
+        due = new int[capacity];
+        sorted = new int[capacity];
+        cost = grow(cost, capacity);
+    }
+
+    private static int[] grow(int[] array, int capacity) {
+        return array == null ? new int[capacity] : Arrays.copyOf(array, capacity);
+    }
+
+    private static long[] grow(long[] array, int capacity) {
+        return array == null ? new long[capacity] : Arrays.copyOf(array, capacity);
+    }
+
+    private static double[] grow(double[] array, int capacity) {
+        return array == null ? new double[capacity] : Arrays.copyOf(array, capacity);
+    }
+
+    private static boolean[] grow(boolean[] array, int capacity) {
+        return array == null ? new boolean[capacity] : Arrays.copyOf(array, capacity);
+    }
+}
@@ -0,0 +1,55 @@
+package com.wavedefense.bot;
+
+/**
+ * Level-of-detail scheduling for bots: picks how many server ticks may pass between two AI runs.
+ *
+ * Bots in melee/ranged reach of their target, and bots that were just hurt, always run every tick.
+ * Further away they only turn towards the target, so they run less often; the interval grows with
+ * the distance band and is doubled for PRACTICE bots, which react slowly anyway. Bots whose target
+ * is gone or in another world idle at one run per second.
+ */
+final class BotLod {
+    static final int FULL_RATE = 1;
+    static final int IDLE_INTERVAL = 20;
+
+    // Distance bands beyond the full-rate distance, as multiples of it
+    private static final double NEAR_FACTOR = 2.0;
+    private static final double MID_FACTOR = 4.0;
+
+    private static final int NEAR_INTERVAL = 2;
+    private static final int MID_INTERVAL = 5;
+    private static final int FAR_INTERVAL = 10;
+
+    private BotLod() {
+    }
+
+    /**
+     * Returns the number of ticks between two AI runs for the bot's current situation.
+     * {@code sampled} is false when the caller found no live target in the bot's world this tick;
+     * otherwise distanceSq is the squared distance between the two. fullRate is the distance
+     * within which every bot runs every tick.
+     */
+    static int interval(boolean sampled, double distanceSq, Difficulty difficulty, boolean engaged, double fullRate) {
+        if (engaged) return FULL_RATE;
+        if (!sampled) return IDLE_INTERVAL;
+
+        if (difficulty == Difficulty.PRACTICE) {
+            fullRate /= 2;
+        }
+        if (distanceSq <= fullRate * fullRate) return FULL_RATE;
+
+        int interval;
+        if (distanceSq <= square(fullRate * NEAR_FACTOR)) {
+            interval = NEAR_INTERVAL;
+        } else if (distanceSq <= square(fullRate * MID_FACTOR)) {
+            interval = MID_INTERVAL;
+        } else {
+            interval = FAR_INTERVAL;
+        }
+        return difficulty == Difficulty.PRACTICE ? Math.min(IDLE_INTERVAL, interval * 2) : interval;
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+}
@@ -1,4 +1,4 @@
-package com.wavedefense.arena;
+package com.wavedefense.bot;
 
 public enum Difficulty {
     PRACTICE("Practice", 0.20, 0.0, 50.0f, 60, 3.0),  // No damage, high health for training
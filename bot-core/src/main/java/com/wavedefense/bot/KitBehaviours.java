@@ -0,0 +1,199 @@
+package com.wavedefense.bot;
+
+import static com.wavedefense.bot.BehaviourGraph.*;
+import static com.wavedefense.bot.WorldEffects.*;
+
+/**
+ * The AI of every Behaviour, declared as behaviour graphs and compiled once per behaviour and
+ * difficulty. A new kit AI is a new Behaviour, a graph here and a case in graphFor.
+ *
+ * Every graph starts with COMMON (dodge, heal, retreat). Checks that do not need tick precision,
+ * like the retreat and kite decisions, run at 5 Hz.
+ */
+final class KitBehaviours {
+    // Per difficulty (ordinal order: PRACTICE, EASY, MEDIUM, HARD)
+    private static final double[] DODGE_CHANCE = {0.0, 0.1, 0.25, 0.45};
+    // PRACTICE bots never heal
+    private static final double[] HEAL_BELOW = {-1.0, 0.25, 0.35, 0.5};
+    private static final double[] HEAL_AMOUNT = {2.0, 4.0, 6.0, 8.0};
+    private static final int[] HEAL_COOLDOWN = {400, 200, 140, 80};
+    private static final double[] SWORD_CRIT = {0.05, 0.2, 0.4, 0.6};
+    private static final double[] WTAP_CHANCE = {0.0, 0.15, 0.35, 0.55};
+    private static final double[] WTAP_KNOCKBACK = {0.2, 0.35, 0.45, 0.55};
+    private static final double[] AXE_CRIT = {0.1, 0.35, 0.55, 0.75};
+    private static final double[] LAUNCH_POWER = {0.5, 0.8, 1.0, 1.3};
+    private static final int[] WIND_CHARGE_COOLDOWN = {200, 120, 90, 60};
+    private static final int[] DRAW_TIME = {40, 28, 20, 14};
+    private static final int[] BOW_COOLDOWN = {60, 35, 22, 12};
+    private static final double[] ARROW_PREDICTION = {0.1, 0.4, 0.75, 1.0};
+    private static final double[] ARROW_INACCURACY = {12.0, 7.0, 3.5, 1.0};
+    private static final int[] CRYSTAL_COOLDOWN = {80, 55, 35, 20};
+    private static final double[] ROD_PULL = {0.2, 0.35, 0.5, 0.65};
+    private static final double[] DEBUFF_CHANCE = {0.0, 0.2, 0.35, 0.5};
+    private static final int[] DEBUFF_TICKS = {20, 60, 100, 160};
+    private static final int[] POTION_COOLDOWN = {80, 50, 35, 22};
+    private static final double[] BLOCK_CHANCE = {0.05, 0.15, 0.3, 0.5};
+    private static final int[] BLOCK_COOLDOWN = {80, 50, 35, 25};
+
+    // Dodge, heal and retreat
+    private static final BehaviourGraph COMMON = BehaviourGraph.of(
+            // Took damage - dodge/react
+            when(hurt(), ready(DODGE), distanceBelow(5.0)).then(
+                    when(chance(DODGE_CHANCE)).then(dodge()),
+                    cooldown(DODGE, 15),
+                    countHitTaken()),
+            // Eat a gapple when low
+            when(healthBelow(HEAL_BELOW), ready(HEAL)).then(
+                    heal(HEAL_AMOUNT),
+                    effect(FX_BURP),
+                    cooldown(HEAL, HEAL_COOLDOWN)),
+            // Low health retreat, given up once healed or after 4 seconds
+            when(healthBelow(0.3), ready(RETREAT)).then(retreat(), cooldown(RETREAT, 80)).every(4),
+            when(healthAbove(0.5)).then(stopRetreat()).every(4),
+            when(ready(RETREAT)).then(stopRetreat()).every(4));
+
+    // SWORD - W-tap combos, jump crits, sprint resets
+    private static final BehaviourGraph SWORD = COMMON.then(
+            when(distanceBelow(3.5), ready(ATTACK)).then(
+                    when(onGround(), ready(JUMP), chance(SWORD_CRIT)).then(jump(12)),
+                    melee(7.0),
+                    // W-tap / sprint reset for extra knockback
+                    when(ready(SPRINT_RESET), chance(WTAP_CHANCE), comboStarted()).then(
+                            push(WTAP_KNOCKBACK, 0.38),
+                            cooldown(SPRINT_RESET, 6)),
+                    comboHit(),
+                    cooldown(ATTACK, 10),
+                    resetComboAfter(30)));
+
+    // AXE - Shield breaking, heavy crits
+    private static final BehaviourGraph AXE = COMMON.then(
+            when(distanceBelow(3.5), ready(ATTACK)).then(
+                    when(onGround(), ready(JUMP), chance(AXE_CRIT)).then(jump(18)),
+                    melee(9.0),
+                    when(targetBlocking()).then(push(0.7, 0.45), effect(FX_SHIELD_BREAK)),
+                    cooldown(ATTACK, 16)));
+
+    // MACE - Wind charge jumps, smash attacks
+    private static final BehaviourGraph MACE = COMMON.then(
+            when(distanceBelow(12.0), distanceAbove(4.0), ready(WIND_CHARGE), onGround()).then(
+                    launch(0.5, LAUNCH_POWER),
+                    cooldown(WIND_CHARGE, WIND_CHARGE_COOLDOWN),
+                    effect(FX_WIND_BURST)),
+            // Smash attack on landing
+            when(preparingSmash(), onGround()).then(
+                    land(),
+                    when(distanceBelow(6.0)).then(smash(8.0, 2.5), push(0.9, 0.55), effect(FX_SMASH))),
+            // Normal melee while the wind charge is on cooldown
+            when(not(preparingSmash()), distanceBelow(3.0), ready(ATTACK)).then(
+                    melee(6.0),
+                    cooldown(ATTACK, 12)));
+
+    // BOW - Predictive shooting with kiting
+    private static final BehaviourGraph BOW = COMMON.then(
+            when(distanceBelow(8.0)).then(retreat()).every(4),
+            when(distanceAbove(18.0)).then(stopRetreat()).every(4),
+            when(distanceAbove(6.0), distanceBelow(35.0), ready(SPECIAL)).then(
+                    draw(),
+                    when(drawn(DRAW_TIME)).then(
+                            shoot(ARROW_PREDICTION, ARROW_INACCURACY),
+                            cooldown(SPECIAL, BOW_COOLDOWN)))
+            .otherwise(
+                    relaxDraw(),
+                    // Panic melee if too close
+                    when(distanceBelow(3.0), ready(ATTACK)).then(melee(3.0), cooldown(ATTACK, 15))));
+
+    // CRYSTAL - Explosion damage simulation
+    private static final BehaviourGraph CRYSTAL = COMMON.then(
+            when(distanceAbove(2.0), distanceBelow(8.0), ready(SPECIAL)).then(
+                    explode(9.0),
+                    push(0.65, 0.45),
+                    effect(FX_CRYSTAL),
+                    cooldown(SPECIAL, CRYSTAL_COOLDOWN)),
+            when(distanceBelow(3.0), ready(ATTACK)).then(melee(6.0), cooldown(ATTACK, 11)));
+
+    // UHC - Rod combos, fishing rod mechanics
+    private static final BehaviourGraph UHC = COMMON.then(
+            when(distanceAbove(5.0), distanceBelow(14.0), ready(SPECIAL)).then(
+                    rodPull(ROD_PULL),
+                    effect(FX_ROD),
+                    cooldown(SPECIAL, 25)),
+            // Standard sword combat with combos
+            when(distanceBelow(3.5), ready(ATTACK)).then(
+                    when(onGround(), ready(JUMP), chance(0.35)).then(jump(14)),
+                    melee(7.0),
+                    cooldown(ATTACK, 10)));
+
+    // POTION - Splash potion throwing and buff management
+    private static final BehaviourGraph POTION = COMMON.then(
+            // Self buff (speed and strength) when out of effects or at start
+            when(ready(SPECIAL), noEffects()).then(buff(), effect(FX_DRINK), cooldown(SPECIAL, 400)),
+            when(distanceAbove(4.0), distanceBelow(12.0), ready(ATTACK)).then(
+                    harm(6.0),
+                    when(chance(DEBUFF_CHANCE)).then(slow(DEBUFF_TICKS)),
+                    effect(FX_SPLASH),
+                    cooldown(ATTACK, POTION_COOLDOWN)),
+            when(distanceBelow(3.5), ready(ATTACK)).then(
+                    when(onGround(), ready(JUMP), chance(0.3)).then(jump(12)),
+                    melee(7.0),
+                    cooldown(ATTACK, 10)));
+
+    // SHIELD - Block timing and counter attacks (no kit uses it yet, the simulation does)
+    private static final BehaviourGraph SHIELD = COMMON.then(
+            // Predictive blocking, more likely while the target swings
+            when(distanceBelow(5.0), not(blocking()), ready(BLOCK)).then(
+                    when(chanceVsSwing(BLOCK_CHANCE)).then(block(), cooldown(BLOCK, BLOCK_COOLDOWN))),
+            when(blocking(), cooldownWithin(BLOCK, 15)).then(unblock()),
+            // Counter attack after blocking, sometimes with a shield bash
+            when(not(blocking()), distanceBelow(3.5), ready(ATTACK)).then(
+                    when(chance(0.25)).then(push(0.6, 0.35)),
+                    melee(6.0),
+                    cooldown(ATTACK, 11)));
+
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+    // Indexed by programId
+    private static final BehaviourProgram[] PROGRAMS =
+            new BehaviourProgram[Behaviour.values().length * DIFFICULTIES.length];
+    // Node timers every bot slot has room for
+    static final int TIMERS;
+
+    static {
+        int timers = 0;
+        for (Behaviour behaviour : Behaviour.values()) {
+            BehaviourGraph graph = graphFor(behaviour);
+            for (Difficulty difficulty : DIFFICULTIES) {
+                BehaviourProgram program = graph.compile(difficulty);
+                PROGRAMS[programId(behaviour, difficulty)] = program;
+                timers = Math.max(timers, program.timers);
+            }
+        }
+        TIMERS = timers;
+    }
+
+    private KitBehaviours() {
+    }
+
+    private static BehaviourGraph graphFor(Behaviour behaviour) {
+        return switch (behaviour) {
+            case SWORD -> SWORD;
+            case AXE -> AXE;
+            case MACE -> MACE;
+            case BOW -> BOW;
+            case CRYSTAL -> CRYSTAL;
+            case UHC -> UHC;
+            case POTION -> POTION;
+            case SHIELD -> SHIELD;
+        };
+    }
+
+    static int programId(Behaviour behaviour, Difficulty difficulty) {
+        return behaviour.ordinal() * DIFFICULTIES.length + difficulty.ordinal();
+    }
+
+    static BehaviourProgram program(int id) {
+        return PROGRAMS[id];
+    }
+
+    static int programCount() {
+        return PROGRAMS.length;
+    }
+}
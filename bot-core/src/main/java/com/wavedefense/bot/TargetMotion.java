@@ -0,0 +1,160 @@
+package com.wavedefense.bot;
+
+/**
+ * Motion history of one target: a ring buffer of the last HISTORY positions. From the ring it
+ * keeps a velocity over the last few samples and a smoothed acceleration, which the predict
+ * methods extrapolate for leading shots.
+ *
+ * Every method is synchronized: bots chasing the same player may sample and read the history
+ * from different threads (Folia regions, parallel decision batches).
+ */
+public class TargetMotion {
+    private static final int HISTORY = 16;
+    // Samples the velocity is measured over; longer is smoother but lags behind direction changes
+    private static final int VELOCITY_WINDOW = 4;
+    // Weight of the newest acceleration sample
+    private static final double ACCELERATION_SMOOTHING = 0.35;
+    // Acceleration is only extrapolated this far; beyond that the player has reacted anyway
+    private static final double MAX_ACCELERATION_TICKS = 10.0;
+    // A jump further than this between two samples is a teleport and starts a new history
+    private static final double TELEPORT_DISTANCE = 8.0;
+
+    private final double[] x = new double[HISTORY];
+    private final double[] y = new double[HISTORY];
+    private final double[] z = new double[HISTORY];
+    private final long[] tick = new long[HISTORY];
+    private int head = -1;
+    private int size = 0;
+    private Object world;
+
+    private double velX, velY, velZ;
+    private double accX, accY, accZ;
+    private long velocityTick = -1;
+
+    /**
+     * Whether the position of tick now was already recorded.
+     */
+    public synchronized boolean isSampledAt(long now) {
+        return size > 0 && tick[head] == now;
+    }
+
+    /**
+     * Records the position of tick now; a world change or a teleport starts a new history.
+     */
+    public synchronized void record(Object world, double px, double py, double pz, long now) {
+        if (isSampledAt(now)) return;
+        if (size > 0) {
+            double dx = px - x[head], dy = py - y[head], dz = pz - z[head];
+            if (world != this.world || dx * dx + dy * dy + dz * dz > TELEPORT_DISTANCE * TELEPORT_DISTANCE) {
+                size = 0;
+                velocityTick = -1;
+                velX = velY = velZ = accX = accY = accZ = 0;
+            }
+        }
+        this.world = world;
+        head = (head + 1) % HISTORY;
+        x[head] = px;
+        y[head] = py;
+        z[head] = pz;
+        tick[head] = now;
+        if (size < HISTORY) size++;
+        if (size < 2) return;
+
+        int back = Math.min(size - 1, VELOCITY_WINDOW);
+        int old = (head - back + HISTORY) % HISTORY;
+        double dt = now - tick[old];
+        double vx = (px - x[old]) / dt, vy = (py - y[old]) / dt, vz = (pz - z[old]) / dt;
+
+        if (velocityTick >= 0) {
+            double dv = now - velocityTick;
+            double a = ACCELERATION_SMOOTHING;
+            accX += a * ((vx - velX) / dv - accX);
+            accY += a * ((vy - velY) / dv - accY);
+            accZ += a * ((vz - velZ) / dv - accZ);
+        }
+        velX = vx;
+        velY = vy;
+        velZ = vz;
+        velocityTick = now;
+    }
+
+    /**
+     * Whether nothing was recorded for more than maxAge ticks.
+     */
+    public synchronized boolean isStale(long now, long maxAge) {
+        return size == 0 || now - tick[head] > maxAge;
+    }
+
+    public synchronized double getX() {
+        return x[head];
+    }
+
+    public synchronized double getY() {
+        return y[head];
+    }
+
+    public synchronized double getZ() {
+        return z[head];
+    }
+
+    /**
+     * Velocity in blocks per tick.
+     */
+    public synchronized double getVelocityX() {
+        return velX;
+    }
+
+    public synchronized double getVelocityY() {
+        return velY;
+    }
+
+    public synchronized double getVelocityZ() {
+        return velZ;
+    }
+
+    /**
+     * Acceleration in blocks per tick².
+     */
+    public synchronized double getAccelerationX() {
+        return accX;
+    }
+
+    public synchronized double getAccelerationY() {
+        return accY;
+    }
+
+    public synchronized double getAccelerationZ() {
+        return accZ;
+    }
+
+    /**
+     * Expected position ticksAhead ticks after the last sample.
+     */
+    public synchronized double predictX(double ticksAhead) {
+        return extrapolate(x[head], velX, accX, ticksAhead);
+    }
+
+    /**
+     * Expected height; never below the lowest point of the history, players come down on
+     * the ground they jumped from.
+     */
+    public synchronized double predictY(double ticksAhead) {
+        double floor = y[head];
+        for (int k = 0; k < size; k++) {
+            floor = Math.min(floor, y[(head - k + HISTORY) % HISTORY]);
+        }
+        return Math.max(floor, extrapolate(y[head], velY, accY, ticksAhead));
+    }
+
+    public synchronized double predictZ(double ticksAhead) {
+        return extrapolate(z[head], velZ, accZ, ticksAhead);
+    }
+
+    /**
+     * Accelerates for at most MAX_ACCELERATION_TICKS, then keeps the velocity reached.
+     */
+    private static double extrapolate(double position, double velocity, double acceleration, double ticks) {
+        double accelerated = Math.min(ticks, MAX_ACCELERATION_TICKS);
+        return position + velocity * ticks + acceleration * accelerated * (ticks - accelerated / 2);
+    }
+}
@@ -0,0 +1,53 @@
+package com.wavedefense.bot;
+
+/**
+ * The player a bot fights, as the AI sees it. Like BotBody, refresh() captures the player once per
+ * tick and every method is called on the thread ticking the engine.
+ */
+public interface TargetView {
+    /**
+     * Captures the player; false when there is none to fight (offline, dead, not set).
+     */
+    boolean refresh();
+
+    boolean isValid();
+
+    /**
+     * The world the player is in, compared by identity with the bot's.
+     */
+    Object getWorld();
+
+    /**
+     * The player's motion history, sampled this tick. Bots chasing the same player may share it.
+     */
+    TargetMotion observe();
+
+    double getEyeHeight();
+
+    double getHeight();
+
+    boolean isBlocking();
+
+    boolean isHandRaised();
+
+    double getHealth();
+
+    // ---- Commands ----
+
+    /**
+     * Melee or explosion damage dealt by the bot this view belongs to.
+     */
+    void attack(double amount);
+
+    /**
+     * Damage without a source, like a harming potion.
+     */
+    void damage(double amount);
+
+    /**
+     * Adds to the player's velocity (knockback, rod pulls).
+     */
+    void push(double x, double y, double z);
+
+    void slow(int ticks);
+}
@@ -0,0 +1,24 @@
+package com.wavedefense.bot;
+
+/**
+ * What bots do to the world around them besides their body and their target: sounds,
+ * particles and arrows. Called by the apply pass of a BotEngine, on the thread ticking it.
+ */
+public interface WorldEffects {
+    // Sounds and particles an action can play, or-ed into one bit set per bot and batch
+    int FX_CRIT = 1, FX_HURT = 1 << 1, FX_BURP = 1 << 2, FX_SHIELD_BREAK = 1 << 3,
+            FX_WIND_BURST = 1 << 4, FX_SMASH = 1 << 5, FX_CRYSTAL = 1 << 6, FX_ROD = 1 << 7,
+            FX_DRINK = 1 << 8, FX_SPLASH = 1 << 9, FX_ARROW = 1 << 10;
+
+    /**
+     * Plays the FX_* bits in effects. The positions are the ones the decision was made on.
+     */
+    void play(BotBody bot, int effects, double botX, double botY, double botZ,
+              double targetX, double targetY, double targetZ);
+
+    /**
+     * Shoots an arrow from (x, y, z) along the unit vector (dirX, dirY, dirZ), in blocks per tick.
+     */
+    void shootArrow(BotBody shooter, double x, double y, double z, double dirX, double dirY, double dirZ,
+                    double speed, double damage);
+}
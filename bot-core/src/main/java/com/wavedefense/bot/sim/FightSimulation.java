@@ -0,0 +1,183 @@
+package com.wavedefense.bot.sim;
+
+import com.wavedefense.bot.Behaviour;
+import com.wavedefense.bot.BotAgent;
+import com.wavedefense.bot.BotEngine;
+import com.wavedefense.bot.Difficulty;
+
+import java.util.Locale;
+
+/**
+ * Many one-on-one fights of bots against scripted players, all bots in one BotEngine as on the
+ * server, without a server. A fight ends when one side dies or the tick limit is reached; an
+ * endless simulation starts a new fight in its place instead, which keeps the number of bots
+ * constant for benchmarks.
+ *
+ * main() runs a batch per behaviour and difficulty and prints the outcome and how many fights
+ * per second were simulated: {@code gradle :bot-core:simulate --args="1000 2400"}.
+ */
+public final class FightSimulation {
+    // Scripted player: iron sword hits, roughly every attack recharge, most of them landing
+    private static final double PLAYER_DAMAGE = 6.0;
+    private static final int PLAYER_COOLDOWN = 12;
+    private static final double PLAYER_ACCURACY = 0.75;
+    // Bots start this far from their player
+    private static final double START_DISTANCE = 10.0;
+    // Fights are spread out so they never meet
+    private static final double SPACING = 100.0;
+
+    private final Behaviour behaviour;
+    private final Difficulty difficulty;
+    private final SimulatedWorld world = new SimulatedWorld();
+    private final BotEngine engine = new BotEngine(world);
+
+    private final SimulatedBody[] bodies;
+    private final SimulatedTarget[] targets;
+    private final BotAgent[] agents;
+    private final boolean[] running;
+    private final long[] startedAt;
+    private final boolean endless;
+    private int remaining;
+    private long now = 0;
+
+    private int won = 0;
+    private int lost = 0;
+    private int ended = 0;
+    private long fightTicks = 0;
+    private long hitsLanded = 0;
+    private long hitsTaken = 0;
+
+    public FightSimulation(Behaviour behaviour, Difficulty difficulty, int fights) {
+        this(behaviour, difficulty, fights, false);
+    }
+
+    public FightSimulation(Behaviour behaviour, Difficulty difficulty, int fights, boolean endless) {
+        this.behaviour = behaviour;
+        this.difficulty = difficulty;
+        this.endless = endless;
+        bodies = new SimulatedBody[fights];
+        targets = new SimulatedTarget[fights];
+        agents = new BotAgent[fights];
+        running = new boolean[fights];
+        startedAt = new long[fights];
+        for (int f = 0; f < fights; f++) {
+            start(f);
+        }
+    }
+
+    private void start(int f) {
+        double x = (f % 100) * SPACING, z = (f / 100) * SPACING;
+        bodies[f] = new SimulatedBody(world, x, z, difficulty.getHealth());
+        targets[f] = new SimulatedTarget(world, x, z + START_DISTANCE, PLAYER_DAMAGE, PLAYER_COOLDOWN, PLAYER_ACCURACY);
+        bodies[f].setOpponent(targets[f]);
+        agents[f] = new BotAgent(bodies[f], targets[f], behaviour, difficulty);
+        running[f] = true;
+        startedAt[f] = now;
+        remaining++;
+        engine.add(agents[f]);
+    }
+
+    /**
+     * Advances every running fight by one tick; returns whether any fight is still running.
+     */
+    public boolean tick() {
+        now++;
+        for (int f = 0; f < running.length; f++) {
+            if (!running[f]) continue;
+            bodies[f].step();
+            targets[f].step(bodies[f], agents[f], now);
+        }
+        engine.tick(now);
+        world.step();
+        for (int f = 0; f < running.length; f++) {
+            if (!running[f]) continue;
+            boolean botDead = bodies[f].getHealth() <= 0;
+            boolean targetDead = targets[f].getHealth() <= 0;
+            if (botDead || targetDead) {
+                if (targetDead) won++;
+                else lost++;
+                end(f);
+                if (endless) start(f);
+            }
+        }
+        return remaining > 0;
+    }
+
+    private void end(int f) {
+        running[f] = false;
+        remaining--;
+        ended++;
+        fightTicks += now - startedAt[f];
+        // The stats live in the engine until the bot is removed
+        hitsLanded += agents[f].getHitsLanded();
+        hitsTaken += targets[f].getHitsLanded();
+        engine.remove(agents[f]);
+    }
+
+    /**
+     * Runs until every fight ended, at most maxTicks ticks; an endless simulation runs maxTicks.
+     */
+    public Result run(int maxTicks) {
+        long start = System.nanoTime();
+        while (now < maxTicks && tick()) {
+            // Fights run until decided or timed out
+        }
+        long nanos = System.nanoTime() - start;
+        for (int f = 0; f < running.length; f++) {
+            if (running[f]) end(f);
+        }
+        return new Result(behaviour, difficulty, ended, won, lost, fightTicks, hitsLanded, hitsTaken,
+                world.getArrowsShot(), world.getArrowsHit(), nanos);
+    }
+
+    public SimulatedWorld getWorld() {
+        return world;
+    }
+
+    public BotEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Outcome of a batch of fights; won and lost are from the bots' side, the rest timed out.
+     */
+    public record Result(Behaviour behaviour, Difficulty difficulty, int fights, int won, int lost, long ticks,
+                         long hitsLanded, long hitsTaken, long arrowsShot, long arrowsHit, long nanos) {
+
+        public double fightsPerSecond() {
+            return nanos > 0 ? fights * 1e9 / nanos : 0;
+        }
+
+        public double averageTicks() {
+            return fights > 0 ? (double) ticks / fights : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-8s %-9s %6d fights  %5.1f%% won  %5.1f%% lost  %7.1f ticks  "
+                            + "%7d hits  %7d taken  %6d/%d arrows  %10.0f fights/s",
+                    behaviour, difficulty, fights, 100.0 * won / fights, 100.0 * lost / fights, averageTicks(),
+                    hitsLanded, hitsTaken, arrowsHit, arrowsShot, fightsPerSecond());
+        }
+    }
+
+    /**
+     * Arguments: fights per behaviour and difficulty (1000), tick limit per fight (2400).
+     */
+    public static void main(String[] args) {
+        int fights = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int maxTicks = args.length > 1 ? Integer.parseInt(args[1]) : 2400;
+
+        long start = System.nanoTime();
+        int total = 0;
+        for (Behaviour behaviour : Behaviour.values()) {
+            for (Difficulty difficulty : Difficulty.values()) {
+                Result result = new FightSimulation(behaviour, difficulty, fights).run(maxTicks);
+                System.out.println(result);
+                total += result.fights();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(Locale.ROOT, "%d fights in %.2f s (%.0f fights/s)%n", total, seconds, total / seconds);
+    }
+}
@@ -0,0 +1,218 @@
+package com.wavedefense.bot.sim;
+
+import com.wavedefense.bot.BotBody;
+
+/**
+ * A bot entity without a server: a zombie-sized point with vanilla-like gravity and friction,
+ * health, absorption and the buff effects.
+ */
+public final class SimulatedBody implements BotBody {
+    private static final double GRAVITY = 0.08;
+    private static final double AIR_DRAG = 0.98;
+    private static final double GROUND_FRICTION = 0.546;
+    private static final double AIR_FRICTION = 0.91;
+    private static final double EYE_HEIGHT = 1.74;
+    private static final int ABSORPTION_TICKS = 120 * 20;
+    private static final double ABSORPTION = 4.0;
+    private static final int BUFF_TICKS = 600;
+
+    private final SimulatedWorld world;
+    private SimulatedTarget opponent;
+
+    private double x, y, z;
+    private double velX, velY, velZ;
+    private float yaw, pitch;
+    private final double maxHealth;
+    private double health;
+    private double absorption;
+    private int absorptionTicks, buffTicks;
+
+    private int swings = 0;
+    private double damageTaken = 0;
+
+    public SimulatedBody(SimulatedWorld world, double x, double z, double maxHealth) {
+        this.world = world;
+        this.x = x;
+        this.z = z;
+        this.maxHealth = maxHealth;
+        this.health = maxHealth;
+    }
+
+    void setOpponent(SimulatedTarget opponent) {
+        this.opponent = opponent;
+    }
+
+    SimulatedTarget getOpponent() {
+        return opponent;
+    }
+
+    /**
+     * Moves the body one tick.
+     */
+    void step() {
+        x += velX;
+        y += velY;
+        z += velZ;
+        if (y <= 0) {
+            y = 0;
+            velY = 0;
+        } else {
+            velY = (velY - GRAVITY) * AIR_DRAG;
+        }
+        double friction = y == 0 ? GROUND_FRICTION : AIR_FRICTION;
+        velX *= friction;
+        velZ *= friction;
+
+        if (absorptionTicks > 0 && --absorptionTicks == 0) absorption = 0;
+        if (buffTicks > 0) buffTicks--;
+    }
+
+    /**
+     * Knockback from the opponent.
+     */
+    void knockBack(double x, double y, double z) {
+        velX += x;
+        velY = Math.max(velY, y);
+        velZ += z;
+    }
+
+    @Override
+    public boolean refresh() {
+        return health > 0;
+    }
+
+    @Override
+    public boolean isValid() {
+        return health > 0;
+    }
+
+    @Override
+    public Object getWorld() {
+        return world;
+    }
+
+    @Override
+    public double getX() {
+        return x;
+    }
+
+    @Override
+    public double getY() {
+        return y;
+    }
+
+    @Override
+    public double getZ() {
+        return z;
+    }
+
+    @Override
+    public float getYaw() {
+        return yaw;
+    }
+
+    public float getPitch() {
+        return pitch;
+    }
+
+    @Override
+    public double getEyeHeight() {
+        return EYE_HEIGHT;
+    }
+
+    @Override
+    public boolean isOnGround() {
+        return y == 0;
+    }
+
+    @Override
+    public double getHealth() {
+        return health;
+    }
+
+    @Override
+    public double getMaxHealth() {
+        return maxHealth;
+    }
+
+    @Override
+    public double getVelocityX() {
+        return velX;
+    }
+
+    @Override
+    public double getVelocityY() {
+        return velY;
+    }
+
+    @Override
+    public double getVelocityZ() {
+        return velZ;
+    }
+
+    @Override
+    public boolean hasEffects() {
+        return absorptionTicks > 0 || buffTicks > 0;
+    }
+
+    public boolean isBuffed() {
+        return buffTicks > 0;
+    }
+
+    @Override
+    public void setRotation(float yaw, float pitch) {
+        this.yaw = yaw;
+        this.pitch = pitch;
+    }
+
+    @Override
+    public void setVelocity(double x, double y, double z) {
+        velX = x;
+        velY = y;
+        velZ = z;
+    }
+
+    @Override
+    public void setHorizontalVelocity(double x, double z) {
+        velX = x;
+        velZ = z;
+    }
+
+    @Override
+    public void setVerticalVelocity(double y) {
+        velY = y;
+    }
+
+    @Override
+    public void heal(double amount) {
+        health = Math.min(health + amount, maxHealth);
+        absorption = ABSORPTION;
+        absorptionTicks = ABSORPTION_TICKS;
+    }
+
+    @Override
+    public void buff() {
+        buffTicks = BUFF_TICKS;
+    }
+
+    @Override
+    public void swing() {
+        swings++;
+    }
+
+    @Override
+    public void damage(double amount) {
+        double absorbed = Math.min(absorption, amount);
+        absorption -= absorbed;
+        health = Math.max(0, health - (amount - absorbed));
+        damageTaken += amount;
+    }
+
+    public int getSwings() {
+        return swings;
+    }
+
+    public double getDamageTaken() {
+        return damageTaken;
+    }
+}
@@ -0,0 +1,215 @@
+package com.wavedefense.bot.sim;
+
+import com.wavedefense.bot.BotAgent;
+import com.wavedefense.bot.TargetMotion;
+import com.wavedefense.bot.TargetView;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A scripted player for simulated fights: walks up to the bot, strafes around it and swings
+ * whenever the bot is in reach and the attack has recharged. Takes damage like a player, with
+ * ten ticks of damage immunity in which only a larger hit counts (for the difference).
+ */
+public final class SimulatedTarget implements TargetView {
+    private static final double MAX_HEALTH = 20.0;
+    private static final double EYE_HEIGHT = 1.62;
+    private static final double HEIGHT = 1.8;
+    private static final double HALF_WIDTH = 0.3;
+    // Projectiles hit a hitbox grown by this much, as in vanilla
+    private static final double HIT_MARGIN = 0.3;
+    private static final double GRAVITY = 0.08;
+    private static final double AIR_DRAG = 0.98;
+    private static final double FRICTION = 0.546;
+    private static final int IMMUNITY_TICKS = 10;
+
+    private static final double SPEED = 0.28;
+    private static final double SLOWED_SPEED = 0.18;
+    private static final double PREFERRED_DISTANCE = 2.6;
+    private static final double REACH = 3.0;
+    private static final int STRAFE_SWITCH_TICKS = 20;
+    private static final double KNOCKBACK = 0.4;
+
+    private final SimulatedWorld world;
+    private final TargetMotion motion = new TargetMotion();
+    // Damage per hit, recharge ticks and hit chance of the scripted player
+    private final double attackDamage;
+    private final int attackCooldown;
+    private final double accuracy;
+
+    private double x, y, z;
+    private double velX, velY, velZ;
+    private double health = MAX_HEALTH;
+    private int immunityTicks;
+    private double lastDamage;
+    private int slowTicks;
+    private int attackTicks;
+    private boolean handRaised;
+    private int strafe = 1;
+    private long now;
+
+    private int hitsLanded = 0;
+    private double damageTaken = 0;
+
+    public SimulatedTarget(SimulatedWorld world, double x, double z,
+                           double attackDamage, int attackCooldown, double accuracy) {
+        this.world = world;
+        this.x = x;
+        this.z = z;
+        this.attackDamage = attackDamage;
+        this.attackCooldown = attackCooldown;
+        this.accuracy = accuracy;
+    }
+
+    /**
+     * Moves and fights one tick against the bot, then records the new position for the bot's aim.
+     */
+    void step(SimulatedBody bot, BotAgent agent, long now) {
+        this.now = now;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double dx = bot.getX() - x, dz = bot.getZ() - z;
+        double distance = Math.sqrt(dx * dx + dz * dz);
+        double dirX = distance > 0 ? dx / distance : 0, dirZ = distance > 0 ? dz / distance : 0;
+
+        if (now % STRAFE_SWITCH_TICKS == 0 && random.nextBoolean()) {
+            strafe = -strafe;
+        }
+        if (y == 0) {
+            double speed = slowTicks > 0 ? SLOWED_SPEED : SPEED;
+            double approach = distance > PREFERRED_DISTANCE ? 1.0 : -0.3;
+            velX = (dirX * approach - dirZ * strafe * 0.6) * speed;
+            velZ = (dirZ * approach + dirX * strafe * 0.6) * speed;
+        }
+
+        handRaised = false;
+        if (attackTicks > 0) attackTicks--;
+        double dy = bot.getY() - y;
+        if (attackTicks == 0 && distance * distance + dy * dy < REACH * REACH) {
+            handRaised = true;
+            attackTicks = attackCooldown;
+            if (random.nextDouble() < accuracy) {
+                bot.damage(attackDamage);
+                bot.knockBack(dirX * KNOCKBACK, 0.36, dirZ * KNOCKBACK);
+                agent.notifyHurt();
+                hitsLanded++;
+            }
+        }
+
+        x += velX;
+        y += velY;
+        z += velZ;
+        if (y <= 0) {
+            y = 0;
+            velY = 0;
+            velX *= FRICTION;
+            velZ *= FRICTION;
+        } else {
+            velY = (velY - GRAVITY) * AIR_DRAG;
+        }
+        if (immunityTicks > 0) immunityTicks--;
+        if (slowTicks > 0) slowTicks--;
+        motion.record(world, x, y, z, now);
+    }
+
+    /**
+     * Whether a projectile at the point hits the player.
+     */
+    boolean contains(double px, double py, double pz) {
+        double half = HALF_WIDTH + HIT_MARGIN;
+        return Math.abs(px - x) <= half && Math.abs(pz - z) <= half
+                && py >= y - HIT_MARGIN && py <= y + HEIGHT + HIT_MARGIN;
+    }
+
+    @Override
+    public boolean refresh() {
+        return health > 0;
+    }
+
+    @Override
+    public boolean isValid() {
+        return health > 0;
+    }
+
+    @Override
+    public Object getWorld() {
+        return world;
+    }
+
+    @Override
+    public TargetMotion observe() {
+        // The position of this tick was recorded by step(); a target created this tick has none yet
+        if (!motion.isSampledAt(now)) {
+            motion.record(world, x, y, z, now);
+        }
+        return motion;
+    }
+
+    @Override
+    public double getEyeHeight() {
+        return EYE_HEIGHT;
+    }
+
+    @Override
+    public double getHeight() {
+        return HEIGHT;
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return false;
+    }
+
+    @Override
+    public boolean isHandRaised() {
+        return handRaised;
+    }
+
+    @Override
+    public double getHealth() {
+        return health;
+    }
+
+    @Override
+    public void attack(double amount) {
+        damage(amount);
+    }
+
+    @Override
+    public void damage(double amount) {
+        if (immunityTicks > 0) {
+            if (amount <= lastDamage) return;
+            double extra = amount - lastDamage;
+            lastDamage = amount;
+            hurt(extra);
+            return;
+        }
+        lastDamage = amount;
+        immunityTicks = IMMUNITY_TICKS;
+        hurt(amount);
+    }
+
+    private void hurt(double amount) {
+        health = Math.max(0, health - amount);
+        damageTaken += amount;
+    }
+
+    @Override
+    public void push(double x, double y, double z) {
+        velX += x;
+        velY += y;
+        velZ += z;
+    }
+
+    @Override
+    public void slow(int ticks) {
+        slowTicks = Math.max(slowTicks, ticks);
+    }
+
+    public int getHitsLanded() {
+        return hitsLanded;
+    }
+
+    public double getDamageTaken() {
+        return damageTaken;
+    }
+}
@@ -0,0 +1,132 @@
+package com.wavedefense.bot.sim;
+
+import com.wavedefense.bot.BotBody;
+import com.wavedefense.bot.WorldEffects;
+
+import java.util.Arrays;
+
+/**
+ * A flat world at y = 0 for simulated fights. Counts the effects bots play and flies their arrows
+ * until they hit the shooter's opponent, the ground, or time out.
+ */
+public final class SimulatedWorld implements WorldEffects {
+    private static final double ARROW_GRAVITY = 0.05;
+    private static final double ARROW_DRAG = 0.99;
+    private static final int ARROW_LIFETIME = 100;
+    private static final double HIT_STEP = 0.25;
+
+    private final long[] played = new long[Integer.SIZE];
+    private long arrowsShot = 0;
+    private long arrowsHit = 0;
+
+    // Arrows in flight
+    private int arrows = 0;
+    private SimulatedBody[] shooter = new SimulatedBody[16];
+    private double[] x = new double[16], y = new double[16], z = new double[16];
+    private double[] vx = new double[16], vy = new double[16], vz = new double[16];
+    private double[] damage = new double[16];
+    private int[] age = new int[16];
+
+    @Override
+    public void play(BotBody bot, int effects, double botX, double botY, double botZ,
+                     double targetX, double targetY, double targetZ) {
+        while (effects != 0) {
+            played[Integer.numberOfTrailingZeros(effects)]++;
+            effects &= effects - 1;
+        }
+    }
+
+    @Override
+    public void shootArrow(BotBody from, double x, double y, double z, double dirX, double dirY, double dirZ,
+                           double speed, double damage) {
+        if (arrows == shooter.length) {
+            grow(arrows * 2);
+        }
+        int a = arrows++;
+        this.shooter[a] = (SimulatedBody) from;
+        this.x[a] = x;
+        this.y[a] = y;
+        this.z[a] = z;
+        this.vx[a] = dirX * speed;
+        this.vy[a] = dirY * speed;
+        this.vz[a] = dirZ * speed;
+        this.damage[a] = damage;
+        this.age[a] = 0;
+        arrowsShot++;
+    }
+
+    /**
+     * Moves every arrow one tick and lands the ones that hit.
+     */
+    void step() {
+        int a = 0;
+        while (a < arrows) {
+            // Moves in short steps, an arrow covers more than a hitbox per tick
+            SimulatedTarget target = shooter[a].getOpponent();
+            double speed = Math.sqrt(vx[a] * vx[a] + vy[a] * vy[a] + vz[a] * vz[a]);
+            int steps = Math.max(1, (int) Math.ceil(speed / HIT_STEP));
+            boolean hit = false;
+            for (int s = 0; s < steps && !hit; s++) {
+                x[a] += vx[a] / steps;
+                y[a] += vy[a] / steps;
+                z[a] += vz[a] / steps;
+                hit = target != null && target.contains(x[a], y[a], z[a]);
+            }
+            vx[a] *= ARROW_DRAG;
+            vy[a] = vy[a] * ARROW_DRAG - ARROW_GRAVITY;
+            vz[a] *= ARROW_DRAG;
+            age[a]++;
+
+            if (hit) {
+                target.damage(damage[a]);
+                arrowsHit++;
+            }
+            if (hit || y[a] < 0 || age[a] > ARROW_LIFETIME) {
+                removeArrow(a);
+            } else {
+                a++;
+            }
+        }
+    }
+
+    private void removeArrow(int a) {
+        int last = --arrows;
+        shooter[a] = shooter[last];
+        x[a] = x[last];
+        y[a] = y[last];
+        z[a] = z[last];
+        vx[a] = vx[last];
+        vy[a] = vy[last];
+        vz[a] = vz[last];
+        damage[a] = damage[last];
+        age[a] = age[last];
+        shooter[last] = null;
+    }
+
+    private void grow(int capacity) {
+        shooter = Arrays.copyOf(shooter, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        vz = Arrays.copyOf(vz, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        age = Arrays.copyOf(age, capacity);
+    }
+
+    /**
+     * How often the given FX_* effect was played.
+     */
+    public long getPlayed(int effect) {
+        return played[Integer.numberOfTrailingZeros(effect)];
+    }
+
+    public long getArrowsShot() {
+        return arrowsShot;
+    }
+
+    public long getArrowsHit() {
+        return arrowsHit;
+    }
+}
@@ -0,0 +1,71 @@
+package com.wavedefense.bot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bow bots shoot where a moving target will be when the arrow arrives. The target circles the
+ * bot at a constant distance, so every shot has the same flight time and the same lead.
+ */
+class ArrowLeadTest {
+    private static final double RADIUS = 20.0;
+    private static final int TICKS = 12000;
+    // Blocks per tick along the circle
+    private static final double SPEED = 0.2;
+
+    /**
+     * Mean sine of the angle between the arrows and the target's position when they were shot;
+     * positive when the bot aimed ahead of the target.
+     */
+    private static double meanLead(Difficulty difficulty, double speed) {
+        Object world = new Object();
+        RecordingWorld effects = new RecordingWorld();
+        BotEngine engine = new BotEngine(effects);
+        engine.setLevelOfDetail(false, 16.0);
+        StubTarget target = new StubTarget(world, RADIUS, 0);
+        engine.add(new BotAgent(new StubBody(world, 0, 0), target, Behaviour.BOW, difficulty));
+
+        double sum = 0;
+        int shots = 0;
+        for (long now = 1; now <= TICKS; now++) {
+            double angle = speed / RADIUS * now;
+            target.moveTo(RADIUS * Math.cos(angle), RADIUS * Math.sin(angle), now);
+            engine.tick(now);
+            while (shots < effects.arrows.size()) {
+                RecordingWorld.Arrow arrow = effects.arrows.get(shots++);
+                double horizontal = Math.hypot(arrow.dirX(), arrow.dirZ());
+                sum += (target.getX() * arrow.dirZ() - target.getZ() * arrow.dirX()) / (RADIUS * horizontal);
+            }
+        }
+        assertTrue(shots >= 20, difficulty + " shot " + shots + " arrows");
+        return sum / shots;
+    }
+
+    @Test
+    void hardBotsLeadByTheWholeFlightTime() {
+        double flightTicks = RADIUS / 2.8;
+        assertEquals(SPEED * flightTicks / RADIUS, meanLead(Difficulty.HARD, SPEED), 0.01);
+    }
+
+    @Test
+    void standingTargetIsNotLed() {
+        assertEquals(0.0, meanLead(Difficulty.HARD, 0.0), 0.005);
+    }
+
+    // Practice bots hardly ever shoot
+    @Test
+    void leadGrowsWithDifficulty() {
+        Map<Difficulty, Double> lead = new EnumMap<>(Difficulty.class);
+        for (Difficulty difficulty : new Difficulty[]{Difficulty.EASY, Difficulty.MEDIUM, Difficulty.HARD}) {
+            lead.put(difficulty, meanLead(difficulty, SPEED));
+        }
+        assertTrue(lead.get(Difficulty.EASY) > 0, lead::toString);
+        assertTrue(lead.get(Difficulty.EASY) < lead.get(Difficulty.MEDIUM), lead::toString);
+        assertTrue(lead.get(Difficulty.MEDIUM) < lead.get(Difficulty.HARD), lead::toString);
+    }
+}
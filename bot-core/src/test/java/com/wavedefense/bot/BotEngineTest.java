@@ -0,0 +1,172 @@
+package com.wavedefense.bot;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BotEngineTest {
+    private final Object world = new Object();
+    private final BotEngine engine = new BotEngine(new RecordingWorld(), 4);
+    private long now = 0;
+
+    private BotAgent addBot(double x, double distance) {
+        BotAgent agent = new BotAgent(new StubBody(world, x, 0), new StubTarget(world, x, distance),
+                Behaviour.SWORD, Difficulty.HARD);
+        engine.add(agent);
+        return agent;
+    }
+
+    private static int rotations(BotAgent agent) {
+        return ((StubBody) agent.getBody()).rotations;
+    }
+
+    private void tick(int ticks) {
+        for (int t = 0; t < ticks; t++) {
+            engine.tick(++now);
+        }
+    }
+
+    @Test
+    void addedBotsGetSlotsInTheNextTick() {
+        BotAgent agent = addBot(0, 3);
+        assertEquals(0, engine.getBotCount());
+        tick(1);
+        assertEquals(1, engine.getBotCount());
+        assertSame(engine, agent.getEngine());
+        assertEquals(1, rotations(agent));
+    }
+
+    @Test
+    void compactDropsLastSlotFreedInTheSameTick() {
+        BotAgent a = addBot(0, 3);
+        BotAgent b = addBot(100, 3);
+        BotAgent c = addBot(200, 3);
+        tick(1);
+
+        // Slot 1 is filled from the last slot, which is free as well
+        engine.remove(b);
+        engine.remove(c);
+        tick(1);
+        assertEquals(1, engine.getBotCount());
+        assertSame(engine, a.getEngine());
+        assertNull(b.getEngine());
+        assertNull(c.getEngine());
+        assertEquals(2, rotations(a));
+        assertEquals(1, rotations(c));
+    }
+
+    @Test
+    void compactMovesLastBotsIntoFreedSlots() {
+        BotAgent a = addBot(0, 3);
+        BotAgent b = addBot(100, 3);
+        BotAgent c = addBot(200, 3);
+        BotAgent d = addBot(300, 3);
+        tick(1);
+
+        engine.remove(a);
+        engine.remove(d);
+        tick(1);
+        assertEquals(2, engine.getBotCount());
+        assertEquals(2, rotations(b));
+        assertEquals(2, rotations(c));
+
+        // The moved bot is still removed from its new slot
+        engine.remove(c);
+        tick(1);
+        assertEquals(1, engine.getBotCount());
+        assertEquals(3, rotations(b));
+        assertEquals(2, rotations(c));
+    }
+
+    @Test
+    void compactKeepsStateOfMovedBots() {
+        BotAgent a = addBot(0, 3);
+        BotAgent b = addBot(100, 3);
+        tick(1);
+        b.notifyHurt();
+        tick(1);
+        assertEquals(1, b.getHitsTaken());
+
+        engine.remove(a);
+        tick(1);
+        assertEquals(1, b.getHitsTaken());
+    }
+
+    @Test
+    void removingEveryBotEmptiesTheEngine() {
+        BotAgent a = addBot(0, 3);
+        BotAgent b = addBot(100, 3);
+        tick(1);
+        engine.remove(a);
+        engine.remove(b);
+        tick(1);
+        assertEquals(0, engine.getBotCount());
+
+        BotAgent c = addBot(200, 3);
+        tick(1);
+        assertEquals(1, engine.getBotCount());
+        assertEquals(1, rotations(c));
+    }
+
+    @Test
+    void botRemovedBeforeItsSlotNeverRuns() {
+        BotAgent a = addBot(0, 3);
+        engine.remove(a);
+        tick(1);
+        assertEquals(0, engine.getBotCount());
+        assertEquals(0, rotations(a));
+    }
+
+    @Test
+    void levelOfDetailSkipsDistantBots() {
+        BotAgent near = addBot(0, 3);
+        BotAgent far = addBot(1000, 100);
+        engine.setLevelOfDetail(true, 16.0);
+        tick(100);
+        assertEquals(100, rotations(near));
+        // Beyond four times the full-rate distance a HARD bot runs every tenth tick
+        assertEquals(10, rotations(far));
+    }
+
+    @Test
+    void levelOfDetailOffRunsEveryBotEveryTick() {
+        BotAgent far = addBot(1000, 100);
+        engine.setLevelOfDetail(false, 16.0);
+        tick(100);
+        assertEquals(100, rotations(far));
+    }
+
+    @Test
+    void hurtBotsRunAtFullRate() {
+        BotAgent far = addBot(1000, 100);
+        engine.setLevelOfDetail(true, 16.0);
+        tick(3);
+        int before = rotations(far);
+        far.notifyHurt();
+        tick(1);
+        assertTrue(rotations(far) > before);
+    }
+
+    @Test
+    void profilingChargesEveryBotThatRan() {
+        BotAgent a = addBot(0, 3);
+        addBot(100, 3);
+        engine.setProfiling(true);
+        tick(1);
+
+        int[] reported = new int[2];
+        engine.reportCosts((agent, nanos) -> {
+            assertTrue(nanos > 0);
+            reported[agent == a ? 0 : 1]++;
+        });
+        assertEquals(1, reported[0]);
+        assertEquals(1, reported[1]);
+
+        // Reported times start again from zero
+        engine.reportCosts((agent, nanos) -> reported[0]++);
+        assertEquals(1, reported[0]);
+    }
+}
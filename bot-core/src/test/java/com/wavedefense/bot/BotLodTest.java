@@ -0,0 +1,43 @@
+package com.wavedefense.bot;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BotLodTest {
+    private static final double FULL_RATE = 16.0;
+
+    private static int interval(double distance, Difficulty difficulty) {
+        return BotLod.interval(true, distance * distance, difficulty, false, FULL_RATE);
+    }
+
+    @Test
+    void engagedBotsRunEveryTick() {
+        assertEquals(BotLod.FULL_RATE, BotLod.interval(true, 1000 * 1000, Difficulty.HARD, true, FULL_RATE));
+        assertEquals(BotLod.FULL_RATE, BotLod.interval(false, 0, Difficulty.PRACTICE, true, FULL_RATE));
+    }
+
+    @Test
+    void botsWithoutTargetIdle() {
+        assertEquals(BotLod.IDLE_INTERVAL, BotLod.interval(false, 0, Difficulty.HARD, false, FULL_RATE));
+    }
+
+    @Test
+    void intervalGrowsWithDistanceBand() {
+        for (Difficulty difficulty : new Difficulty[]{Difficulty.EASY, Difficulty.MEDIUM, Difficulty.HARD}) {
+            assertEquals(1, interval(3, difficulty));
+            assertEquals(1, interval(16, difficulty));
+            assertEquals(2, interval(20, difficulty));
+            assertEquals(5, interval(50, difficulty));
+            assertEquals(10, interval(100, difficulty));
+        }
+    }
+
+    @Test
+    void practiceBotsHaveHalfTheRangeAndTwiceTheInterval() {
+        assertEquals(1, interval(8, Difficulty.PRACTICE));
+        assertEquals(4, interval(10, Difficulty.PRACTICE));
+        assertEquals(10, interval(20, Difficulty.PRACTICE));
+        assertEquals(BotLod.IDLE_INTERVAL, interval(100, Difficulty.PRACTICE));
+    }
+}
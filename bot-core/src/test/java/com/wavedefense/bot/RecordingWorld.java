@@ -0,0 +1,25 @@
+package com.wavedefense.bot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the arrows bots shoot: the shooter's position and the direction at the time of the shot.
+ */
+final class RecordingWorld implements WorldEffects {
+    record Arrow(double x, double z, double dirX, double dirY, double dirZ) {
+    }
+
+    final List<Arrow> arrows = new ArrayList<>();
+
+    @Override
+    public void play(BotBody bot, int effects, double botX, double botY, double botZ,
+                     double targetX, double targetY, double targetZ) {
+    }
+
+    @Override
+    public void shootArrow(BotBody shooter, double x, double y, double z, double dirX, double dirY, double dirZ,
+                           double speed, double damage) {
+        arrows.add(new Arrow(x, z, dirX, dirY, dirZ));
+    }
+}
@@ -0,0 +1,133 @@
+package com.wavedefense.bot;
+
+/**
+ * A bot body that stays where it is put: it ignores velocity commands and only counts what the
+ * engine asked of it.
+ */
+final class StubBody implements BotBody {
+    private final Object world;
+    private final double x, z;
+    private boolean valid = true;
+
+    int rotations = 0;
+    int swings = 0;
+
+    StubBody(Object world, double x, double z) {
+        this.world = world;
+        this.x = x;
+        this.z = z;
+    }
+
+    void kill() {
+        valid = false;
+    }
+
+    @Override
+    public boolean refresh() {
+        return valid;
+    }
+
+    @Override
+    public boolean isValid() {
+        return valid;
+    }
+
+    @Override
+    public Object getWorld() {
+        return world;
+    }
+
+    @Override
+    public double getX() {
+        return x;
+    }
+
+    @Override
+    public double getY() {
+        return 0;
+    }
+
+    @Override
+    public double getZ() {
+        return z;
+    }
+
+    @Override
+    public float getYaw() {
+        return 0;
+    }
+
+    @Override
+    public double getEyeHeight() {
+        return 1.74;
+    }
+
+    @Override
+    public boolean isOnGround() {
+        return true;
+    }
+
+    @Override
+    public double getHealth() {
+        return 20.0;
+    }
+
+    @Override
+    public double getMaxHealth() {
+        return 20.0;
+    }
+
+    @Override
+    public double getVelocityX() {
+        return 0;
+    }
+
+    @Override
+    public double getVelocityY() {
+        return 0;
+    }
+
+    @Override
+    public double getVelocityZ() {
+        return 0;
+    }
+
+    @Override
+    public boolean hasEffects() {
+        return false;
+    }
+
+    @Override
+    public void setRotation(float yaw, float pitch) {
+        rotations++;
+    }
+
+    @Override
+    public void setVelocity(double x, double y, double z) {
+    }
+
+    @Override
+    public void setHorizontalVelocity(double x, double z) {
+    }
+
+    @Override
+    public void setVerticalVelocity(double y) {
+    }
+
+    @Override
+    public void heal(double amount) {
+    }
+
+    @Override
+    public void buff() {
+    }
+
+    @Override
+    public void swing() {
+        swings++;
+    }
+
+    @Override
+    public void damage(double amount) {
+    }
+}
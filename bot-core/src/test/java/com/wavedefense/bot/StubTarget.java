@@ -0,0 +1,99 @@
+package com.wavedefense.bot;
+
+/**
+ * A target the test moves by hand; it takes no damage, so fights never end.
+ */
+final class StubTarget implements TargetView {
+    private final Object world;
+    private final TargetMotion motion = new TargetMotion();
+    private double x, z;
+    private long now;
+
+    StubTarget(Object world, double x, double z) {
+        this.world = world;
+        this.x = x;
+        this.z = z;
+    }
+
+    /**
+     * Places the target for tick now.
+     */
+    void moveTo(double x, double z, long now) {
+        this.x = x;
+        this.z = z;
+        this.now = now;
+        motion.record(world, x, 0, z, now);
+    }
+
+    double getX() {
+        return x;
+    }
+
+    double getZ() {
+        return z;
+    }
+
+    @Override
+    public boolean refresh() {
+        return true;
+    }
+
+    @Override
+    public boolean isValid() {
+        return true;
+    }
+
+    @Override
+    public Object getWorld() {
+        return world;
+    }
+
+    @Override
+    public TargetMotion observe() {
+        if (!motion.isSampledAt(now)) {
+            motion.record(world, x, 0, z, now);
+        }
+        return motion;
+    }
+
+    @Override
+    public double getEyeHeight() {
+        return 1.62;
+    }
+
+    @Override
+    public double getHeight() {
+        return 1.8;
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return false;
+    }
+
+    @Override
+    public boolean isHandRaised() {
+        return false;
+    }
+
+    @Override
+    public double getHealth() {
+        return 20.0;
+    }
+
+    @Override
+    public void attack(double amount) {
+    }
+
+    @Override
+    public void damage(double amount) {
+    }
+
+    @Override
+    public void push(double x, double y, double z) {
+    }
+
+    @Override
+    public void slow(int ticks) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.wavedefense.bot;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TargetMotionTest {
+    private static final double EPSILON = 1e-9;
+    private final Object world = new Object();
+    private final TargetMotion motion = new TargetMotion();
+
+    @Test
+    void constantVelocityIsExtrapolated() {
+        for (long t = 0; t <= 10; t++) {
+            motion.record(world, 0.25 * t, 0, -0.1 * t, t);
+        }
+        assertEquals(0.25, motion.getVelocityX(), EPSILON);
+        assertEquals(-0.1, motion.getVelocityZ(), EPSILON);
+        assertEquals(0.0, motion.getAccelerationX(), EPSILON);
+        assertEquals(2.5 + 0.25 * 8, motion.predictX(8), EPSILON);
+        assertEquals(-1.0 - 0.1 * 8, motion.predictZ(8), EPSILON);
+    }
+
+    @Test
+    void accelerationOnlyExtrapolatedForTenTicks() {
+        // Speeds up by 0.01 blocks per tick, every tick
+        double x = 0, v = 0;
+        for (long t = 0; t <= 60; t++) {
+            motion.record(world, x, 0, 0, t);
+            v += 0.01;
+            x += v;
+        }
+        double a = motion.getAccelerationX();
+        assertEquals(0.01, a, 0.001);
+
+        double atTen = motion.predictX(10);
+        double atThirty = motion.predictX(30);
+        // After ten ticks the velocity reached is kept
+        double velocityAtTen = motion.getVelocityX() + a * 10;
+        assertEquals(atTen + velocityAtTen * 20, atThirty, EPSILON);
+    }
+
+    @Test
+    void predictedHeightStaysAboveTheGround() {
+        // Falling back down after a jump from y = 64
+        double[] heights = {64, 64.4, 64.7, 64.9, 65.0, 64.9, 64.7, 64.4};
+        for (int t = 0; t < heights.length; t++) {
+            motion.record(world, 0, heights[t], 0, t);
+        }
+        assertTrue(motion.getVelocityY() < 0);
+        assertEquals(64.0, motion.predictY(20), EPSILON);
+    }
+
+    @Test
+    void teleportStartsNewHistory() {
+        for (long t = 0; t <= 5; t++) {
+            motion.record(world, 0.3 * t, 0, 0, t);
+        }
+        motion.record(world, 100, 0, 0, 6);
+        assertEquals(0.0, motion.getVelocityX(), EPSILON);
+        assertEquals(100.0, motion.predictX(10), EPSILON);
+    }
+
+    @Test
+    void worldChangeStartsNewHistory() {
+        for (long t = 0; t <= 5; t++) {
+            motion.record(world, 0.3 * t, 0, 0, t);
+        }
+        motion.record(new Object(), 1.8, 0, 0, 6);
+        assertEquals(0.0, motion.getVelocityX(), EPSILON);
+    }
+
+    @Test
+    void onePositionPerTick() {
+        motion.record(world, 0, 0, 0, 1);
+        motion.record(world, 5, 0, 0, 1);
+        assertEquals(0.0, motion.getX(), EPSILON);
+        assertTrue(motion.isSampledAt(1));
+        assertFalse(motion.isSampledAt(2));
+        assertTrue(motion.isStale(5, 3));
+        assertFalse(motion.isStale(3, 3));
+    }
+}
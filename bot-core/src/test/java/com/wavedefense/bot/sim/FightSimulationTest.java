@@ -0,0 +1,62 @@
+package com.wavedefense.bot.sim;
+
+import com.wavedefense.bot.Behaviour;
+import com.wavedefense.bot.Difficulty;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pins how each behaviour fights at each difficulty against the scripted player: who wins, and
+ * that the bot fights with what its kit is about. The thresholds leave room for the randomness
+ * of the AI and of the scripted player.
+ */
+class FightSimulationTest {
+    private static final int FIGHTS = 200;
+    private static final int MAX_TICKS = 2400;
+
+    static Stream<Arguments> everyBot() {
+        return Stream.of(Behaviour.values())
+                .flatMap(b -> Stream.of(Difficulty.values()).map(d -> Arguments.of(b, d)));
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("everyBot")
+    void fightsAreDecided(Behaviour behaviour, Difficulty difficulty) {
+        FightSimulation.Result result = new FightSimulation(behaviour, difficulty, FIGHTS).run(MAX_TICKS);
+
+        assertEquals(FIGHTS, result.fights());
+        assertEquals(FIGHTS, result.won() + result.lost(), result::toString);
+        switch (difficulty) {
+            case PRACTICE -> {
+                // Practice bots never attack
+                assertEquals(0, result.hitsLanded(), result::toString);
+                assertEquals(FIGHTS, result.lost(), result::toString);
+            }
+            case EASY -> {
+                assertTrue(result.hitsLanded() > 0, result::toString);
+                assertTrue(result.lost() >= FIGHTS * 0.9, result::toString);
+            }
+            case MEDIUM -> assertTrue(result.hitsLanded() > FIGHTS, result::toString);
+            case HARD -> assertTrue(result.won() >= FIGHTS * 0.95, result::toString);
+        }
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("everyBot")
+    void onlyBowBotsShoot(Behaviour behaviour, Difficulty difficulty) {
+        FightSimulation.Result result = new FightSimulation(behaviour, difficulty, FIGHTS).run(MAX_TICKS);
+
+        if (behaviour != Behaviour.BOW) {
+            assertEquals(0, result.arrowsShot(), result::toString);
+        } else if (difficulty == Difficulty.HARD) {
+            assertTrue(result.arrowsHit() > result.arrowsShot() / 3, result::toString);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.wavedefense;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Stand-ins for server objects that the benchmarked code only passes around or asks for a name.
+ * A stub answers the given getters and fails on every other call, so a benchmark never measures
+ * a call that silently did nothing.
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Returns a proxy of the interface answering the named methods with fixed values.
+     */
+    public static <T> T of(Class<T> type, Map<String, Object> answers) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> type.getSimpleName() + answers;
+                    default -> {
+                        if (!answers.containsKey(method.getName())) {
+                            throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName()
+                                    + " is not stubbed");
+                        }
+                        yield answers.get(method.getName());
+                    }
+                });
+        return type.cast(stub);
+    }
+}
@@ -0,0 +1,79 @@
+package com.wavedefense.arena;
+
+import com.wavedefense.Stubs;
+import com.wavedefense.bot.Difficulty;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing and reading the arena data of a player through YamlConfiguration, in a temporary folder.
+ * ItemStack serialization needs the server's item factory, so the saved inventory is empty, as it
+ * is for players who start from the lobby.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArenaDataStorageBenchmark {
+    private final UUID playerId = UUID.randomUUID();
+    private World world;
+    private File file;
+    private ArenaSession session;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        world = Stubs.of(World.class, Map.of("getName", "world", "getUID", UUID.randomUUID()));
+        file = Files.createTempFile("wavedefense-arena", ".yml").toFile();
+
+        session = new ArenaSession(playerId, Kit.NODEBUFF, Difficulty.HARD,
+                new Location(world, 10.5, 102, -3.5, 90f, 0f),
+                Arrays.asList(new ItemStack[36]), Arrays.asList(new ItemStack[4]), null, 20.0f, 20);
+        session.setArenaCenter(new Location(world, 1044, -63, 20));
+        session.setBotId(UUID.randomUUID());
+
+        // The file read() loads
+        ArenaDataStorage.write(file, session);
+        if (!playerId.equals(read().getPlayerId())) {
+            throw new IllegalStateException("Round trip lost the session");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        ArenaDataStorage.write(file, session);
+    }
+
+    @Benchmark
+    public ArenaSession read() {
+        return ArenaDataStorage.read(file, playerId, name -> world);
+    }
+}
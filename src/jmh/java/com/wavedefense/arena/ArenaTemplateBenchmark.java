@@ -0,0 +1,88 @@
+package com.wavedefense.arena;
+
+import com.wavedefense.Stubs;
+
+import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiling the arena template and building or clearing a whole arena in one go, with and without
+ * the barrier walls. Block writes go to a counting sink instead of a world, so the numbers cover
+ * the template and job side only; the ArenaBuildQueue spreads the same writes over several ticks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArenaTemplateBenchmark {
+    // Template origin of the first pool cell in the void world
+    private static final int ORIGIN_X = 1024;
+    private static final int ORIGIN_Y = -64;
+    private static final int ORIGIN_Z = 0;
+
+    @Param({"true", "false"})
+    public boolean walls;
+
+    private ArenaTemplate template;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        template = ArenaTemplate.compile(walls, ArenaTemplateBenchmark::blockData);
+    }
+
+    @Benchmark
+    public ArenaTemplate compile() {
+        return ArenaTemplate.compile(walls, ArenaTemplateBenchmark::blockData);
+    }
+
+    @Benchmark
+    public long paste() {
+        return run(ArenaBuildJob.Mode.PASTE);
+    }
+
+    @Benchmark
+    public long clear() {
+        return run(ArenaBuildJob.Mode.CLEAR);
+    }
+
+    private long run(ArenaBuildJob.Mode mode) {
+        CountingSink sink = new CountingSink();
+        ArenaBuildJob job = new ArenaBuildJob(null, sink, template, ORIGIN_X, ORIGIN_Y, ORIGIN_Z, mode);
+        job.run(Integer.MAX_VALUE);
+        return sink.checksum;
+    }
+
+    // BlockData needs a running server; the jobs only hand it on
+    private static BlockData blockData(Material type) {
+        return Stubs.of(BlockData.class, Map.of("getMaterial", type));
+    }
+
+    /**
+     * Counts the writes and folds their positions, so none of them can be optimized away.
+     */
+    private static final class CountingSink implements ArenaBuildJob.BlockSink {
+        long checksum;
+
+        @Override
+        public void setBlockData(int x, int y, int z, BlockData data) {
+            checksum += (x * 31L + y) * 31L + z;
+        }
+    }
+}
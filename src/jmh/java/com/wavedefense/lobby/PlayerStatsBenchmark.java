@@ -0,0 +1,64 @@
+package com.wavedefense.lobby;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a player's stats file, which every win and loss does, and reading it on a cache miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerStatsBenchmark {
+    private final PlayerStats.Stats stats = new PlayerStats.Stats();
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("wavedefense-stats", ".yml").toFile();
+        stats.wins = 42;
+        stats.losses = 17;
+        stats.kills = 42;
+        stats.deaths = 17;
+        stats.gamesPlayed = 59;
+
+        // The file readStats() loads; a broken file would read as empty stats
+        PlayerStats.writeStats(file, stats);
+        if (PlayerStats.readStats(file).gamesPlayed != stats.gamesPlayed) {
+            throw new IllegalStateException("Round trip lost the stats");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public void writeStats() throws IOException {
+        PlayerStats.writeStats(file, stats);
+    }
+
+    @Benchmark
+    public PlayerStats.Stats readStats() {
+        return PlayerStats.readStats(file);
+    }
+}
@@ -1,20 +1,36 @@
 package com.wavedefense;
 
+import com.wavedefense.arena.ArenaBuildQueue;
 import com.wavedefense.arena.ArenaManager;
-import com.wavedefense.arena.Difficulty;
+import com.wavedefense.arena.ArenaPool;
+import com.wavedefense.arena.BotSystem;
+import com.wavedefense.arena.MotionTracker;
 import com.wavedefense.arena.PvPManager;
+import com.wavedefense.arena.SessionEngine;
 import com.wavedefense.arena.SurvivalArena;
+import com.wavedefense.arena.TimerWheel;
+import com.wavedefense.bot.Difficulty;
 import com.wavedefense.command.WaveDefenseCommand;
 import com.wavedefense.listener.WaveDefenseListener;
 import com.wavedefense.lobby.LobbyManager;
+import com.wavedefense.message.Messages;
+import com.wavedefense.perf.PerfMonitor;
 import net.kyori.adventure.text.format.NamedTextColor;
-import org.bukkit.World;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public class WaveDefensePlugin extends JavaPlugin {
 
     private static WaveDefensePlugin instance;
-
+    private static final boolean FOLIA = detectFolia();
+
+    private Messages messages;
+    private PerfMonitor perfMonitor;
+    private TimerWheel timerWheel;
+    private MotionTracker motionTracker;
+    private BotSystem botSystem;
+    private ArenaBuildQueue buildQueue;
+    private ArenaPool arenaPool;
+    private SessionEngine sessionEngine;
     private ArenaManager arenaManager;
     private LobbyManager lobbyManager;
     private SurvivalArena survivalArena;
@@ -29,6 +45,14 @@ public class WaveDefensePlugin extends JavaPlugin {
         instance = this;
 
         // Initialize managers
+        messages = new Messages(this);
+        perfMonitor = new PerfMonitor();
+        timerWheel = new TimerWheel(this);
+        motionTracker = new MotionTracker(this);
+        botSystem = new BotSystem(this);
+        buildQueue = new ArenaBuildQueue(this);
+        arenaPool = new ArenaPool(this);
+        sessionEngine = new SessionEngine(this);
         arenaManager = new ArenaManager();
         lobbyManager = new LobbyManager();
         survivalArena = new SurvivalArena();
@@ -42,23 +66,67 @@ public class WaveDefensePlugin extends JavaPlugin {
         // Register event listener
         getServer().getPluginManager().registerEvents(new WaveDefenseListener(this), this);
 
-        // Start tick scheduler (runs every tick = 50ms)
-        getServer().getScheduler().scheduleSyncRepeatingTask(this, this::tick, 0L, 1L);
+        // Pre-build the minimum number of arenas
+        arenaPool.warmUp();
+
+        // Index (or build, if its layout changed) the lobby before anyone can click a kit
+        getServer().getRegionScheduler().execute(this, lobbyManager.getLobbySpawn(), lobbyManager::createLobby);
+
+        // The tick clock, the shared bot batch (empty on Folia) and pool maintenance run on the
+        // global region; build jobs and sessions schedule themselves
+        getServer().getGlobalRegionScheduler().runAtFixedRate(this, task -> {
+            timerWheel.tick();
+            botSystem.tick();
+            motionTracker.expire();
+            long start = perfMonitor.start();
+            arenaPool.tick();
+            perfMonitor.record(PerfMonitor.Phase.ARENA_POOL, start);
+        }, 1L, 1L);
 
         getLogger().info("WaveDefense enabled");
     }
 
     @Override
     public void onDisable() {
+        if (arenaPool != null) {
+            arenaPool.shutdown();
+        }
+        if (botSystem != null) {
+            botSystem.shutdown();
+        }
         getLogger().info("WaveDefense disabled");
     }
 
-    private void tick() {
-        for (World world : getServer().getWorlds()) {
-            arenaManager.tick(world);
-            survivalArena.tick(world);
-            pvpManager.tick(world);
-        }
+    public Messages getMessages() {
+        return messages;
+    }
+
+    public PerfMonitor getPerfMonitor() {
+        return perfMonitor;
+    }
+
+    public TimerWheel getTimerWheel() {
+        return timerWheel;
+    }
+
+    public MotionTracker getMotionTracker() {
+        return motionTracker;
+    }
+
+    public BotSystem getBotSystem() {
+        return botSystem;
+    }
+
+    public ArenaBuildQueue getBuildQueue() {
+        return buildQueue;
+    }
+
+    public ArenaPool getArenaPool() {
+        return arenaPool;
+    }
+
+    public SessionEngine getSessionEngine() {
+        return sessionEngine;
     }
 
     public ArenaManager getArenaManager() {
@@ -77,6 +145,22 @@ public class WaveDefensePlugin extends JavaPlugin {
         return pvpManager;
     }
 
+    /**
+     * True when running on Folia (regionized multithreading) instead of Paper.
+     */
+    public static boolean isFolia() {
+        return FOLIA;
+    }
+
+    private static boolean detectFolia() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     /**
      * Returns a color matching the given difficulty level.
      */
@@ -0,0 +1,91 @@
+package com.wavedefense.arena;
+
+import com.wavedefense.WaveDefensePlugin;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.WorldBorder;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+
+/**
+ * Virtual arena containment, used when the pool builds its arenas without barrier walls
+ * (BotConfig.arenaVirtualBorder).
+ *
+ * Each participant gets a per-player WorldBorder around their arena (only their client sees it),
+ * and a server-side clamp keeps players and bots below the ceiling height and inside the border
+ * even if a client ignores it. The border radius comes from the config and can be smaller than
+ * the arena floor.
+ */
+public final class ArenaBorder {
+
+    private ArenaBorder() {
+    }
+
+    public static boolean isEnabled() {
+        return !WaveDefensePlugin.getInstance().getArenaPool().getTemplate().hasWalls();
+    }
+
+    /**
+     * Horizontal distance from the arena center block to the border, never larger than the floor.
+     */
+    public static double getRadius() {
+        double radius = BotConfig.getInstance().arenaBorderRadius;
+        return Math.max(1.0, Math.min(ArenaTemplate.RADIUS + 0.5, radius));
+    }
+
+    /**
+     * Shows the player a world border around the arena at the given center (floor level).
+     */
+    public static void apply(Player player, Location center) {
+        if (!isEnabled()) return;
+
+        WorldBorder border = Bukkit.createWorldBorder();
+        border.setCenter(center.getBlockX() + 0.5, center.getBlockZ() + 0.5);
+        border.setSize(getRadius() * 2);
+        border.setWarningDistance(0);
+        border.setDamageAmount(0);
+        player.setWorldBorder(border);
+    }
+
+    /**
+     * Gives the player the normal world border back.
+     */
+    public static void remove(Player player) {
+        if (player.getWorldBorder() != null) {
+            player.setWorldBorder(null);
+        }
+    }
+
+    /**
+     * Moves the entity back inside the arena volume if it left it. Returns true if it was moved.
+     */
+    public static boolean clamp(Entity entity, Location center) {
+        // Entities still on their way into the arena belong to another region
+        if (!isEnabled() || !Bukkit.isOwnedByCurrentRegion(entity)) return false;
+
+        Location loc = entity.getLocation();
+        double halfWidth = entity.getWidth() / 2;
+        double reach = getRadius() - halfWidth;
+        double centerX = center.getBlockX() + 0.5;
+        double centerZ = center.getBlockZ() + 0.5;
+        double ceiling = center.getBlockY() + ArenaTemplate.WALL_HEIGHT + 1 - entity.getHeight();
+
+        double x = Math.max(centerX - reach, Math.min(centerX + reach, loc.getX()));
+        double z = Math.max(centerZ - reach, Math.min(centerZ + reach, loc.getZ()));
+        double y = Math.min(ceiling, loc.getY());
+        if (x == loc.getX() && y == loc.getY() && z == loc.getZ()) return false;
+
+        Vector velocity = entity.getVelocity();
+        if (x != loc.getX()) velocity.setX(0);
+        if (y != loc.getY()) velocity.setY(Math.min(0, velocity.getY()));
+        if (z != loc.getZ()) velocity.setZ(0);
+
+        loc.setX(x);
+        loc.setY(y);
+        loc.setZ(z);
+        entity.teleportAsync(loc).thenRun(() -> entity.setVelocity(velocity));
+        return true;
+    }
+}
@@ -0,0 +1,157 @@
+package com.wavedefense.arena;
+
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+
+/**
+ * One paste, clear or journal replay of an ArenaTemplate at a fixed origin.
+ * Block writes skip physics and are applied a slice at a time by the ArenaBuildQueue.
+ */
+public class ArenaBuildJob {
+    enum Mode { PASTE, CLEAR, REPLAY }
+
+    /**
+     * Receives the block writes of a job; normally the world, without physics.
+     */
+    interface BlockSink {
+        void setBlockData(int x, int y, int z, BlockData data);
+    }
+
+    private final World world;
+    private final BlockSink blocks;
+    private final ArenaTemplate template;
+    private final int originX, originY, originZ;
+    private final Mode mode;
+
+    // Journal positions to rewrite (REPLAY only)
+    private int[] replay;
+
+    // Cursor into the template's packed section arrays
+    private int section = 0;
+    private int entry = 0;
+    private int written = 0;
+
+    private Runnable onComplete;
+    private boolean cancelled = false;
+    private boolean done = false;
+
+    ArenaBuildJob(World world, ArenaTemplate template, int originX, int originY, int originZ, Mode mode) {
+        this(world, (x, y, z, data) -> world.getBlockAt(x, y, z).setBlockData(data, false),
+                template, originX, originY, originZ, mode);
+    }
+
+    ArenaBuildJob(World world, BlockSink blocks, ArenaTemplate template,
+                  int originX, int originY, int originZ, Mode mode) {
+        this.world = world;
+        this.blocks = blocks;
+        this.template = template;
+        this.originX = originX;
+        this.originY = originY;
+        this.originZ = originZ;
+        this.mode = mode;
+    }
+
+    /**
+     * Sets a callback that runs on the main thread once every block has been written.
+     */
+    public ArenaBuildJob onComplete(Runnable onComplete) {
+        this.onComplete = onComplete;
+        return this;
+    }
+
+    /**
+     * Applies up to maxOps block writes. Returns true when the job has no writes left.
+     */
+    boolean run(int maxOps) {
+        if (mode == Mode.REPLAY) {
+            return runReplay(maxOps);
+        }
+
+        int ops = 0;
+        BlockData air = template.getAir();
+        while (ops < maxOps && section < template.getSectionCount()) {
+            int[] cells = template.getSection(section);
+            int baseX = originX + template.getSectionX(section);
+            int baseY = originY + template.getSectionY(section);
+            int baseZ = originZ + template.getSectionZ(section);
+
+            int end = Math.min(cells.length, entry + (maxOps - ops));
+            for (int i = entry; i < end; i++) {
+                int packed = cells[i];
+                int local = packed >>> 8;
+                BlockData data = mode == Mode.CLEAR ? air : template.getPaletteEntry(packed & 0xFF);
+                blocks.setBlockData(baseX + (local & 15), baseY + (local >>> 8), baseZ + ((local >>> 4) & 15), data);
+            }
+            ops += end - entry;
+            entry = end;
+
+            if (entry >= cells.length) {
+                section++;
+                entry = 0;
+            }
+        }
+        written += ops;
+        return section >= template.getSectionCount();
+    }
+
+    /**
+     * Rewrites the recorded journal positions with their template block (or air).
+     */
+    private boolean runReplay(int maxOps) {
+        int end = Math.min(replay.length, entry + maxOps);
+        for (int i = entry; i < end; i++) {
+            int key = replay[i];
+            int x = ArenaJournal.unpackX(key);
+            int y = ArenaJournal.unpackY(key);
+            int z = ArenaJournal.unpackZ(key);
+            blocks.setBlockData(originX + x, originY + y, originZ + z, template.getExpected(x, y, z));
+        }
+        written += end - entry;
+        entry = end;
+        return entry >= replay.length;
+    }
+
+    void setReplayPositions(int[] replay) {
+        this.replay = replay;
+    }
+
+    void complete() {
+        done = true;
+        if (onComplete != null && !cancelled) {
+            onComplete.run();
+        }
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Returns the fraction of block writes already applied (0.0 - 1.0).
+     */
+    public float getProgress() {
+        int total = mode == Mode.REPLAY ? replay.length : template.getBlockCount();
+        if (total == 0) return 1.0f;
+        return (float) written / total;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    int getOriginChunkX() {
+        return originX >> 4;
+    }
+
+    int getOriginChunkZ() {
+        return originZ >> 4;
+    }
+}
@@ -0,0 +1,136 @@
+package com.wavedefense.arena;
+
+import com.wavedefense.WaveDefensePlugin;
+import com.wavedefense.perf.PerfMonitor;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+
+import org.bukkit.Bukkit;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FIFO queues of arena build and teardown jobs.
+ * Each tick a queue spends at most the configured time budget on block writes, so starting
+ * many matches in the same second does not spike the tick time.
+ *
+ * On Paper all jobs share one queue on the global region scheduler (the main thread). On Folia
+ * every arena cell gets its own queue, ticked by the region scheduler that owns the cell, so
+ * arenas in different regions are built in parallel.
+ */
+public class ArenaBuildQueue {
+    // Block writes between two clock checks (System.nanoTime is not free either)
+    private static final int OPS_PER_CLOCK_CHECK = 64;
+
+    private final WaveDefensePlugin plugin;
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    public ArenaBuildQueue(WaveDefensePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public ArenaBuildJob submit(ArenaBuildJob job) {
+        long key = WaveDefensePlugin.isFolia() ? laneKey(job) : 0L;
+        lanes.compute(key, (k, lane) -> {
+            if (lane == null) {
+                lane = new Lane(k, job);
+            }
+            synchronized (lane) {
+                lane.jobs.add(job);
+            }
+            return lane;
+        });
+        return job;
+    }
+
+    // One lane per 64-block arena cell
+    private static long laneKey(ArenaBuildJob job) {
+        long cellX = job.getOriginChunkX() >> 2;
+        long cellZ = job.getOriginChunkZ() >> 2;
+        return (cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Lane lane : lanes.values()) {
+            synchronized (lane) {
+                size += lane.jobs.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * One queue of jobs, ticked on the thread that owns its blocks. Stops its task once empty.
+     */
+    private class Lane {
+        private final long key;
+        private final Deque<ArenaBuildJob> jobs = new ArrayDeque<>();
+        private final ScheduledTask task;
+
+        Lane(long key, ArenaBuildJob first) {
+            this.key = key;
+            if (!WaveDefensePlugin.isFolia()) {
+                this.task = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, t -> tick(), 1L, 1L);
+            } else {
+                this.task = Bukkit.getRegionScheduler().runAtFixedRate(plugin, first.getWorld(),
+                        first.getOriginChunkX(), first.getOriginChunkZ(), t -> tick(), 1L, 1L);
+            }
+        }
+
+        private void tick() {
+            PerfMonitor perf = plugin.getPerfMonitor();
+            long start = perf.start();
+            try {
+                runJobs();
+            } finally {
+                perf.record(PerfMonitor.Phase.ARENA_BUILD, start);
+            }
+        }
+
+        private void runJobs() {
+            long budgetNanos = BotConfig.getInstance().arenaBuildBudgetMicros * 1000L;
+            long deadline = System.nanoTime() + budgetNanos;
+
+            while (true) {
+                ArenaBuildJob job;
+                synchronized (this) {
+                    job = jobs.peek();
+                }
+                if (job == null) {
+                    // Retire the lane unless a job was added in the meantime
+                    lanes.computeIfPresent(key, (k, lane) -> {
+                        synchronized (lane) {
+                            return lane.jobs.isEmpty() ? null : lane;
+                        }
+                    });
+                    if (lanes.get(key) != this) {
+                        task.cancel();
+                    }
+                    return;
+                }
+
+                if (job.isCancelled()) {
+                    synchronized (this) {
+                        jobs.poll();
+                    }
+                    continue;
+                }
+
+                if (job.run(OPS_PER_CLOCK_CHECK)) {
+                    synchronized (this) {
+                        jobs.poll();
+                    }
+                    job.complete();
+                }
+
+                if (System.nanoTime() >= deadline) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.wavedefense.arena;
 
 import com.wavedefense.WaveDefensePlugin;
+import com.wavedefense.bot.Difficulty;
+import com.wavedefense.perf.PerfMonitor;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -14,6 +16,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Saves and loads arena session data to/from disk using YamlConfiguration.
@@ -71,56 +74,66 @@ public class ArenaDataStorage {
     }
 
     public static void savePlayerData(UUID playerId, ArenaSession session) {
+        PerfMonitor perf = WaveDefensePlugin.getInstance().getPerfMonitor();
+        long start = perf.start();
         try {
-            File file = getPlayerFile(playerId);
-            YamlConfiguration yaml = new YamlConfiguration();
-
-            // Save kit and difficulty
-            yaml.set("kit", session.getKit().name());
-            yaml.set("difficulty", session.getDifficulty().name());
-
-            // Save original location
-            Location loc = session.getOriginalLocation();
-            yaml.set("original.world", loc.getWorld().getName());
-            yaml.set("original.x", loc.getX());
-            yaml.set("original.y", loc.getY());
-            yaml.set("original.z", loc.getZ());
-            yaml.set("original.yaw", (double) loc.getYaw());
-            yaml.set("original.pitch", (double) loc.getPitch());
-
-            // Save arena center
-            if (session.getArenaCenter() != null) {
-                Location center = session.getArenaCenter();
-                yaml.set("arenaCenter.world", center.getWorld().getName());
-                yaml.set("arenaCenter.x", center.getX());
-                yaml.set("arenaCenter.y", center.getY());
-                yaml.set("arenaCenter.z", center.getZ());
-            }
+            write(getPlayerFile(playerId), session);
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            perf.record(PerfMonitor.Phase.STORAGE_IO, start);
+        }
+    }
 
-            // Save inventory
-            yaml.set("inventory", serializeItemList(session.getOriginalInventory()));
+    /**
+     * Writes a session to the given file.
+     */
+    static void write(File file, ArenaSession session) throws IOException {
+        YamlConfiguration yaml = new YamlConfiguration();
+
+        // Save kit and difficulty
+        yaml.set("kit", session.getKit().name());
+        yaml.set("difficulty", session.getDifficulty().name());
+
+        // Save original location
+        Location loc = session.getOriginalLocation();
+        yaml.set("original.world", loc.getWorld().getName());
+        yaml.set("original.x", loc.getX());
+        yaml.set("original.y", loc.getY());
+        yaml.set("original.z", loc.getZ());
+        yaml.set("original.yaw", (double) loc.getYaw());
+        yaml.set("original.pitch", (double) loc.getPitch());
+
+        // Save arena center
+        if (session.getArenaCenter() != null) {
+            Location center = session.getArenaCenter();
+            yaml.set("arenaCenter.world", center.getWorld().getName());
+            yaml.set("arenaCenter.x", center.getX());
+            yaml.set("arenaCenter.y", center.getY());
+            yaml.set("arenaCenter.z", center.getZ());
+        }
 
-            // Save armor
-            yaml.set("armor", serializeItemList(session.getOriginalArmor()));
+        // Save inventory
+        yaml.set("inventory", serializeItemList(session.getOriginalInventory()));
 
-            // Save offhand
-            if (session.getOriginalOffhand() != null && !session.getOriginalOffhand().getType().isAir()) {
-                yaml.set("offhand", session.getOriginalOffhand().serialize());
-            }
+        // Save armor
+        yaml.set("armor", serializeItemList(session.getOriginalArmor()));
 
-            // Save health and food
-            yaml.set("health", (double) session.getOriginalHealth());
-            yaml.set("food", session.getOriginalFoodLevel());
+        // Save offhand
+        if (session.getOriginalOffhand() != null && !session.getOriginalOffhand().getType().isAir()) {
+            yaml.set("offhand", session.getOriginalOffhand().serialize());
+        }
 
-            // Save bot ID if exists
-            if (session.getBotId() != null) {
-                yaml.set("botId", session.getBotId().toString());
-            }
+        // Save health and food
+        yaml.set("health", (double) session.getOriginalHealth());
+        yaml.set("food", session.getOriginalFoodLevel());
 
-            yaml.save(file);
-        } catch (IOException e) {
-            e.printStackTrace();
+        // Save bot ID if exists
+        if (session.getBotId() != null) {
+            yaml.set("botId", session.getBotId().toString());
         }
+
+        yaml.save(file);
     }
 
     public static ArenaSession loadPlayerData(UUID playerId) {
@@ -129,83 +142,97 @@ public class ArenaDataStorage {
             return null;
         }
 
+        PerfMonitor perf = WaveDefensePlugin.getInstance().getPerfMonitor();
+        long start = perf.start();
         try {
-            YamlConfiguration yaml = YamlConfiguration.loadConfiguration(file);
-
-            // Load kit and difficulty
-            Kit kit = Kit.valueOf(yaml.getString("kit", "NODEBUFF"));
-            Difficulty difficulty = Difficulty.valueOf(yaml.getString("difficulty", "MEDIUM"));
+            return read(file, playerId, ArenaDataStorage::getWorldOrDefault);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        } finally {
+            perf.record(PerfMonitor.Phase.STORAGE_IO, start);
+        }
+    }
 
-            // Load original location
-            String worldName = yaml.getString("original.world", "world");
-            World world = Bukkit.getWorld(worldName);
-            if (world == null) {
-                world = Bukkit.getWorlds().get(0); // Fallback to default world
-            }
-            double origX = yaml.getDouble("original.x", 0.0);
-            double origY = yaml.getDouble("original.y", 100.0);
-            double origZ = yaml.getDouble("original.z", 0.0);
-            float origYaw = (float) yaml.getDouble("original.yaw", 0.0);
-            float origPitch = (float) yaml.getDouble("original.pitch", 0.0);
-            Location originalLocation = new Location(world, origX, origY, origZ, origYaw, origPitch);
-
-            // Load inventory
-            List<?> inventoryRaw = yaml.getList("inventory");
-            List<ItemStack> inventory = deserializeItemList(inventoryRaw, 36);
-
-            // Load armor
-            List<?> armorRaw = yaml.getList("armor");
-            List<ItemStack> armor = deserializeItemList(armorRaw, 4);
-
-            // Load offhand
-            ItemStack offhand = null;
-            if (yaml.contains("offhand")) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> offhandMap = (Map<String, Object>) yaml.get("offhand");
-                if (offhandMap != null && !offhandMap.isEmpty()) {
-                    offhand = ItemStack.deserialize(offhandMap);
-                }
+    /**
+     * Reads a session from the given file; worlds maps the stored world names to loaded worlds.
+     */
+    static ArenaSession read(File file, UUID playerId, Function<String, World> worlds) {
+        YamlConfiguration yaml = YamlConfiguration.loadConfiguration(file);
+
+        // Load kit and difficulty
+        Kit kit = Kit.valueOf(yaml.getString("kit", "NODEBUFF"));
+        Difficulty difficulty = Difficulty.valueOf(yaml.getString("difficulty", "MEDIUM"));
+
+        // Load original location
+        String worldName = yaml.getString("original.world", "world");
+        World world = worlds.apply(worldName);
+        double origX = yaml.getDouble("original.x", 0.0);
+        double origY = yaml.getDouble("original.y", 100.0);
+        double origZ = yaml.getDouble("original.z", 0.0);
+        float origYaw = (float) yaml.getDouble("original.yaw", 0.0);
+        float origPitch = (float) yaml.getDouble("original.pitch", 0.0);
+        Location originalLocation = new Location(world, origX, origY, origZ, origYaw, origPitch);
+
+        // Load inventory
+        List<?> inventoryRaw = yaml.getList("inventory");
+        List<ItemStack> inventory = deserializeItemList(inventoryRaw, 36);
+
+        // Load armor
+        List<?> armorRaw = yaml.getList("armor");
+        List<ItemStack> armor = deserializeItemList(armorRaw, 4);
+
+        // Load offhand
+        ItemStack offhand = null;
+        if (yaml.contains("offhand")) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> offhandMap = (Map<String, Object>) yaml.get("offhand");
+            if (offhandMap != null && !offhandMap.isEmpty()) {
+                offhand = ItemStack.deserialize(offhandMap);
             }
+        }
 
-            // Load health and food
-            float health = (float) yaml.getDouble("health", 20.0);
-            int food = yaml.getInt("food", 20);
-
-            // Create session from loaded data
-            ArenaSession session = new ArenaSession(playerId, kit, difficulty, originalLocation,
-                    inventory, armor, offhand, health, food);
+        // Load health and food
+        float health = (float) yaml.getDouble("health", 20.0);
+        int food = yaml.getInt("food", 20);
+
+        // Create session from loaded data
+        ArenaSession session = new ArenaSession(playerId, kit, difficulty, originalLocation,
+                inventory, armor, offhand, health, food);
+
+        // Load arena center
+        if (yaml.contains("arenaCenter.world")) {
+            String centerWorldName = yaml.getString("arenaCenter.world", "world");
+            World centerWorld = worlds.apply(centerWorldName);
+            double cx = yaml.getDouble("arenaCenter.x", 0.0);
+            double cy = yaml.getDouble("arenaCenter.y", 200.0);
+            double cz = yaml.getDouble("arenaCenter.z", 0.0);
+            session.setArenaCenter(new Location(centerWorld, cx, cy, cz));
+        }
 
-            // Load arena center
-            if (yaml.contains("arenaCenter.world")) {
-                String centerWorldName = yaml.getString("arenaCenter.world", "world");
-                World centerWorld = Bukkit.getWorld(centerWorldName);
-                if (centerWorld == null) {
-                    centerWorld = Bukkit.getWorlds().get(0);
-                }
-                double cx = yaml.getDouble("arenaCenter.x", 0.0);
-                double cy = yaml.getDouble("arenaCenter.y", 200.0);
-                double cz = yaml.getDouble("arenaCenter.z", 0.0);
-                session.setArenaCenter(new Location(centerWorld, cx, cy, cz));
-            }
+        // Load bot ID
+        String botIdStr = yaml.getString("botId", null);
+        if (botIdStr != null && !botIdStr.isEmpty()) {
+            session.setBotId(UUID.fromString(botIdStr));
+        }
 
-            // Load bot ID
-            String botIdStr = yaml.getString("botId", null);
-            if (botIdStr != null && !botIdStr.isEmpty()) {
-                session.setBotId(UUID.fromString(botIdStr));
-            }
+        return session;
+    }
 
-            return session;
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
-        }
+    private static World getWorldOrDefault(String name) {
+        World world = Bukkit.getWorld(name);
+        // Fallback to default world
+        return world != null ? world : Bukkit.getWorlds().get(0);
     }
 
     public static void deletePlayerData(UUID playerId) {
+        PerfMonitor perf = WaveDefensePlugin.getInstance().getPerfMonitor();
+        long start = perf.start();
         File file = getPlayerFile(playerId);
         if (file.exists()) {
             file.delete();
         }
+        perf.record(PerfMonitor.Phase.STORAGE_IO, start);
     }
 
     public static boolean hasPlayerData(UUID playerId) {
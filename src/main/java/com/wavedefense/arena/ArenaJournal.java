@@ -0,0 +1,61 @@
+package com.wavedefense.arena;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Records which blocks of an arena cell changed during a match (placements, breaks,
+ * explosions, fluids). The template is the baseline: resetting a slot only rewrites the
+ * recorded positions back to their template block, so teardown cost scales with what
+ * happened in the match instead of with the arena volume.
+ *
+ * Positions are local to the cell origin and packed as y << 12 | z << 6 | x.
+ */
+public class ArenaJournal {
+    private static final int SIZE = ArenaSlotAllocator.CELL_SIZE;
+
+    private final BitSet touched = new BitSet(SIZE * SIZE * SIZE);
+    private int[] entries = new int[64];
+    private int count = 0;
+
+    /**
+     * Records a changed block; positions outside the cell and repeated positions are ignored.
+     */
+    public void record(int x, int y, int z) {
+        if (x < 0 || y < 0 || z < 0 || x >= SIZE || y >= SIZE || z >= SIZE) return;
+        int key = y << 12 | z << 6 | x;
+        if (touched.get(key)) return;
+        touched.set(key);
+
+        if (count == entries.length) {
+            entries = Arrays.copyOf(entries, count * 2);
+        }
+        entries[count++] = key;
+    }
+
+    /**
+     * Returns all recorded positions and starts a new, empty journal.
+     */
+    int[] drain() {
+        int[] result = Arrays.copyOf(entries, count);
+        touched.clear();
+        count = 0;
+        return result;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    static int unpackX(int key) {
+        return key & 63;
+    }
+
+    static int unpackY(int key) {
+        return key >>> 12;
+    }
+
+    static int unpackZ(int key) {
+        return (key >>> 6) & 63;
+    }
+}
@@ -1,47 +1,61 @@
 package com.wavedefense.arena;
 
+import com.wavedefense.WaveDefensePlugin;
+import com.wavedefense.bot.Difficulty;
+import com.wavedefense.lobby.LobbyManager;
 import com.wavedefense.lobby.PlayerStats;
+import com.wavedefense.message.Message;
+import com.wavedefense.message.Messages;
+import com.wavedefense.perf.PerfMonitor;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.title.Title;
 
 import org.bukkit.Bukkit;
 import org.bukkit.GameRule;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.World;
 import org.bukkit.WorldCreator;
 import org.bukkit.WorldType;
 import org.bukkit.attribute.Attribute;
-import org.bukkit.entity.Enderman;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Zombie;
 import org.bukkit.generator.ChunkGenerator;
 
+import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
 
 public class ArenaManager {
-    private final Map<UUID, ArenaSession> activeSessions = new HashMap<>();
-    private final Map<UUID, Kit> lastPlayedKit = new HashMap<>();
-    private final Map<UUID, Difficulty> lastPlayedDifficulty = new HashMap<>();
+    private final Map<UUID, ArenaSession> activeSessions = new ConcurrentHashMap<>();
+    // Bot entity -> session, to route entity events without scanning the sessions
+    private final Map<UUID, ArenaSession> sessionsByBot = new ConcurrentHashMap<>();
+    private final Map<UUID, Kit> lastPlayedKit = new ConcurrentHashMap<>();
+    private final Map<UUID, Difficulty> lastPlayedDifficulty = new ConcurrentHashMap<>();
 
     // Arena world name
     public static final String ARENA_WORLD_NAME = "wavedefense_arena";
 
+    // Region data folders of a world; the arena world only keeps the lobby regions
+    private static final String[] REGION_FOLDERS = {"region", "entities", "poi"};
+
     /**
      * Gets or creates the dedicated arena void world.
      * Creates a flat void world with no mobs, no daylight cycle, no weather.
+     *
+     * The world is disposable: autosave is off and every region file outside the lobby is
+     * deleted before the world loads, so arenas from earlier runs (or crashes) never pile up on
+     * disk. Arena slots are pasted fresh from the template by the ArenaPool.
      */
     public static World getOrCreateArenaWorld() {
         World arenaWorld = Bukkit.getWorld(ARENA_WORLD_NAME);
@@ -49,14 +63,26 @@ public class ArenaManager {
             return arenaWorld;
         }
 
+        pruneArenaRegions(ARENA_WORLD_NAME);
+
         // Create a void world with a custom empty chunk generator
         WorldCreator creator = new WorldCreator(ARENA_WORLD_NAME);
         creator.type(WorldType.FLAT);
         creator.generator(new VoidChunkGenerator());
         creator.generateStructures(false);
 
-        arenaWorld = Bukkit.createWorld(creator);
+        try {
+            arenaWorld = Bukkit.createWorld(creator);
+        } catch (UnsupportedOperationException e) {
+            // Folia cannot create worlds at runtime - the world has to be set up in the server config
+            WaveDefensePlugin.getInstance().getLogger().warning("Cannot create world " + ARENA_WORLD_NAME
+                    + " at runtime, using the default world for arenas");
+            return null;
+        }
         if (arenaWorld != null) {
+            // Arenas are rebuilt every run; only the lobby is saved explicitly
+            arenaWorld.setAutoSave(false);
+
             // Set game rules
             arenaWorld.setGameRule(GameRule.DO_DAYLIGHT_CYCLE, false);
             arenaWorld.setGameRule(GameRule.DO_MOB_SPAWNING, false);
@@ -77,6 +103,48 @@ public class ArenaManager {
         return arenaWorld;
     }
 
+    /**
+     * Deletes all region, entity and POI files of the arena world that do not contain the lobby.
+     * Does nothing while the world is loaded, the server holds its region files open.
+     */
+    private static void pruneArenaRegions(String worldName) {
+        Logger logger = WaveDefensePlugin.getInstance().getLogger();
+        if (Bukkit.getWorld(worldName) != null) {
+            logger.warning("World " + worldName + " is loaded, not removing its arena region files");
+            return;
+        }
+
+        File worldFolder = new File(Bukkit.getWorldContainer(), worldName);
+        List<String> deleted = new ArrayList<>();
+        for (String folderName : REGION_FOLDERS) {
+            File[] files = new File(worldFolder, folderName).listFiles();
+            if (files == null) continue;
+
+            for (File file : files) {
+                // Region files are named r.<x>.<z>.mca
+                String[] parts = file.getName().split("\\.");
+                if (parts.length != 4 || !parts[0].equals("r") || !parts[3].equals("mca")) continue;
+
+                int regionX, regionZ;
+                try {
+                    regionX = Integer.parseInt(parts[1]);
+                    regionZ = Integer.parseInt(parts[2]);
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+
+                if (!LobbyManager.isLobbyRegion(regionX, regionZ) && file.delete()) {
+                    deleted.add(folderName + "/" + file.getName());
+                }
+            }
+        }
+
+        if (!deleted.isEmpty()) {
+            logger.info("Removed " + deleted.size() + " stale arena region files from " + worldName + ": "
+                    + String.join(", ", deleted));
+        }
+    }
+
     /**
      * Custom ChunkGenerator that generates empty/void chunks.
      */
@@ -121,15 +189,13 @@ public class ArenaManager {
         UUID playerId = player.getUniqueId();
 
         if (activeSessions.containsKey(playerId)) {
-            player.sendMessage(Component.text("Du bist bereits in einer Arena!")
-                    .color(NamedTextColor.RED));
+            WaveDefensePlugin.getInstance().getMessages().send(player, Message.ARENA_ALREADY_IN);
             return false;
         }
 
         // Check if player has saved arena data (disconnected during arena)
         if (ArenaDataStorage.hasPlayerData(playerId)) {
-            player.sendMessage(Component.text("Du hast noch eine aktive Arena! Nutze /wd leave um sie zu verlassen.")
-                    .color(NamedTextColor.YELLOW));
+            WaveDefensePlugin.getInstance().getMessages().send(player, Message.ARENA_SAVED_ACTIVE);
             return false;
         }
 
@@ -141,38 +207,74 @@ public class ArenaManager {
         lastPlayedKit.put(playerId, kit);
         lastPlayedDifficulty.put(playerId, difficulty);
 
-        // Get or create arena world
-        World arenaWorld = getOrCreateArenaWorld();
-        if (arenaWorld == null) {
-            // Fallback to main world
-            arenaWorld = Bukkit.getWorlds().get(0);
+        // Lease a pooled arena and save to disk immediately
+        ArenaSlot slot = WaveDefensePlugin.getInstance().getArenaPool().lease();
+        session.setSlot(slot);
+        session.setArenaCenter(slot.getCenter());
+        ArenaDataStorage.savePlayerData(playerId, session);
+        WaveDefensePlugin.getInstance().getSessionEngine().register(session);
+
+        if (slot.isReady()) {
+            beginFight(playerId, session);
+            return true;
         }
 
-        // Create arena
-        Location arenaCenter = createArena(arenaWorld, playerId);
-        session.setArenaCenter(arenaCenter);
+        // Arena is still being built, the player waits in the lobby meanwhile.
+        // The slot becomes ready on the arena's thread; continue on the player's.
+        slot.whenReady(() -> player.getScheduler().run(WaveDefensePlugin.getInstance(),
+                task -> beginFight(playerId, session), null));
+        if (!WaveDefensePlugin.getInstance().getLobbyManager().isInLobby(player)) {
+            teleportToLobby(player);
+        }
+        WaveDefensePlugin.getInstance().getMessages().send(player, Message.ARENA_PREPARING);
 
-        // Save to disk immediately
-        ArenaDataStorage.savePlayerData(playerId, session);
+        return true;
+    }
+
+    /**
+     * Called once the arena blocks are in place: moves the player in, applies the kit and spawns the bot.
+     */
+    private void beginFight(UUID playerId, ArenaSession session) {
+        if (activeSessions.get(playerId) != session || session.isFightStarted()) return;
+
+        // Player went offline while the arena was built; handled on rejoin
+        Player player = Bukkit.getPlayer(playerId);
+        if (player == null || !player.isOnline()) return;
+
+        Kit kit = session.getKit();
+        Difficulty difficulty = session.getDifficulty();
+        Location arenaCenter = session.getArenaCenter();
+        World arenaWorld = arenaCenter.getWorld();
 
         // Teleport player to arena (blue spawn)
-        player.teleport(new Location(arenaWorld,
+        player.teleportAsync(new Location(arenaWorld,
                 arenaCenter.getBlockX() - 15 + 0.5,
                 arenaCenter.getBlockY() + 1,
                 arenaCenter.getBlockZ() + 0.5,
-                90, 0));
+                90, 0)).thenAccept(success -> {
+                    // The border is per-world on the client, so it only goes up once the player arrived
+                    if (success) ArenaBorder.apply(player, arenaCenter);
+                });
 
         // Apply kit to player
         kit.applyToPlayer(player);
 
-        // Spawn bot
-        spawnBot(player, session, kit, difficulty, arenaCenter, arenaWorld);
+        // Spawn bot on the region that owns the arena
+        Bukkit.getRegionScheduler().execute(WaveDefensePlugin.getInstance(), arenaCenter, () -> {
+            spawnBot(player, session, kit, difficulty, arenaCenter, arenaWorld);
+            ArenaDataStorage.savePlayerData(playerId, session);
+        });
 
         // Initialize combat tracking
         session.initHealthTracking((float) player.getHealth(), difficulty.getHealth());
 
-        // Create bossbar for bot health
-        session.createBossBar(player);
+        // Show bossbar for bot health
+        session.getHud().showBossBar();
+
+        // Warmup countdown
+        TimerWheel wheel = WaveDefensePlugin.getInstance().getTimerWheel();
+        session.startWarmup(wheel.now());
+        scheduleCountdown(player, session, wheel);
 
         // Show title (Adventure API)
         Title.Times times = Title.Times.times(
@@ -180,95 +282,53 @@ public class ArenaManager {
                 Duration.ofMillis(40 * 50),  // stay: 40 ticks
                 Duration.ofMillis(10 * 50)   // fadeOut: 10 ticks
         );
+        Messages messages = WaveDefensePlugin.getInstance().getMessages();
         player.showTitle(Title.title(
-                Component.text("\u2694 " + kit.getName().toUpperCase() + " \u2694")
-                        .color(NamedTextColor.GOLD)
-                        .decorate(TextDecoration.BOLD),
-                Component.text(difficulty.getName() + " Schwierigkeit")
-                        .color(NamedTextColor.YELLOW),
+                messages.render(player, Message.ARENA_START_TITLE, kit.getName().toUpperCase()),
+                messages.render(player, Message.ARENA_START_SUBTITLE, difficulty.getName()),
                 times));
 
-        player.sendMessage(Component.text("=== ARENA GESTARTET ===")
-                .color(NamedTextColor.GOLD)
-                .decorate(TextDecoration.BOLD));
-        player.sendMessage(Component.text("Kit: " + kit.getName() + " | Schwierigkeit: " + difficulty.getName())
-                .color(NamedTextColor.YELLOW));
-        player.sendMessage(Component.text("Warmup: 3 Sekunden...")
-                .color(NamedTextColor.AQUA));
-        player.sendMessage(Component.text("Nutze /wd leave um die Arena zu verlassen")
-                .color(NamedTextColor.GRAY));
-
-        return true;
+        messages.send(player, Message.ARENA_STARTED, kit.getName(), difficulty.getName(),
+                (session.getWarmupTicks() + 19) / 20);
     }
 
-    private Location createArena(World world, UUID playerId) {
-        // Create unique arena position based on player UUID hash
-        int hash = playerId.hashCode();
-        int x = (hash & 0xFFFF) * 200;
-        int z = ((hash >> 16) & 0xFFFF) * 200;
-        int y = 100;
-
-        int radius = 20; // 41x41 arena
-
-        // Create main floor - checkerboard pattern
-        for (int dx = -radius; dx <= radius; dx++) {
-            for (int dz = -radius; dz <= radius; dz++) {
-                // Checkerboard pattern
-                if ((dx + dz) % 2 == 0) {
-                    world.getBlockAt(x + dx, y, z + dz).setType(Material.WHITE_CONCRETE);
-                } else {
-                    world.getBlockAt(x + dx, y, z + dz).setType(Material.LIGHT_GRAY_CONCRETE);
-                }
-            }
-        }
-
-        // Create border ring
-        for (int dx = -radius; dx <= radius; dx++) {
-            world.getBlockAt(x + dx, y, z - radius).setType(Material.RED_CONCRETE);
-            world.getBlockAt(x + dx, y, z + radius).setType(Material.RED_CONCRETE);
-            world.getBlockAt(x - radius, y, z + dx).setType(Material.RED_CONCRETE);
-            world.getBlockAt(x + radius, y, z + dx).setType(Material.RED_CONCRETE);
-        }
-
-        // Create spawn platforms
-        // Player spawn (blue)
-        for (int dx = -2; dx <= 2; dx++) {
-            for (int dz = -2; dz <= 2; dz++) {
-                world.getBlockAt(x + dx - 15, y, z + dz).setType(Material.BLUE_CONCRETE);
-            }
-        }
-        // Bot spawn (red)
-        for (int dx = -2; dx <= 2; dx++) {
-            for (int dz = -2; dz <= 2; dz++) {
-                world.getBlockAt(x + dx + 15, y, z + dz).setType(Material.RED_CONCRETE);
-            }
-        }
-
-        // Create invisible walls - very high (50 blocks)
-        for (int dx = -radius; dx <= radius; dx++) {
-            for (int dy = 1; dy <= 50; dy++) {
-                world.getBlockAt(x + dx, y + dy, z - radius).setType(Material.BARRIER);
-                world.getBlockAt(x + dx, y + dy, z + radius).setType(Material.BARRIER);
-                world.getBlockAt(x - radius, y + dy, z + dx).setType(Material.BARRIER);
-                world.getBlockAt(x + radius, y + dy, z + dx).setType(Material.BARRIER);
-            }
-        }
-
-        // Create ceiling
-        for (int dx = -radius; dx <= radius; dx++) {
-            for (int dz = -radius; dz <= radius; dz++) {
-                world.getBlockAt(x + dx, y + 51, z + dz).setType(Material.BARRIER);
-            }
-        }
-
-        // Add light sources (sea lanterns under floor)
-        for (int dx = -radius; dx <= radius; dx += 5) {
-            for (int dz = -radius; dz <= radius; dz += 5) {
-                world.getBlockAt(x + dx, y - 1, z + dz).setType(Material.SEA_LANTERN);
-            }
-        }
-
-        return new Location(world, x, y, z);
+    /**
+     * Queues the warmup action bar seconds and the FIGHT title on the timer wheel.
+     */
+    private void scheduleCountdown(Player player, ArenaSession session, TimerWheel wheel) {
+        int warmupTicks = session.getWarmupTicks();
+        for (int remaining = (warmupTicks - 1) / 20 * 20; remaining > 0; remaining -= 20) {
+            int seconds = remaining / 20 + 1;
+            wheel.schedule(player, warmupTicks - remaining, () -> {
+                if (!WaveDefensePlugin.getInstance().getSessionEngine().isRegistered(session)) return;
+
+                NamedTextColor color = seconds == 3 ? NamedTextColor.GREEN :
+                        seconds == 2 ? NamedTextColor.YELLOW :
+                                NamedTextColor.RED;
+
+                player.sendActionBar(WaveDefensePlugin.getInstance().getMessages()
+                        .render(player, Message.ARENA_COUNTDOWN, seconds).colorIfAbsent(color));
+
+                player.getWorld().playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_HAT, 1.0f, 1.0f);
+            });
+        }
+
+        wheel.schedule(player, warmupTicks, () -> {
+            if (!WaveDefensePlugin.getInstance().getSessionEngine().isRegistered(session)) return;
+
+            // FIGHT! title
+            Title.Times fightTimes = Title.Times.times(
+                    Duration.ofMillis(0),
+                    Duration.ofMillis(20 * 50),
+                    Duration.ofMillis(10 * 50)
+            );
+            player.showTitle(Title.title(
+                    WaveDefensePlugin.getInstance().getMessages().render(player, Message.ARENA_FIGHT_TITLE),
+                    Component.empty(),
+                    fightTimes));
+
+            player.getWorld().playSound(player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 0.5f, 1.5f);
+        });
     }
 
     private void spawnBot(Player player, ArenaSession session, Kit kit, Difficulty difficulty, Location arenaCenter, World world) {
@@ -281,16 +341,18 @@ public class ArenaManager {
         Zombie bot = (Zombie) world.spawnEntity(botLoc, EntityType.ZOMBIE);
 
         setupBot(bot, player, kit, difficulty);
-        session.setBotId(bot.getUniqueId());
-        BotAI botAI = new BotAI(bot, player, kit, difficulty, world);
+        if (session.getBotId() != null) {
+            sessionsByBot.remove(session.getBotId());
+        }
+        session.setBot(bot);
+        sessionsByBot.put(bot.getUniqueId(), session);
+        BotAI botAI = new BotAI(bot, player, kit, difficulty);
         session.setBotAI(botAI);
     }
 
     private void setupBot(Zombie bot, Player player, Kit kit, Difficulty difficulty) {
         // Custom name with Adventure API
-        bot.customName(Component.text(kit.getName() + " Bot [" + difficulty.getName() + "]")
-                .color(NamedTextColor.RED)
-                .decorate(TextDecoration.BOLD));
+        bot.customName(WaveDefensePlugin.getInstance().getMessages().render(Message.ARENA_BOT_NAME, kit.getName(), difficulty.getName()));
         bot.setCustomNameVisible(true);
 
         // Make zombie not burn in sun and behave like player
@@ -351,8 +413,7 @@ public class ArenaManager {
         }
 
         if (session == null) {
-            player.sendMessage(Component.text("Du bist nicht in einer Arena!")
-                    .color(NamedTextColor.RED));
+            WaveDefensePlugin.getInstance().getMessages().send(player, Message.ARENA_NOT_IN);
             return false;
         }
 
@@ -361,75 +422,48 @@ public class ArenaManager {
         activeSessions.remove(playerId);
         ArenaDataStorage.deletePlayerData(playerId);
 
-        player.sendMessage(Component.text("Arena verlassen!")
-                .color(NamedTextColor.YELLOW));
+        WaveDefensePlugin.getInstance().getMessages().send(player, Message.ARENA_LEFT);
 
         return true;
     }
 
     private void cleanupArena(Player player, ArenaSession session, boolean teleportToLobby) {
-        // Remove bossbar
-        session.removeBossBar();
-
-        // Get the correct world where arena was created
-        World arenaWorld = null;
-        if (session.getArenaCenter() != null && session.getArenaCenter().getWorld() != null) {
-            arenaWorld = session.getArenaCenter().getWorld();
-        }
-        if (arenaWorld == null) {
-            arenaWorld = Bukkit.getWorld(ARENA_WORLD_NAME);
-        }
-        if (arenaWorld == null) {
-            arenaWorld = Bukkit.getWorlds().get(0);
+        PerfMonitor perf = WaveDefensePlugin.getInstance().getPerfMonitor();
+        long start = perf.start();
+        WaveDefensePlugin.getInstance().getSessionEngine().unregister(session);
+        if (session.getBotAI() != null) {
+            WaveDefensePlugin.getInstance().getBotSystem().detach(session.getBotAI());
         }
 
-        // Remove bot
-        if (session.getBotId() != null) {
-            Entity bot = Bukkit.getEntity(session.getBotId());
+        // Remove bossbar
+        session.removeHud();
+
+        // Remove bot (on the bot's own thread, the player may already be elsewhere).
+        // Sessions loaded from disk only know the bot's id.
+        UUID botId = session.getBotId();
+        if (botId != null) {
+            sessionsByBot.remove(botId);
+            Entity bot = session.getBot() != null ? session.getBot() : Bukkit.getEntity(botId);
             if (bot != null) {
-                bot.remove();
+                bot.getScheduler().run(WaveDefensePlugin.getInstance(), task -> bot.remove(), null);
             }
         }
 
-        // Remove arena blocks
-        Location center = session.getArenaCenter();
-        if (center != null) {
-            int cx = center.getBlockX();
-            int cy = center.getBlockY();
-            int cz = center.getBlockZ();
-            int radius = 20;
-
-            // Remove floor and light layer
-            for (int dx = -radius; dx <= radius; dx++) {
-                for (int dz = -radius; dz <= radius; dz++) {
-                    arenaWorld.getBlockAt(cx + dx, cy, cz + dz).setType(Material.AIR);
-                    arenaWorld.getBlockAt(cx + dx, cy - 1, cz + dz).setType(Material.AIR);
-                }
-            }
-            // Remove walls (50 blocks high)
-            for (int dx = -radius; dx <= radius; dx++) {
-                for (int dy = 1; dy <= 50; dy++) {
-                    arenaWorld.getBlockAt(cx + dx, cy + dy, cz - radius).setType(Material.AIR);
-                    arenaWorld.getBlockAt(cx + dx, cy + dy, cz + radius).setType(Material.AIR);
-                    arenaWorld.getBlockAt(cx - radius, cy + dy, cz + dx).setType(Material.AIR);
-                    arenaWorld.getBlockAt(cx + radius, cy + dy, cz + dx).setType(Material.AIR);
-                }
-            }
-            // Remove ceiling
-            for (int dx = -radius; dx <= radius; dx++) {
-                for (int dz = -radius; dz <= radius; dz++) {
-                    arenaWorld.getBlockAt(cx + dx, cy + 51, cz + dz).setType(Material.AIR);
-                }
-            }
+        // Return the arena to the pool. Sessions from before a restart have no slot -
+        // their arena was discarded together with the arena world regions.
+        if (session.getSlot() != null) {
+            WaveDefensePlugin.getInstance().getArenaPool().release(session.getSlot());
         }
 
         // Restore player inventory and stats
+        ArenaBorder.remove(player);
         session.restore(player);
 
         // Teleport to lobby
         if (teleportToLobby) {
             teleportToLobby(player);
         }
+        perf.record(PerfMonitor.Phase.ARENA_CLEANUP, start);
     }
 
     private void teleportToLobby(Player player) {
@@ -441,228 +475,149 @@ public class ArenaManager {
 
         // Default lobby spawn at 0, 101, 0
         Location lobbySpawn = new Location(lobbyWorld, 0.5, 102, 0.5, 0, 0);
-        player.teleport(lobbySpawn);
-        player.setVelocity(player.getVelocity().zero());
+        player.teleportAsync(lobbySpawn).thenRun(() -> player.setVelocity(player.getVelocity().zero()));
     }
 
-    private int endermanCleanupTimer = 0;
-    private int tickCounter = 0;
+    /**
+     * Ticks one PvE arena session; called by the SessionEngine while the player is online.
+     * Returns false once the fight is over.
+     */
+    boolean tickSession(ArenaSession session, long now) {
+        UUID playerId = session.getPlayerId();
+        Player player = session.getPlayer();
+        if (player == null) {
+            return false;
+        }
 
-    public void tick(World world) {
-        // Only process for the arena world
-        if (!ARENA_WORLD_NAME.equals(world.getName())) {
-            return;
+        Location sessionCenter = session.getArenaCenter();
+        World world = sessionCenter.getWorld();
+
+        // Arena still being built - show progress while the player waits in the lobby
+        if (!session.isArenaReady()) {
+            session.getHud().showBuildProgress((int) (session.getSlot().getProgress() * 100), now);
+            return true;
         }
 
-        tickCounter++;
-
-        // Remove endermen from active arenas (every 2 seconds instead of every tick)
-        endermanCleanupTimer++;
-        if (endermanCleanupTimer >= 40) {
-            endermanCleanupTimer = 0;
-            for (ArenaSession session : activeSessions.values()) {
-                Location center = session.getArenaCenter();
-                if (center != null && center.getWorld() != null && center.getWorld().equals(world)) {
-                    int cx = center.getBlockX();
-                    int cy = center.getBlockY();
-                    int cz = center.getBlockZ();
-
-                    // Get all endermen in the world and filter by distance
-                    for (Enderman enderman : world.getEntitiesByClass(Enderman.class)) {
-                        double distSq = enderman.getLocation().distanceSquared(center);
-                        if (distSq < 625) { // 25^2
-                            enderman.remove();
-                        }
-                    }
-                }
-            }
+        // Warmup phase - the countdown itself runs from the timer wheel
+        if (!session.isWarmupComplete()) {
+            return true;
         }
 
-        // Collect sessions to remove after iteration (avoids ConcurrentModificationException)
-        List<UUID> toRemove = null;
+        // Keep the player inside the virtual border
+        ArenaBorder.clamp(player, sessionCenter);
 
-        for (Map.Entry<UUID, ArenaSession> entry : activeSessions.entrySet()) {
-            UUID playerId = entry.getKey();
-            ArenaSession session = entry.getValue();
+        // Bot death and removal arrive through entity events; the bot handle is null until the
+        // bot was spawned on the arena region (or while its chunk reloads)
+        boolean botDead = session.isBotDefeated();
+        Zombie bot = session.getBot();
+        if (!botDead && bot == null) {
+            return true;
+        }
 
-            Player player = Bukkit.getPlayer(playerId);
-            if (player == null || !player.isOnline()) {
-                continue;
+        if (!botDead) {
+            // The bot's AI runs in the BotSystem from the first fight tick on; attaching again
+            // is a no-op, and restarts it after a chunk reload on Folia
+            BotAI botAI = session.getBotAI();
+            if (botAI != null) {
+                WaveDefensePlugin.getInstance().getBotSystem().attach(botAI);
             }
 
-            // Check if this session belongs to this world
-            Location sessionCenter = session.getArenaCenter();
-            if (sessionCenter == null || sessionCenter.getWorld() == null || !sessionCenter.getWorld().equals(world)) {
-                continue;
-            }
+            ArenaBorder.clamp(bot, sessionCenter);
+            session.trackCombat((float) player.getHealth(), (float) bot.getHealth());
 
-            // Handle warmup phase
-            if (!session.isWarmupComplete()) {
-                session.tickWarmup();
-                int warmupTicks = session.getWarmupTicks();
-                int seconds = (warmupTicks / 20) + 1;
+            // The HUD only sends packets when a shown value changed
+            HudRenderer hud = session.getHud();
+            hud.updateBotHealth(bot.getHealth(), bot.getAttribute(Attribute.MAX_HEALTH).getValue());
+            hud.showCombat(session.getPlayerHits(), session.getBotHits(),
+                    botAI != null ? botAI.getComboCount() : 0, now);
+        }
 
-                if (warmupTicks % 20 == 0 && warmupTicks > 0) {
-                    NamedTextColor color = seconds == 3 ? NamedTextColor.GREEN :
-                            seconds == 2 ? NamedTextColor.YELLOW :
-                                    NamedTextColor.RED;
+        if (botDead) {
+            // Player won!
+            Title.Times winTimes = Title.Times.times(
+                    Duration.ofMillis(5 * 50),
+                    Duration.ofMillis(60 * 50),
+                    Duration.ofMillis(20 * 50)
+            );
+            Messages messages = WaveDefensePlugin.getInstance().getMessages();
+            player.showTitle(Title.title(
+                    messages.render(player, Message.ARENA_VICTORY_TITLE),
+                    messages.render(player, Message.ARENA_VICTORY_SUBTITLE, session.getKit().getName()),
+                    winTimes));
 
-                    player.sendActionBar(Component.text("\u23F1 Kampf beginnt in " + seconds + "...")
-                            .color(color));
+            // Show combat stats
+            messages.send(player, Message.ARENA_VICTORY_STATS, session.getFightDurationFormatted(),
+                    session.getPlayerHits(), session.getBotHits(),
+                    session.getPlayerDamageDealt() / 2, session.getPlayerDamageTaken() / 2);
 
-                    world.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_HAT, 1.0f, 1.0f);
-                }
+            world.playSound(player.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
 
-                if (warmupTicks == 0) {
-                    // FIGHT! title
-                    Title.Times fightTimes = Title.Times.times(
-                            Duration.ofMillis(0),
-                            Duration.ofMillis(20 * 50),
-                            Duration.ofMillis(10 * 50)
-                    );
-                    player.showTitle(Title.title(
-                            Component.text("FIGHT!")
-                                    .color(NamedTextColor.RED)
-                                    .decorate(TextDecoration.BOLD),
-                            Component.empty(),
-                            fightTimes));
-
-                    world.playSound(player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 0.5f, 1.5f);
-                }
+            // Track stats
+            PlayerStats.addWin(playerId);
 
-                continue;
-            }
+            cleanupArena(player, session, true);
+            activeSessions.remove(playerId);
+            ArenaDataStorage.deletePlayerData(playerId);
+            return false;
+        }
 
-            // Tick bot AI
-            BotAI botAI = session.getBotAI();
-            if (botAI != null) {
-                botAI.tick();
-            }
+        // Check if player died
+        if (player.isDead()) {
+            // Show defeat screen
+            WaveDefensePlugin.getInstance().getMessages().send(player, Message.ARENA_DEFEAT_STATS,
+                    session.getFightDurationFormatted(), session.getPlayerHits(), session.getBotHits());
 
-            // Single entity lookup for bot
-            boolean botDead = true;
-            if (session.getBotId() != null) {
-                Entity botEntity = Bukkit.getEntity(session.getBotId());
-                if (botEntity instanceof Zombie bot && !bot.isDead()) {
-                    botDead = false;
-                    float healthPercent = (float) (bot.getHealth() / bot.getAttribute(Attribute.MAX_HEALTH).getValue());
-                    session.updateBossBar(healthPercent, session.getKit().getName() + " Bot");
-                    session.trackCombat((float) player.getHealth(), (float) bot.getHealth());
-
-                    // Show combat info on actionbar every second
-                    if (tickCounter % 20 == 0) {
-                        BotAI ai = session.getBotAI();
-                        int combo = ai != null ? ai.getComboCount() : 0;
-                        String comboText = combo > 0 ? " Combo: " + combo + "x" : "";
-
-                        player.sendActionBar(
-                                Component.text("Treffer: ").color(NamedTextColor.GREEN)
-                                        .append(Component.text(String.valueOf(session.getPlayerHits())).color(NamedTextColor.WHITE))
-                                        .append(Component.text(" | ").color(NamedTextColor.GRAY))
-                                        .append(Component.text("Erhalten: ").color(NamedTextColor.RED))
-                                        .append(Component.text(String.valueOf(session.getBotHits())).color(NamedTextColor.WHITE))
-                                        .append(Component.text(comboText).color(NamedTextColor.GOLD))
-                        );
-                    }
-                }
-            }
+            // Track stats
+            PlayerStats.addLoss(playerId);
+            // Will be cleaned up on respawn
+        }
 
-            if (botDead) {
-                // Player won!
-                Title.Times winTimes = Title.Times.times(
-                        Duration.ofMillis(5 * 50),
-                        Duration.ofMillis(60 * 50),
-                        Duration.ofMillis(20 * 50)
-                );
-                player.showTitle(Title.title(
-                        Component.text("\u2694 SIEG! \u2694")
-                                .color(NamedTextColor.GOLD)
-                                .decorate(TextDecoration.BOLD),
-                        Component.text(session.getKit().getName() + " Bot besiegt!")
-                                .color(NamedTextColor.GREEN),
-                        winTimes));
-
-                // Show combat stats
-                player.sendMessage(Component.empty());
-                player.sendMessage(Component.text("=== KAMPFSTATISTIKEN ===")
-                        .color(NamedTextColor.GOLD)
-                        .decorate(TextDecoration.BOLD));
-                player.sendMessage(Component.text("Kampfdauer: " + session.getFightDurationFormatted())
-                        .color(NamedTextColor.YELLOW));
-                player.sendMessage(Component.text("Deine Treffer: " + session.getPlayerHits())
-                        .color(NamedTextColor.GREEN));
-                player.sendMessage(Component.text("Erhaltene Treffer: " + session.getBotHits())
-                        .color(NamedTextColor.RED));
-                player.sendMessage(Component.text(String.format("Schaden ausgeteilt: %.1f \u2764", session.getPlayerDamageDealt() / 2))
-                        .color(NamedTextColor.GREEN));
-                player.sendMessage(Component.text(String.format("Schaden erhalten: %.1f \u2764", session.getPlayerDamageTaken() / 2))
-                        .color(NamedTextColor.RED));
-                player.sendMessage(Component.empty());
-
-                world.playSound(player.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
-
-                // Track stats
-                PlayerStats.addWin(playerId);
-
-                cleanupArena(player, session, true);
-                if (toRemove == null) toRemove = new ArrayList<>();
-                toRemove.add(playerId);
-                ArenaDataStorage.deletePlayerData(playerId);
+        return true;
+    }
+
+    public void onPlayerJoin(Player player) {
+        UUID playerId = player.getUniqueId();
+
+        // Session of this server run - the player only reconnected
+        ArenaSession session = activeSessions.get(playerId);
+        if (session != null) {
+            session.setPlayer(player);
+            if (session.getBotAI() != null) {
+                session.getBotAI().setTarget(player);
+            }
+            WaveDefensePlugin.getInstance().getSessionEngine().register(session);
+            WaveDefensePlugin.getInstance().getMessages().send(player, Message.ARENA_REJOIN);
+
+            // Arena got ready while the player was offline - start the fight now
+            if (!session.isFightStarted() && session.getSlot() != null) {
+                session.getSlot().whenReady(() -> player.getScheduler().run(WaveDefensePlugin.getInstance(),
+                        task -> beginFight(playerId, session), null));
+                return;
             }
 
-            // Check if player died
-            if (player.isDead()) {
-                // Show defeat screen
-                player.sendMessage(Component.empty());
-                player.sendMessage(Component.text("=== NIEDERLAGE ===")
-                        .color(NamedTextColor.RED)
-                        .decorate(TextDecoration.BOLD));
-                player.sendMessage(Component.text("Kampfdauer: " + session.getFightDurationFormatted())
-                        .color(NamedTextColor.YELLOW));
-                player.sendMessage(Component.text("Deine Treffer: " + session.getPlayerHits())
-                        .color(NamedTextColor.GREEN));
-                player.sendMessage(Component.text("Erhaltene Treffer: " + session.getBotHits())
-                        .color(NamedTextColor.RED));
-                player.sendMessage(Component.empty());
-
-                // Track stats
-                PlayerStats.addLoss(playerId);
-                // Will be cleaned up on respawn
+            // Per-player border is gone after a reconnect
+            Location arenaCenter = session.getArenaCenter();
+            if (session.isArenaReady() && session.getBotId() != null && arenaCenter != null) {
+                ArenaBorder.apply(player, arenaCenter);
             }
-        }
 
-        // Remove finished sessions after iteration
-        if (toRemove != null) {
-            for (UUID id : toRemove) {
-                activeSessions.remove(id);
+            // Respawn bot if it was lost (its chunks are held, so a missing handle means it is gone)
+            if (arenaCenter != null && arenaCenter.getWorld() != null && session.getBotId() != null
+                    && !session.isBotDefeated() && session.getBot() == null) {
+                Bukkit.getRegionScheduler().execute(WaveDefensePlugin.getInstance(), arenaCenter, () ->
+                        spawnBot(player, session, session.getKit(), session.getDifficulty(), arenaCenter, arenaCenter.getWorld()));
             }
+            return;
         }
-    }
 
-    public void onPlayerJoin(Player player) {
-        UUID playerId = player.getUniqueId();
-
-        // Check if player has saved arena data
+        // Saved session from before a restart - its arena no longer exists, give the items back
         if (ArenaDataStorage.hasPlayerData(playerId)) {
-            ArenaSession session = ArenaDataStorage.loadPlayerData(playerId);
+            session = ArenaDataStorage.loadPlayerData(playerId);
             if (session != null) {
-                activeSessions.put(playerId, session);
-
-                player.sendMessage(Component.text("Du hast noch eine aktive Arena!")
-                        .color(NamedTextColor.YELLOW));
-                player.sendMessage(Component.text("Nutze /wd leave um sie zu verlassen und deine Items zur\u00FCckzubekommen.")
-                        .color(NamedTextColor.GRAY));
-
-                // Respawn bot if needed
-                Location arenaCenter = session.getArenaCenter();
-                if (arenaCenter != null && arenaCenter.getWorld() != null && session.getBotId() != null) {
-                    Entity bot = Bukkit.getEntity(session.getBotId());
-                    if (bot == null) {
-                        // Bot was lost, respawn it
-                        spawnBot(player, session, session.getKit(), session.getDifficulty(), arenaCenter, arenaCenter.getWorld());
-                    }
-                }
+                cleanupArena(player, session, false);
+                WaveDefensePlugin.getInstance().getMessages().send(player, Message.ARENA_ABORTED);
             }
+            ArenaDataStorage.deletePlayerData(playerId);
         }
     }
 
@@ -685,8 +640,7 @@ public class ArenaManager {
         Difficulty difficulty = lastPlayedDifficulty.get(playerId);
 
         if (kit == null || difficulty == null) {
-            player.sendMessage(Component.text("Keine vorherige Arena gefunden! Nutze /wd arena <kit>")
-                    .color(NamedTextColor.RED));
+            WaveDefensePlugin.getInstance().getMessages().send(player, Message.ARENA_NO_PREVIOUS);
             return false;
         }
 
@@ -706,19 +660,49 @@ public class ArenaManager {
         ArenaSession session = activeSessions.get(playerId);
         if (session == null) return;
 
-        player.sendMessage(Component.text("NIEDERLAGE!").color(NamedTextColor.RED).decorate(TextDecoration.BOLD));
+        WaveDefensePlugin.getInstance().getMessages().send(player, Message.DEFEAT);
         PlayerStats.addLoss(playerId);
 
         // Cleanup will happen on respawn
     }
 
     public BotAI getBotAIForEntity(UUID entityId) {
-        for (ArenaSession session : activeSessions.values()) {
-            if (session.getBotAI() != null && session.getBotId() != null && session.getBotId().equals(entityId)) {
-                return session.getBotAI();
+        ArenaSession session = sessionsByBot.get(entityId);
+        return session != null ? session.getBotAI() : null;
+    }
+
+    /**
+     * Called from EntityDeathEvent/EntityRemoveEvent: marks the session's bot as defeated,
+     * the session's next tick ends the fight.
+     */
+    public void onBotGone(Entity entity) {
+        ArenaSession session = sessionsByBot.get(entity.getUniqueId());
+        if (session != null) {
+            session.setBotDefeated();
+        }
+    }
+
+    /**
+     * Called when a bot's chunk is unloaded; the stale handle is dropped until it loads again.
+     */
+    public void onBotUnloaded(Entity entity) {
+        ArenaSession session = sessionsByBot.get(entity.getUniqueId());
+        if (session != null && session.getBot() == entity) {
+            session.setBot(null);
+        }
+    }
+
+    /**
+     * Called from EntityAddToWorldEvent: refreshes the handles after the bot's chunk was reloaded.
+     */
+    public void onBotLoaded(Entity entity) {
+        ArenaSession session = sessionsByBot.get(entity.getUniqueId());
+        if (session != null && entity instanceof Zombie bot) {
+            session.setBot(bot);
+            if (session.getBotAI() != null) {
+                session.getBotAI().setBot(bot);
             }
         }
-        return null;
     }
 
     public void handleRespawn(Player player) {
@@ -0,0 +1,406 @@
+package com.wavedefense.arena;
+
+import com.wavedefense.WaveDefensePlugin;
+import com.wavedefense.perf.PerfMonitor;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a number of ready-built arenas in the arena world.
+ * Matches lease a slot and return it when they end; only the player-touched state is
+ * reset on return. The pool grows and shrinks with the peak demand of the last minutes.
+ *
+ * Slot chunks are preloaded with getChunkAtAsync and held by plugin chunk tickets while a
+ * slot is in use and for a while after, so building and entering an arena never waits
+ * for chunk I/O on the main thread. Tickets of slots that stay idle are released.
+ *
+ * The pool is shared by all regions on Folia: its bookkeeping is synchronized, while
+ * everything that touches blocks or entities of a slot runs on the region owning that slot.
+ */
+public class ArenaPool {
+    private static final int DEMAND_BUCKET_TICKS = 1200; // 1 minute
+    private static final int DEMAND_BUCKETS = 10;
+    private static final int MAINTENANCE_INTERVAL = 100;
+    private static final int CHUNK_SPAN_X = (ArenaTemplate.SIZE_X + 15) >> 4;
+    private static final int CHUNK_SPAN_Z = (ArenaTemplate.SIZE_Z + 15) >> 4;
+
+    private final WaveDefensePlugin plugin;
+    private final List<ArenaSlot> slots = new ArrayList<>();
+    private final Map<Integer, ArenaSlot> slotsByCell = new ConcurrentHashMap<>();
+    private volatile ArenaSlotAllocator allocator;
+    private volatile ArenaTemplate template;
+
+    // Peak number of leased slots per minute, for the last DEMAND_BUCKETS minutes
+    private final int[] demandPeaks = new int[DEMAND_BUCKETS];
+    private int demandBucket = 0;
+    private long tickCounter = 0;
+
+    public ArenaPool(WaveDefensePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Builds the minimum number of slots, spread over the next ticks by the build queue.
+     */
+    public synchronized void warmUp() {
+        int min = BotConfig.getInstance().arenaPoolMinSize;
+        while (slots.size() < min) {
+            createSlot();
+        }
+    }
+
+    /**
+     * Leases a slot for a match. Prefers the lowest free built slot, then one already being built,
+     * and only builds a new arena if neither exists. Use ArenaSlot.whenReady to wait for it.
+     */
+    public synchronized ArenaSlot lease() {
+        ArenaSlot free = null;
+        ArenaSlot building = null;
+        for (ArenaSlot slot : slots) {
+            if (slot.isFree() && (free == null || isBetterFreeSlot(slot, free))) {
+                free = slot;
+            } else if (building == null && !slot.isLeased() && slot.getState() == ArenaSlot.State.BUILDING) {
+                building = slot;
+            }
+        }
+        ArenaSlot chosen = free != null ? free : building;
+        if (chosen == null) {
+            chosen = createSlot();
+        }
+        chosen.setLeased(true);
+        recordDemand();
+
+        // Idle slot whose chunks were released - load them again before it is ready
+        if (!chosen.hasChunkTickets()) {
+            acquireChunks(chosen, () -> { });
+        }
+        return chosen;
+    }
+
+    // Slots with loaded chunks first, then the lowest cell
+    private boolean isBetterFreeSlot(ArenaSlot candidate, ArenaSlot current) {
+        if (candidate.hasChunkTickets() != current.hasChunkTickets()) {
+            return candidate.hasChunkTickets();
+        }
+        return candidate.getIndex() < current.getIndex();
+    }
+
+    /**
+     * Returns a slot to the pool. Leftover entities are removed and only the blocks recorded
+     * in the slot's journal are written back to the template.
+     */
+    public synchronized void release(ArenaSlot slot) {
+        if (!slot.isLeased()) return;
+        slot.setLeased(false);
+        slot.setLastReleased(tickCounter);
+
+        // Still being built - it simply becomes free once the build finishes
+        if (slot.getState() != ArenaSlot.State.BUILT) return;
+
+        // Entities and blocks belong to the slot's region
+        slot.setState(ArenaSlot.State.RESETTING);
+        Location center = slot.getCenter();
+        Bukkit.getRegionScheduler().execute(plugin, center, () -> resetSlot(slot, center));
+    }
+
+    /**
+     * Removes leftover entities and writes the journaled blocks back; the slot is free afterwards.
+     */
+    private void resetSlot(ArenaSlot slot, Location center) {
+        PerfMonitor perf = plugin.getPerfMonitor();
+        long start = perf.start();
+        World world = center.getWorld();
+        if (world != null) {
+            for (Entity entity : world.getNearbyEntities(getTemplate().getBounds(center))) {
+                if (!(entity instanceof Player)) {
+                    entity.remove();
+                }
+            }
+        }
+        perf.record(PerfMonitor.Phase.ARENA_CLEANUP, start);
+
+        // Nothing was changed - the slot is free right away
+        if (slot.getJournal().size() == 0) {
+            slot.setState(ArenaSlot.State.BUILT);
+            return;
+        }
+
+        ArenaBuildJob job = getTemplate().replay(center, slot.getJournal());
+        slot.setJob(job);
+        plugin.getBuildQueue().submit(job.onComplete(() -> slot.setState(ArenaSlot.State.BUILT)));
+    }
+
+    /**
+     * Returns the slot whose cell contains the location, or null. A grid lookup, independent of
+     * the number of arenas.
+     */
+    public ArenaSlot getSlotAt(Location location) {
+        ArenaSlotAllocator allocator = this.allocator;
+        if (allocator == null || location.getWorld() != allocator.getWorld()) return null;
+
+        int cell = allocator.getCellAt(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        return cell < 0 ? null : slotsByCell.get(cell);
+    }
+
+    /**
+     * Records a block change in the journal of the slot that contains the block, if any.
+     */
+    public void recordChange(Block block) {
+        ArenaSlotAllocator allocator = this.allocator;
+        if (allocator == null || block.getWorld() != allocator.getWorld()) return;
+
+        int cell = allocator.getCellAt(block.getX(), block.getY(), block.getZ());
+        if (cell < 0) return;
+        ArenaSlot slot = slotsByCell.get(cell);
+        if (slot == null) return;
+
+        slot.getJournal().record(
+                block.getX() - allocator.getOriginX(cell),
+                block.getY() - allocator.getOriginY(cell),
+                block.getZ() - allocator.getOriginZ(cell));
+    }
+
+    public synchronized void tick() {
+        tickCounter++;
+
+        if (tickCounter % DEMAND_BUCKET_TICKS == 0) {
+            demandBucket = (demandBucket + 1) % DEMAND_BUCKETS;
+            demandPeaks[demandBucket] = countLeased();
+        }
+
+        if (tickCounter % MAINTENANCE_INTERVAL == 0) {
+            resize();
+            releaseIdleChunks();
+        }
+    }
+
+    /**
+     * Drops the chunk tickets of free slots that have not been used for arenaChunkKeepTicks.
+     */
+    private void releaseIdleChunks() {
+        long keepTicks = BotConfig.getInstance().arenaChunkKeepTicks;
+        for (ArenaSlot slot : slots) {
+            if (slot.isFree() && slot.hasChunkTickets() && tickCounter - slot.getLastReleased() > keepTicks) {
+                releaseChunks(slot);
+            }
+        }
+    }
+
+    /**
+     * Loads all chunks of a slot asynchronously, adds plugin chunk tickets and then runs the callback.
+     */
+    private void acquireChunks(ArenaSlot slot, Runnable then) {
+        if (slot.hasChunkTickets()) {
+            then.run();
+            return;
+        }
+
+        World world = getAllocator().getWorld();
+        int baseX = getAllocator().getOriginX(slot.getIndex()) >> 4;
+        int baseZ = getAllocator().getOriginZ(slot.getIndex()) >> 4;
+
+        List<CompletableFuture<Chunk>> loads = new ArrayList<>();
+        for (int cx = 0; cx < CHUNK_SPAN_X; cx++) {
+            for (int cz = 0; cz < CHUNK_SPAN_Z; cz++) {
+                loads.add(world.getChunkAtAsync(baseX + cx, baseZ + cz));
+            }
+        }
+
+        // getChunkAtAsync completes on the thread owning the chunk (main thread on Paper)
+        CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).thenRun(() -> {
+            for (CompletableFuture<Chunk> load : loads) {
+                load.join().addPluginChunkTicket(plugin);
+            }
+            slot.setChunkTickets(true);
+            then.run();
+        });
+    }
+
+    private synchronized void releaseChunks(ArenaSlot slot) {
+        if (!slot.hasChunkTickets()) return;
+
+        World world = getAllocator().getWorld();
+        int baseX = getAllocator().getOriginX(slot.getIndex()) >> 4;
+        int baseZ = getAllocator().getOriginZ(slot.getIndex()) >> 4;
+        Runnable remove = () -> {
+            for (int cx = 0; cx < CHUNK_SPAN_X; cx++) {
+                for (int cz = 0; cz < CHUNK_SPAN_Z; cz++) {
+                    world.removePluginChunkTicket(baseX + cx, baseZ + cz, plugin);
+                }
+            }
+        };
+        // Tickets are changed on the region owning the slot (all its chunks share one region)
+        if (WaveDefensePlugin.isFolia()) {
+            Bukkit.getRegionScheduler().execute(plugin, world, baseX, baseZ, remove);
+        } else {
+            remove.run();
+        }
+        slot.setChunkTickets(false);
+    }
+
+    /**
+     * Unloads all slot chunks without saving them and saves the rest of the arena world (the lobby).
+     * The arena world has autosave disabled, so this is the only place it gets written.
+     */
+    public synchronized void shutdown() {
+        // Folia cannot unload or save worlds from plugins; the regions are pruned on the next start
+        if (allocator == null || WaveDefensePlugin.isFolia()) return;
+
+        World world = allocator.getWorld();
+        for (ArenaSlot slot : slots) {
+            releaseChunks(slot);
+            int baseX = allocator.getOriginX(slot.getIndex()) >> 4;
+            int baseZ = allocator.getOriginZ(slot.getIndex()) >> 4;
+            for (int cx = 0; cx < CHUNK_SPAN_X; cx++) {
+                for (int cz = 0; cz < CHUNK_SPAN_Z; cz++) {
+                    world.unloadChunk(baseX + cx, baseZ + cz, false);
+                }
+            }
+        }
+        world.save();
+    }
+
+    /**
+     * Grows or shrinks the pool by one slot per call towards the demand-based target size.
+     */
+    private void resize() {
+        int target = getTargetSize();
+        int live = 0;
+        for (ArenaSlot slot : slots) {
+            if (slot.getState() != ArenaSlot.State.REMOVING) live++;
+        }
+
+        if (live < target) {
+            createSlot();
+        } else if (live > target) {
+            // Remove the free slot that has been idle the longest
+            ArenaSlot oldest = null;
+            for (ArenaSlot slot : slots) {
+                if (slot.isFree() && (oldest == null || slot.getLastReleased() < oldest.getLastReleased())) {
+                    oldest = slot;
+                }
+            }
+            if (oldest != null) {
+                removeSlot(oldest);
+            }
+        }
+    }
+
+    /**
+     * Peak concurrent leases over the demand window plus spare slots, clamped to the configured range.
+     */
+    public synchronized int getTargetSize() {
+        BotConfig config = BotConfig.getInstance();
+        int peak = 0;
+        for (int p : demandPeaks) {
+            peak = Math.max(peak, p);
+        }
+        int target = peak + config.arenaPoolSpareSlots;
+        return Math.max(config.arenaPoolMinSize, Math.min(config.arenaPoolMaxSize, target));
+    }
+
+    private void recordDemand() {
+        demandPeaks[demandBucket] = Math.max(demandPeaks[demandBucket], countLeased());
+    }
+
+    private int countLeased() {
+        int leased = 0;
+        for (ArenaSlot slot : slots) {
+            if (slot.isLeased()) leased++;
+        }
+        return leased;
+    }
+
+    /**
+     * Returns the cell allocator for the arena world, creating the world on first use.
+     */
+    public ArenaSlotAllocator getAllocator() {
+        ArenaSlotAllocator cells = allocator;
+        if (cells == null) {
+            synchronized (this) {
+                if (allocator == null) {
+                    World world = ArenaManager.getOrCreateArenaWorld();
+                    if (world != null) {
+                        allocator = new ArenaSlotAllocator(world, true);
+                    } else {
+                        // No void world (e.g. on Folia): keep the arenas in one layer above the terrain
+                        world = Bukkit.getWorlds().get(0);
+                        plugin.getLogger().warning("Arena world unavailable, building arenas in "
+                                + world.getName() + " at a single height instead");
+                        allocator = new ArenaSlotAllocator(world, false);
+                    }
+                }
+                cells = allocator;
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Returns the template all slots are built from. Chosen once from the containment mode,
+     * so every slot of a run has the same layout.
+     */
+    public ArenaTemplate getTemplate() {
+        ArenaTemplate active = template;
+        if (active == null) {
+            synchronized (this) {
+                if (template == null) {
+                    template = ArenaTemplate.forContainment();
+                }
+                active = template;
+            }
+        }
+        return active;
+    }
+
+    private ArenaSlot createSlot() {
+        ArenaSlotAllocator cells = getAllocator();
+        int index = cells.allocate();
+        Location center = cells.getCenter(index);
+        ArenaSlot slot = new ArenaSlot(index, center);
+        slot.setLastReleased(tickCounter);
+        slots.add(slot);
+        slotsByCell.put(index, slot);
+
+        ArenaBuildJob job = getTemplate().paste(center);
+        slot.setJob(job);
+        acquireChunks(slot, () -> plugin.getBuildQueue().submit(
+                job.onComplete(() -> slot.setState(ArenaSlot.State.BUILT))));
+        return slot;
+    }
+
+    private void removeSlot(ArenaSlot slot) {
+        slot.setState(ArenaSlot.State.REMOVING);
+        ArenaBuildJob job = getTemplate().clear(slot.getCenter());
+        slot.setJob(job);
+        slot.getJournal().drain();
+        acquireChunks(slot, () -> plugin.getBuildQueue().submit(job.onComplete(() -> {
+            synchronized (this) {
+                releaseChunks(slot);
+                slots.remove(slot);
+                slotsByCell.remove(slot.getIndex());
+                getAllocator().free(slot.getIndex());
+            }
+        })));
+    }
+
+    public synchronized int getSize() {
+        return slots.size();
+    }
+
+    public synchronized int getLeasedCount() {
+        return countLeased();
+    }
+}
@@ -1,11 +1,13 @@
 package com.wavedefense.arena;
 
-import org.bukkit.Bukkit;
+import com.wavedefense.WaveDefensePlugin;
+import com.wavedefense.bot.Difficulty;
+
 import org.bukkit.Location;
-import org.bukkit.boss.BarColor;
-import org.bukkit.boss.BarStyle;
-import org.bukkit.boss.BossBar;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
+import org.bukkit.entity.Zombie;
 import org.bukkit.inventory.ItemStack;
 
 import net.kyori.adventure.text.Component;
@@ -16,7 +18,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-public class ArenaSession {
+public class ArenaSession implements TickableSession {
     private final UUID playerId;
     private final Kit kit;
     private final Difficulty difficulty;
@@ -26,14 +28,22 @@ public class ArenaSession {
     private final ItemStack originalOffhand;
     private final float originalHealth;
     private final int originalFoodLevel;
-    private UUID botId;
-    private BotAI botAI;
+    private volatile UUID botId;
+    private volatile BotAI botAI;
+    // Direct handles, so ticks need no UUID lookups. The player handle is replaced on reconnect,
+    // the bot handle when its chunk is reloaded (EntityAddToWorldEvent).
+    private volatile Player player;
+    private volatile Zombie bot;
+    private volatile boolean botDefeated = false;
     private Location arenaCenter;
+    private ArenaSlot slot;
 
     // Combat feedback
-    private BossBar bossBar;
+    private final HudRenderer hud;
+    // Sessions loaded from disk take it from the config on first use (-1 until then)
     private int warmupTicks;
-    private boolean warmupComplete = false;
+    // TimerWheel tick at which the warmup ends, -1 until the fight was set up
+    private volatile long warmupEndsAt = -1;
     private long fightStartTime = 0;
     private int playerHits = 0;
     private int botHits = 0;
@@ -47,6 +57,8 @@ public class ArenaSession {
     // Constructor for new session from player
     public ArenaSession(Player player, Kit kit, Difficulty difficulty) {
         this.playerId = player.getUniqueId();
+        this.player = player;
+        this.hud = new HudRenderer(player, kit.getName());
         this.kit = kit;
         this.difficulty = difficulty;
         this.originalLocation = player.getLocation().clone();
@@ -78,6 +90,7 @@ public class ArenaSession {
                         List<ItemStack> inventory, List<ItemStack> armor, ItemStack offhand,
                         float health, int food) {
         this.playerId = playerId;
+        this.hud = null;
         this.kit = kit;
         this.difficulty = difficulty;
         this.originalLocation = originalLocation;
@@ -86,7 +99,7 @@ public class ArenaSession {
         this.originalOffhand = offhand;
         this.originalHealth = health;
         this.originalFoodLevel = food;
-        this.warmupTicks = BotConfig.getInstance().warmupTicks;
+        this.warmupTicks = -1;
     }
 
     public void restore(Player player) {
@@ -115,7 +128,7 @@ public class ArenaSession {
         player.setFoodLevel(originalFoodLevel);
 
         // Teleport back to original location
-        player.teleport(originalLocation);
+        player.teleportAsync(originalLocation);
     }
 
     // Getters
@@ -163,6 +176,46 @@ public class ArenaSession {
         this.botId = botId;
     }
 
+    /**
+     * The player, or null while they are offline.
+     */
+    public Player getPlayer() {
+        Player player = this.player;
+        return player != null && player.isOnline() ? player : null;
+    }
+
+    public void setPlayer(Player player) {
+        this.player = player;
+        if (hud != null) {
+            hud.setPlayer(player);
+        }
+    }
+
+    /**
+     * The bot entity, or null while it is not loaded (or not spawned yet).
+     */
+    public Zombie getBot() {
+        return bot;
+    }
+
+    public void setBot(Zombie bot) {
+        this.bot = bot;
+        if (bot != null) {
+            this.botId = bot.getUniqueId();
+        }
+    }
+
+    /**
+     * True once the bot died or was removed; set from the entity events.
+     */
+    public boolean isBotDefeated() {
+        return botDefeated;
+    }
+
+    public void setBotDefeated() {
+        this.botDefeated = true;
+    }
+
     public BotAI getBotAI() {
         return botAI;
     }
@@ -179,60 +232,60 @@ public class ArenaSession {
         this.arenaCenter = arenaCenter;
     }
 
-    // Bossbar methods
-    public void createBossBar(Player player) {
-        bossBar = Bukkit.createBossBar(
-            kit.getName() + " Bot",
-            BarColor.RED,
-            BarStyle.SOLID
-        );
-        bossBar.addPlayer(player);
-    }
-
-    public void updateBossBar(float healthPercent, String botName) {
-        if (bossBar != null) {
-            bossBar.setProgress(Math.max(0, Math.min(1, healthPercent)));
-            bossBar.setTitle(botName + " " + String.format("%.0f%%", healthPercent * 100));
-
-            // Update color based on health
-            if (healthPercent > 0.5f) {
-                bossBar.setColor(BarColor.GREEN);
-            } else if (healthPercent > 0.25f) {
-                bossBar.setColor(BarColor.YELLOW);
-            } else {
-                bossBar.setColor(BarColor.RED);
-            }
-        }
+    public ArenaSlot getSlot() {
+        return slot;
     }
 
-    public void removeBossBar() {
-        if (bossBar != null) {
-            bossBar.removeAll();
-            bossBar = null;
-        }
+    public void setSlot(ArenaSlot slot) {
+        this.slot = slot;
+    }
+
+    /**
+     * True once the arena blocks are in place. Sessions loaded from disk always have a built arena.
+     */
+    public boolean isArenaReady() {
+        return slot == null || slot.isReady();
     }
 
-    public BossBar getBossBar() {
-        return bossBar;
+    /**
+     * HUD of the fight, null for sessions loaded from disk.
+     */
+    HudRenderer getHud() {
+        return hud;
+    }
+
+    public void removeHud() {
+        if (hud != null) {
+            hud.remove();
+        }
     }
 
     // Warmup methods
     public boolean isWarmupComplete() {
-        return warmupComplete;
+        return warmupEndsAt >= 0 && WaveDefensePlugin.getInstance().getTimerWheel().now() >= warmupEndsAt;
     }
 
     public int getWarmupTicks() {
+        if (warmupTicks < 0) {
+            warmupTicks = BotConfig.getInstance().warmupTicks;
+        }
         return warmupTicks;
     }
 
-    public void tickWarmup() {
-        if (warmupTicks > 0) {
-            warmupTicks--;
-        }
-        if (warmupTicks <= 0 && !warmupComplete) {
-            warmupComplete = true;
-            fightStartTime = System.currentTimeMillis();
-        }
+    /**
+     * True once the player was moved into the arena and the warmup started.
+     */
+    public boolean isFightStarted() {
+        return warmupEndsAt >= 0;
+    }
+
+    /**
+     * Starts the warmup countdown; the fight begins warmupTicks later.
+     */
+    public void startWarmup(long now) {
+        int ticks = getWarmupTicks();
+        warmupEndsAt = now + ticks;
+        fightStartTime = System.currentTimeMillis() + ticks * 50L;
     }
 
     // Combat stats
@@ -273,7 +326,7 @@ public class ArenaSession {
 
     public long getFightDuration() {
         if (fightStartTime == 0) return 0;
-        return System.currentTimeMillis() - fightStartTime;
+        return Math.max(0, System.currentTimeMillis() - fightStartTime);
     }
 
     public String getFightDurationFormatted() {
@@ -283,4 +336,29 @@ public class ArenaSession {
         seconds = seconds % 60;
         return String.format("%d:%02d", minutes, seconds);
     }
+
+    @Override
+    public Mode getMode() {
+        return Mode.ARENA;
+    }
+
+    @Override
+    public World getWorld() {
+        return arenaCenter != null ? arenaCenter.getWorld() : null;
+    }
+
+    @Override
+    public Entity getOwner() {
+        return getPlayer();
+    }
+
+    @Override
+    public Location getAnchor() {
+        return arenaCenter;
+    }
+
+    @Override
+    public boolean tick(long now) {
+        return WaveDefensePlugin.getInstance().getArenaManager().tickSession(this, now);
+    }
 }
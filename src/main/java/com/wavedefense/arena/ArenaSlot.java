@@ -0,0 +1,129 @@
+package com.wavedefense.arena;
+
+import org.bukkit.Location;
+
+/**
+ * One arena position managed by the ArenaPool.
+ * A slot is either free (built and waiting), leased by a match, or busy with a build/reset job.
+ * The ready callback runs on whichever thread finished the slot; callers hop to their own scheduler.
+ */
+public class ArenaSlot {
+    enum State { BUILDING, BUILT, RESETTING, REMOVING }
+
+    private final int index;
+    private final Location center;
+    private final ArenaJournal journal = new ArenaJournal();
+    // Read from session ticks on any region, changed by the pool and build jobs
+    private volatile State state = State.BUILDING;
+    private volatile boolean leased = false;
+    private volatile boolean chunkTickets = false;
+    private volatile ArenaBuildJob job;
+    private Runnable onReady;
+    private volatile long lastReleased = 0;
+
+    ArenaSlot(int index, Location center) {
+        this.index = index;
+        this.center = center;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the arena center (floor level) of this slot.
+     */
+    public Location getCenter() {
+        return center.clone();
+    }
+
+    /**
+     * True when the arena blocks are in place and its chunks are loaded and held by a ticket.
+     */
+    public boolean isReady() {
+        return state == State.BUILT && chunkTickets;
+    }
+
+    /**
+     * Returns the build progress (0.0 - 1.0) while the slot is being built or reset.
+     */
+    public float getProgress() {
+        if (isReady() || job == null) return 1.0f;
+        return job.getProgress();
+    }
+
+    /**
+     * Runs the callback once the slot is ready - immediately if it already is.
+     */
+    public synchronized void whenReady(Runnable callback) {
+        if (isReady()) {
+            callback.run();
+        } else {
+            this.onReady = callback;
+        }
+    }
+
+    /**
+     * Blocks changed by players since the slot was last reset.
+     */
+    public ArenaJournal getJournal() {
+        return journal;
+    }
+
+    boolean isFree() {
+        return !leased && state == State.BUILT;
+    }
+
+    boolean isLeased() {
+        return leased;
+    }
+
+    synchronized void setLeased(boolean leased) {
+        this.leased = leased;
+        if (!leased) {
+            onReady = null;
+        }
+    }
+
+    State getState() {
+        return state;
+    }
+
+    synchronized void setState(State state) {
+        this.state = state;
+        fireReady();
+    }
+
+    boolean hasChunkTickets() {
+        return chunkTickets;
+    }
+
+    synchronized void setChunkTickets(boolean chunkTickets) {
+        this.chunkTickets = chunkTickets;
+        fireReady();
+    }
+
+    private void fireReady() {
+        if (isReady() && leased && onReady != null) {
+            Runnable callback = onReady;
+            onReady = null;
+            callback.run();
+        }
+    }
+
+    ArenaBuildJob getJob() {
+        return job;
+    }
+
+    void setJob(ArenaBuildJob job) {
+        this.job = job;
+    }
+
+    long getLastReleased() {
+        return lastReleased;
+    }
+
+    void setLastReleased(long lastReleased) {
+        this.lastReleased = lastReleased;
+    }
+}
@@ -0,0 +1,124 @@
+package com.wavedefense.arena;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.util.BoundingBox;
+
+import java.util.BitSet;
+
+/**
+ * Hands out arena cells on a chunk-aligned grid in the arena world.
+ *
+ * Each cell is 4x4 chunks wide and one 64-block layer high, so cells never overlap and the
+ * template origin always sits on a chunk section corner. Cells fill the layers of one column
+ * first, then the next column; a row holds 8 columns (one region file). The lowest free cell
+ * is always handed out first, keeping the arenas packed into a few already-loaded regions.
+ *
+ * Stacking layers is only safe in the dedicated void world. When the arenas have to share a
+ * normal world, every cell sits in a single layer with the floor at the old fixed arena height.
+ */
+public class ArenaSlotAllocator {
+    public static final int CELL_SIZE = 64;
+    public static final int LAYER_HEIGHT = 64;
+    private static final int COLUMNS_PER_ROW = 8;
+
+    // Grid starts in region x=2, well away from the lobby around 0/0
+    private static final int GRID_ORIGIN_X = 1024;
+    private static final int GRID_ORIGIN_Z = 0;
+
+    // Floor height of the arenas when they share a normal world
+    private static final int SHARED_FLOOR_Y = 100;
+
+    private final World world;
+    private final int minY;
+    private final int layers;
+    private final BitSet used = new BitSet();
+
+    /**
+     * @param dedicated true for the void arena world; false when the arenas fall back to a
+     *                  normal world with terrain, which limits the grid to one layer
+     */
+    public ArenaSlotAllocator(World world, boolean dedicated) {
+        this.world = world;
+        if (dedicated) {
+            this.minY = world.getMinHeight();
+            this.layers = Math.max(1, (world.getMaxHeight() - world.getMinHeight()) / LAYER_HEIGHT);
+        } else {
+            int originY = Math.min(SHARED_FLOOR_Y - ArenaTemplate.CENTER_Y, world.getMaxHeight() - ArenaTemplate.SIZE_Y);
+            this.minY = Math.max(world.getMinHeight(), originY);
+            this.layers = 1;
+        }
+    }
+
+    /**
+     * Reserves the lowest free cell and returns its index.
+     */
+    public int allocate() {
+        int cell = used.nextClearBit(0);
+        used.set(cell);
+        return cell;
+    }
+
+    public void free(int cell) {
+        used.clear(cell);
+    }
+
+    public boolean isAllocated(int cell) {
+        return cell >= 0 && used.get(cell);
+    }
+
+    /**
+     * Returns the arena center (floor level) of a cell.
+     */
+    public Location getCenter(int cell) {
+        return new Location(world,
+                getOriginX(cell) + ArenaTemplate.CENTER_X,
+                getOriginY(cell) + ArenaTemplate.CENTER_Y,
+                getOriginZ(cell) + ArenaTemplate.CENTER_Z);
+    }
+
+    /**
+     * Returns the full cell volume (the arena plus its margin).
+     */
+    public BoundingBox getCellBounds(int cell) {
+        int x = getOriginX(cell);
+        int y = getOriginY(cell);
+        int z = getOriginZ(cell);
+        return new BoundingBox(x, y, z, x + CELL_SIZE, y + LAYER_HEIGHT, z + CELL_SIZE);
+    }
+
+    /**
+     * Returns the cell containing the given block position, or -1 if it lies outside the grid.
+     */
+    public int getCellAt(int x, int y, int z) {
+        int gx = Math.floorDiv(x - GRID_ORIGIN_X, CELL_SIZE);
+        int gz = Math.floorDiv(z - GRID_ORIGIN_Z, CELL_SIZE);
+        int layer = Math.floorDiv(y - minY, LAYER_HEIGHT);
+        if (gx < 0 || gx >= COLUMNS_PER_ROW || gz < 0 || layer < 0 || layer >= layers) {
+            return -1;
+        }
+        int column = gz * COLUMNS_PER_ROW + gx;
+        return column * layers + layer;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Returns the lowest corner of a cell; the arena template origin sits exactly here.
+     */
+    public int getOriginX(int cell) {
+        int column = cell / layers;
+        return GRID_ORIGIN_X + (column % COLUMNS_PER_ROW) * CELL_SIZE;
+    }
+
+    public int getOriginY(int cell) {
+        return minY + (cell % layers) * LAYER_HEIGHT;
+    }
+
+    public int getOriginZ(int cell) {
+        int column = cell / layers;
+        return GRID_ORIGIN_Z + (column / COLUMNS_PER_ROW) * CELL_SIZE;
+    }
+}
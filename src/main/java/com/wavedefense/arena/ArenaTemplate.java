@@ -0,0 +1,316 @@
+package com.wavedefense.arena;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.util.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The arena layout, compiled once into a palette of cached BlockData and packed
+ * per-section index arrays. Used by both the PvE and the PvP arena, for building and clearing.
+ *
+ * Coordinates are local to the template box; the arena center (floor level) sits at
+ * (CENTER_X, CENTER_Y, CENTER_Z). Each section covers 16x16x16 local blocks and stores one
+ * int per non-empty cell: (y << 8 | z << 4 | x) << 8 | paletteIndex.
+ * A dense palette-id array per section (0 = air) answers "which block belongs here" for
+ * journal replays. Both store the id in one byte, so a template has at most 255 block types.
+ */
+public final class ArenaTemplate {
+    public static final int RADIUS = 20; // 41x41 arena
+    public static final int WALL_HEIGHT = 50;
+
+    // Local box: x/z 0..40, y 0..52 (light layer, floor, walls, ceiling)
+    public static final int SIZE_X = RADIUS * 2 + 1;
+    public static final int SIZE_Y = WALL_HEIGHT + 3;
+    public static final int SIZE_Z = RADIUS * 2 + 1;
+    public static final int CENTER_X = RADIUS;
+    public static final int CENTER_Y = 1;
+    public static final int CENTER_Z = RADIUS;
+
+    private static final int SECTIONS_X = (SIZE_X + 15) >> 4;
+    private static final int SECTIONS_Y = (SIZE_Y + 15) >> 4;
+    private static final int SECTIONS_Z = (SIZE_Z + 15) >> 4;
+    private static final int DENSE_SECTION_COUNT = SECTIONS_X * SECTIONS_Y * SECTIONS_Z;
+    // Palette ids fill the low byte of a packed cell and one unsigned byte of a dense section
+    private static final int MAX_PALETTE_SIZE = 256;
+
+    private final BlockData[] palette;
+    private final BlockData air;
+    private final int[][] sections;
+    private final byte[][] denseSections = new byte[DENSE_SECTION_COUNT][];
+    private final int[] sectionX, sectionY, sectionZ;
+    private final int blockCount;
+    private final boolean walls;
+
+    private ArenaTemplate(Builder builder, boolean walls, Function<Material, BlockData> blockData) {
+        this.walls = walls;
+
+        // Palette index 0 means "not part of the template"
+        Map<Material, Integer> paletteIds = new EnumMap<>(Material.class);
+        List<BlockData> paletteList = new ArrayList<>();
+        paletteList.add(null);
+
+        List<int[]> sectionList = new ArrayList<>();
+        List<int[]> originList = new ArrayList<>();
+        int count = 0;
+
+        int[] buffer = new int[4096];
+        for (int sy = 0; sy < SECTIONS_Y; sy++) {
+            for (int sz = 0; sz < SECTIONS_Z; sz++) {
+                for (int sx = 0; sx < SECTIONS_X; sx++) {
+                    int n = 0;
+                    byte[] dense = new byte[4096];
+                    for (int ly = 0; ly < 16; ly++) {
+                        for (int lz = 0; lz < 16; lz++) {
+                            for (int lx = 0; lx < 16; lx++) {
+                                Material type = builder.get((sx << 4) + lx, (sy << 4) + ly, (sz << 4) + lz);
+                                if (type == null) continue;
+                                int id = paletteIds.computeIfAbsent(type, t -> {
+                                    if (paletteList.size() == MAX_PALETTE_SIZE) {
+                                        throw new IllegalStateException("Arena template uses more than "
+                                                + (MAX_PALETTE_SIZE - 1) + " block types");
+                                    }
+                                    paletteList.add(blockData.apply(t));
+                                    return paletteList.size() - 1;
+                                });
+                                buffer[n++] = ((ly << 8 | lz << 4 | lx) << 8) | id;
+                                dense[ly << 8 | lz << 4 | lx] = (byte) id;
+                            }
+                        }
+                    }
+                    denseSections[(sy * SECTIONS_Z + sz) * SECTIONS_X + sx] = dense;
+                    if (n > 0) {
+                        int[] packed = new int[n];
+                        System.arraycopy(buffer, 0, packed, 0, n);
+                        sectionList.add(packed);
+                        originList.add(new int[]{sx << 4, sy << 4, sz << 4});
+                        count += n;
+                    }
+                }
+            }
+        }
+
+        this.palette = paletteList.toArray(new BlockData[0]);
+        this.air = blockData.apply(Material.AIR);
+        this.sections = sectionList.toArray(new int[0][]);
+        this.sectionX = new int[sections.length];
+        this.sectionY = new int[sections.length];
+        this.sectionZ = new int[sections.length];
+        for (int i = 0; i < sections.length; i++) {
+            int[] origin = originList.get(i);
+            sectionX[i] = origin[0];
+            sectionY[i] = origin[1];
+            sectionZ[i] = origin[2];
+        }
+        this.blockCount = count;
+    }
+
+    /**
+     * Returns the standard arena (checkerboard floor, spawn platforms, barrier shell, sea lanterns).
+     * Compiled on first use, since BlockData needs a running server.
+     */
+    public static ArenaTemplate standard() {
+        return Standard.TEMPLATE;
+    }
+
+    /**
+     * Returns the standard arena without the barrier walls and ceiling, for virtual border containment.
+     */
+    public static ArenaTemplate open() {
+        return Open.TEMPLATE;
+    }
+
+    /**
+     * Returns the template matching the configured containment mode.
+     */
+    public static ArenaTemplate forContainment() {
+        return BotConfig.getInstance().arenaVirtualBorder ? open() : standard();
+    }
+
+    /**
+     * Compiles the arena layout; blockData turns each palette type into the BlockData to place.
+     */
+    static ArenaTemplate compile(boolean walls, Function<Material, BlockData> blockData) {
+        Builder b = new Builder();
+        int r = RADIUS;
+
+        // Main floor - checkerboard pattern
+        for (int dx = -r; dx <= r; dx++) {
+            for (int dz = -r; dz <= r; dz++) {
+                b.set(dx, 0, dz, (dx + dz) % 2 == 0 ? Material.WHITE_CONCRETE : Material.LIGHT_GRAY_CONCRETE);
+            }
+        }
+
+        // Border ring
+        for (int d = -r; d <= r; d++) {
+            b.set(d, 0, -r, Material.RED_CONCRETE);
+            b.set(d, 0, r, Material.RED_CONCRETE);
+            b.set(-r, 0, d, Material.RED_CONCRETE);
+            b.set(r, 0, d, Material.RED_CONCRETE);
+        }
+
+        // Spawn platforms: player (blue) and bot / second player (red)
+        for (int dx = -2; dx <= 2; dx++) {
+            for (int dz = -2; dz <= 2; dz++) {
+                b.set(dx - 15, 0, dz, Material.BLUE_CONCRETE);
+                b.set(dx + 15, 0, dz, Material.RED_CONCRETE);
+            }
+        }
+
+        if (walls) {
+            // Invisible walls
+            for (int d = -r; d <= r; d++) {
+                for (int dy = 1; dy <= WALL_HEIGHT; dy++) {
+                    b.set(d, dy, -r, Material.BARRIER);
+                    b.set(d, dy, r, Material.BARRIER);
+                    b.set(-r, dy, d, Material.BARRIER);
+                    b.set(r, dy, d, Material.BARRIER);
+                }
+            }
+
+            // Ceiling
+            for (int dx = -r; dx <= r; dx++) {
+                for (int dz = -r; dz <= r; dz++) {
+                    b.set(dx, WALL_HEIGHT + 1, dz, Material.BARRIER);
+                }
+            }
+        }
+
+        // Light sources (sea lanterns under floor)
+        for (int dx = -r; dx <= r; dx += 5) {
+            for (int dz = -r; dz <= r; dz += 5) {
+                b.set(dx, -1, dz, Material.SEA_LANTERN);
+            }
+        }
+
+        return new ArenaTemplate(b, walls, blockData);
+    }
+
+    /**
+     * Creates a job that pastes this template around the given arena center (floor level).
+     */
+    public ArenaBuildJob paste(Location center) {
+        return job(center, ArenaBuildJob.Mode.PASTE);
+    }
+
+    /**
+     * Creates a job that removes every block of this template around the given arena center.
+     */
+    public ArenaBuildJob clear(Location center) {
+        return job(center, ArenaBuildJob.Mode.CLEAR);
+    }
+
+    /**
+     * Creates a job that writes the template block (or air) back to every position recorded
+     * in the journal. The journal is emptied.
+     */
+    public ArenaBuildJob replay(Location center, ArenaJournal journal) {
+        ArenaBuildJob job = job(center, ArenaBuildJob.Mode.REPLAY);
+        job.setReplayPositions(journal.drain());
+        return job;
+    }
+
+    private ArenaBuildJob job(Location center, ArenaBuildJob.Mode mode) {
+        World world = center.getWorld();
+        return new ArenaBuildJob(world, this,
+                center.getBlockX() - CENTER_X,
+                center.getBlockY() - CENTER_Y,
+                center.getBlockZ() - CENTER_Z,
+                mode);
+    }
+
+    /**
+     * Returns the bounding box of the template placed around the given arena center.
+     */
+    public BoundingBox getBounds(Location center) {
+        double minX = center.getBlockX() - CENTER_X;
+        double minY = center.getBlockY() - CENTER_Y;
+        double minZ = center.getBlockZ() - CENTER_Z;
+        return new BoundingBox(minX, minY, minZ, minX + SIZE_X, minY + SIZE_Y, minZ + SIZE_Z);
+    }
+
+    int getSectionCount() {
+        return sections.length;
+    }
+
+    int[] getSection(int index) {
+        return sections[index];
+    }
+
+    int getSectionX(int index) {
+        return sectionX[index];
+    }
+
+    int getSectionY(int index) {
+        return sectionY[index];
+    }
+
+    int getSectionZ(int index) {
+        return sectionZ[index];
+    }
+
+    /**
+     * Returns the block this template places at a local position, or air.
+     */
+    BlockData getExpected(int x, int y, int z) {
+        if (x < 0 || y < 0 || z < 0 || x >= SIZE_X || y >= SIZE_Y || z >= SIZE_Z) return air;
+        int index = ((y >> 4) * SECTIONS_Z + (z >> 4)) * SECTIONS_X + (x >> 4);
+        int id = denseSections[index][(y & 15) << 8 | (z & 15) << 4 | (x & 15)] & 0xFF;
+        return id == 0 ? air : palette[id];
+    }
+
+    BlockData getPaletteEntry(int id) {
+        return palette[id];
+    }
+
+    BlockData getAir() {
+        return air;
+    }
+
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    /**
+     * True if this template contains the barrier walls and ceiling.
+     */
+    public boolean hasWalls() {
+        return walls;
+    }
+
+    // Holders: each template is compiled once, by whichever thread asks first
+    private static class Standard {
+        static final ArenaTemplate TEMPLATE = compile(true, Material::createBlockData);
+    }
+
+    private static class Open {
+        static final ArenaTemplate TEMPLATE = compile(false, Material::createBlockData);
+    }
+
+    /**
+     * Dense scratch grid used while compiling; coordinates are relative to the arena center.
+     */
+    private static class Builder {
+        private final Material[] cells = new Material[(SECTIONS_X << 4) * (SECTIONS_Y << 4) * (SECTIONS_Z << 4)];
+
+        void set(int dx, int dy, int dz, Material type) {
+            cells[index(dx + CENTER_X, dy + CENTER_Y, dz + CENTER_Z)] = type;
+        }
+
+        Material get(int x, int y, int z) {
+            if (x >= SIZE_X || y >= SIZE_Y || z >= SIZE_Z) return null;
+            return cells[index(x, y, z)];
+        }
+
+        private int index(int x, int y, int z) {
+            return (y * (SECTIONS_Z << 4) + z) * (SECTIONS_X << 4) + x;
+        }
+    }
+}
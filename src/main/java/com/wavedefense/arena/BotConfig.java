@@ -3,6 +3,7 @@ package com.wavedefense.arena;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.wavedefense.WaveDefensePlugin;
+import com.wavedefense.bot.Difficulty;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -57,12 +58,38 @@ public class BotConfig {
     public double mediumAttackRange = 3.0;
     public double hardAttackRange = 10.0;
 
+    // Arena building: max time spent on block writes per tick (microseconds)
+    public int arenaBuildBudgetMicros = 2000;
+
+    // Arena pool: ready-built arenas kept around between matches
+    public int arenaPoolMinSize = 2;
+    public int arenaPoolMaxSize = 24;
+    public int arenaPoolSpareSlots = 2;
+    // How long an idle slot keeps its chunks loaded after its last match (ticks)
+    public int arenaChunkKeepTicks = 6000;
+    // Arena containment: per-player world border instead of barrier walls and ceiling
+    public boolean arenaVirtualBorder = true;
+    // Border distance from the arena center (blocks, at most 20.5 = floor edge)
+    public double arenaBorderRadius = 19.5;
+
+    // Bot level of detail: bots further than this from their target run their AI less often (blocks)
+    public double botLodFullRateDistance = 16.0;
+
+    // Message language for players whose client language has no file in lang/
+    public String defaultLanguage = "de";
+
+    // Parallel bot AI: at least this many bots due in one tick are decided on worker threads
+    public int botParallelThreshold = 64;
+
     // Enable/disable features
     public boolean enableBossBar = true;
     public boolean enableCombatStats = true;
     public boolean enableWarmup = true;
     public boolean enableBotHealing = true;
     public boolean enableBotDodging = true;
+    public boolean enableBotLod = true;
+    public boolean enablePerfMonitor = true;
+    public boolean enableParallelBotAI = true;
 
     public static BotConfig getInstance() {
         if (INSTANCE == null) {
@@ -0,0 +1,176 @@
+package com.wavedefense.arena;
+
+import com.wavedefense.WaveDefensePlugin;
+import com.wavedefense.bot.BotEngine;
+import com.wavedefense.perf.PerfMonitor;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+
+import org.bukkit.entity.Zombie;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Level;
+
+/**
+ * Runs the AI of arena bots on the server's ticks. The AI itself is a bot-core BotEngine, which
+ * runs many bots as one batch and reaches the server only through the Paper adapters of each
+ * BotAI; this class decides where and when the engine's passes run.
+ *
+ * While /wd perf profiles, the engine times every bot of a batch and the system reports the
+ * times per BotAI, so the most expensive bots show up one by one even though they share a batch.
+ *
+ * Large batches (botParallelThreshold bots) are decided on worker threads: the tick samples,
+ * hands the batch to a ForkJoin pool and returns, and the next tick joins it and applies the
+ * commands before sampling again. Small batches are decided inline and applied in the same tick.
+ *
+ * A system is otherwise confined to the thread that ticks it. On Paper every bot joins the
+ * plugin's shared system, ticked on the global region (the main thread). Folia does not allow
+ * touching entities from there, so attach() gives each bot a system of its own on the bot's
+ * scheduler instead. Adds and removals take effect at the start of the next tick, after the
+ * batch in flight was applied; events fired while applying commands (a bot killing itself with a
+ * crystal) may detach bots safely.
+ */
+public class BotSystem {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final WaveDefensePlugin plugin;
+    private final TimerWheel clock;
+    private final BotEngine engine;
+    // The plugin-wide system; Folia bots get a private one each
+    private final boolean shared;
+    private volatile ScheduledTask task;
+    // Workers of the shared system, created with the first parallel batch
+    private ForkJoinPool pool;
+    private ForkJoinTask<?> inFlight;
+    private int inFlightCount;
+    // Per-bot times of the engine, reported after each apply
+    private final BotEngine.CostListener costs;
+
+    public BotSystem(WaveDefensePlugin plugin) {
+        this(plugin, true, INITIAL_CAPACITY);
+    }
+
+    private BotSystem(WaveDefensePlugin plugin, boolean shared, int capacity) {
+        this.plugin = plugin;
+        this.clock = plugin.getTimerWheel();
+        this.engine = new BotEngine(new PaperWorldEffects(), capacity);
+        this.shared = shared;
+        PerfMonitor perf = plugin.getPerfMonitor();
+        this.costs = (agent, nanos) -> perf.recordBot(((PaperBotBody) agent.getBody()).getAi(), nanos);
+    }
+
+    /**
+     * Starts running a bot's AI; does nothing while it already runs. Called again after a chunk
+     * reload replaced the bot's handle (on Folia the old entity's task retires with the entity).
+     */
+    public void attach(BotAI ai) {
+        if (ai.getSystem() != null) return;
+        if (!WaveDefensePlugin.isFolia()) {
+            add(ai);
+            return;
+        }
+
+        Zombie bot = ai.getBot();
+        if (bot == null) return;
+        BotSystem own = new BotSystem(plugin, false, 1);
+        own.add(ai);
+        own.task = bot.getScheduler().runAtFixedRate(plugin, t -> own.tick(), () -> own.remove(ai), 1L, 1L);
+        // Bot was removed before the task could be scheduled
+        if (own.task == null) {
+            own.remove(ai);
+        }
+    }
+
+    /**
+     * Stops a bot's AI. Safe from any thread and while the system ticks.
+     */
+    public void detach(BotAI ai) {
+        BotSystem system = ai.getSystem();
+        if (system != null) {
+            system.remove(ai);
+        }
+    }
+
+    public int getBotCount() {
+        return engine.getBotCount();
+    }
+
+    /**
+     * Queues a bot; it gets its slot at the start of the next tick.
+     */
+    private void add(BotAI ai) {
+        ai.setSystem(this);
+        engine.add(ai.getAgent());
+    }
+
+    private void remove(BotAI ai) {
+        if (ai.getSystem() != this) return;
+        ai.setSystem(null);
+        engine.remove(ai.getAgent());
+        plugin.getPerfMonitor().forget(ai);
+    }
+
+    /**
+     * Runs one batch over all bots; called once per server tick by the system's owner. The time
+     * recorded for /wd perf is the time spent on this thread, without the workers.
+     */
+    public void tick() {
+        PerfMonitor perf = plugin.getPerfMonitor();
+        long start = perf.start();
+
+        // Apply what the workers decided since the previous tick
+        if (inFlight != null) {
+            finishBatch();
+        }
+
+        BotConfig config = BotConfig.getInstance();
+        engine.setProfiling(start != 0L);
+        engine.setLevelOfDetail(config.enableBotLod, config.botLodFullRateDistance);
+        int dueCount = engine.prepare(clock.now());
+        if (engine.getBotCount() == 0) {
+            // A private system ends with its bot
+            if (!shared && task != null) {
+                task.cancel();
+            }
+            return;
+        }
+
+        if (dueCount > 0) {
+            if (shared && config.enableParallelBotAI && dueCount >= config.botParallelThreshold) {
+                if (pool == null) {
+                    pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+                }
+                inFlightCount = dueCount;
+                inFlight = engine.submit(pool, dueCount);
+            } else {
+                engine.decide(0, dueCount);
+                engine.apply(dueCount);
+                engine.reportCosts(costs);
+            }
+        }
+        perf.recordBots(start);
+    }
+
+    private void finishBatch() {
+        try {
+            inFlight.join();
+            engine.apply(inFlightCount);
+            engine.reportCosts(costs);
+        } catch (RuntimeException e) {
+            plugin.getLogger().log(Level.WARNING, "Bot decisions failed, dropping their commands", e);
+            engine.dropBatch();
+        } finally {
+            inFlight = null;
+        }
+    }
+
+    /**
+     * Stops the worker threads; called when the plugin is disabled.
+     */
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+}
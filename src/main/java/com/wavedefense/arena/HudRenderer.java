@@ -0,0 +1,125 @@
+package com.wavedefense.arena;
+
+import com.wavedefense.WaveDefensePlugin;
+import com.wavedefense.message.Message;
+import com.wavedefense.message.Messages;
+
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Per-player HUD of an arena fight: bot health boss bar and action bar readouts.
+ *
+ * Remembers what the client was last sent and only sends packets when the visible value
+ * changes. Bot health is quantized to whole percent, boss bar titles are rendered from the
+ * message catalog once per percent and action bar components are reused while their numbers
+ * stay the same. Everything is rendered in the player's language. The action
+ * bar fades on the client after about three seconds, so an unchanged one is re-sent every
+ * ACTION_BAR_REFRESH ticks.
+ *
+ * Only used from the session's tick thread.
+ */
+class HudRenderer {
+    private static final int STEPS = 100;
+    private static final int ACTION_BAR_REFRESH = 40;
+    // Action bar key of the build progress readout is -1 - percent, combat keys are >= 0
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final String kitName;
+    private BossBar bossBar;
+    private final Component[] titles = new Component[STEPS + 1];
+    private Player player;
+
+    private int lastStep = -1;
+
+    private long actionBarKey = NONE;
+    private Component actionBar;
+    private long actionBarSentAt;
+
+    HudRenderer(Player player, String kitName) {
+        this.player = player;
+        this.kitName = kitName;
+    }
+
+    /**
+     * Shows the bot health boss bar once the fight begins.
+     */
+    void showBossBar() {
+        if (bossBar != null || !BotConfig.getInstance().enableBossBar) return;
+        lastStep = STEPS;
+        bossBar = BossBar.bossBar(title(STEPS), 1.0f, BossBar.Color.GREEN, BossBar.Overlay.PROGRESS);
+        player.showBossBar(bossBar);
+    }
+
+    /**
+     * Moves the HUD to the player's new handle after a reconnect and forces a full resend.
+     */
+    void setPlayer(Player player) {
+        this.player = player;
+        if (bossBar != null) {
+            player.showBossBar(bossBar);
+        }
+        actionBarKey = NONE;
+    }
+
+    void updateBotHealth(double health, double maxHealth) {
+        if (bossBar == null) return;
+
+        double fraction = Math.max(0, Math.min(1, health / maxHealth));
+        int step = (int) Math.round(fraction * STEPS);
+        if (step == lastStep) return;
+        lastStep = step;
+
+        bossBar.progress(step / (float) STEPS);
+        bossBar.name(title(step));
+        bossBar.color(step > STEPS / 2 ? BossBar.Color.GREEN : step > STEPS / 4 ? BossBar.Color.YELLOW : BossBar.Color.RED);
+    }
+
+    private Component title(int step) {
+        Component title = titles[step];
+        if (title == null) {
+            title = messages().render(player, Message.HUD_BOT_HEALTH, kitName, step);
+            titles[step] = title;
+        }
+        return title;
+    }
+
+    void showCombat(int playerHits, int botHits, int combo, long now) {
+        long key = ((long) (playerHits & 0xFFFFFF) << 40) | ((long) (botHits & 0xFFFFFF) << 16) | (combo & 0xFFFF);
+        if (key != actionBarKey) {
+            actionBar = combo > 0
+                    ? messages().render(player, Message.HUD_COMBAT_COMBO, playerHits, botHits, combo)
+                    : messages().render(player, Message.HUD_COMBAT, playerHits, botHits);
+            actionBarKey = key;
+        } else if (now - actionBarSentAt < ACTION_BAR_REFRESH) {
+            return;
+        }
+        player.sendActionBar(actionBar);
+        actionBarSentAt = now;
+    }
+
+    void showBuildProgress(int percent, long now) {
+        long key = -1L - percent;
+        if (key != actionBarKey) {
+            actionBar = messages().render(player, Message.ARENA_BUILD_PROGRESS, percent);
+            actionBarKey = key;
+        } else if (now - actionBarSentAt < ACTION_BAR_REFRESH) {
+            return;
+        }
+        player.sendActionBar(actionBar);
+        actionBarSentAt = now;
+    }
+
+    void remove() {
+        if (bossBar != null) {
+            player.hideBossBar(bossBar);
+            bossBar = null;
+        }
+    }
+
+    private static Messages messages() {
+        return WaveDefensePlugin.getInstance().getMessages();
+    }
+}
@@ -1,5 +1,7 @@
 package com.wavedefense.arena;
 
+import com.wavedefense.bot.Behaviour;
+
 import org.bukkit.Material;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.enchantments.Enchantment;
@@ -45,6 +47,21 @@ public enum Kit {
         return description;
     }
 
+    /**
+     * How bots fight with this kit; kits that fight alike share a behaviour.
+     */
+    public Behaviour getBehaviour() {
+        return switch (this) {
+            case MACE -> Behaviour.MACE;
+            case NODEBUFF, GAPPLE, COMBO, BOXING, SUMO, SOUP -> Behaviour.SWORD;
+            case AXE_SHIELD -> Behaviour.AXE;
+            case ARCHER, BRIDGE -> Behaviour.BOW;
+            case CRYSTAL, ANCHOR -> Behaviour.CRYSTAL;
+            case BUILDUHC, CLASSIC -> Behaviour.UHC;
+            case DEBUFF -> Behaviour.POTION;
+        };
+    }
+
     private ItemStack enchant(ItemStack stack, Object... enchants) {
         ItemMeta meta = stack.getItemMeta();
         for (int i = 0; i < enchants.length; i += 2) {
@@ -0,0 +1,67 @@
+package com.wavedefense.arena;
+
+import com.wavedefense.WaveDefensePlugin;
+import com.wavedefense.bot.TargetMotion;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Motion history of the players bots are fighting, shared by all bots chasing the same player.
+ *
+ * The first bot to look at a player in a tick reads the player's position into the player's
+ * track (a TargetMotion); every other bot that tick reuses it.
+ *
+ * Tracks are locked individually: on Folia the bots chasing one player may run on different
+ * region threads. Tracks nobody looked at for a while are dropped by expire().
+ */
+public class MotionTracker {
+    private static final long EXPIRE_TICKS = 200;
+    private static final long EXPIRE_INTERVAL = 100;
+
+    private final TimerWheel clock;
+    private final Map<UUID, Track> tracks = new ConcurrentHashMap<>();
+    private long nextExpire = 0;
+
+    public MotionTracker(WaveDefensePlugin plugin) {
+        this.clock = plugin.getTimerWheel();
+    }
+
+    /**
+     * Returns the player's track, sampled this tick. Call from the thread owning the player.
+     */
+    public Track observe(Player player) {
+        Track track = tracks.computeIfAbsent(player.getUniqueId(), id -> new Track());
+        track.sample(player, clock.now());
+        return track;
+    }
+
+    public void forget(Player player) {
+        tracks.remove(player.getUniqueId());
+    }
+
+    /**
+     * Drops tracks nobody observed recently; called every tick on the global region.
+     */
+    public void expire() {
+        long now = clock.now();
+        if (now < nextExpire) return;
+        nextExpire = now + EXPIRE_INTERVAL;
+        tracks.values().removeIf(track -> track.isStale(now, EXPIRE_TICKS));
+    }
+
+    public static final class Track extends TargetMotion {
+        private final Location scratch = new Location(null, 0, 0, 0);
+
+        private synchronized void sample(Player player, long now) {
+            if (isSampledAt(now)) return;
+            player.getLocation(scratch);
+            record(scratch.getWorld(), scratch.getX(), scratch.getY(), scratch.getZ(), now);
+            scratch.setWorld(null);
+        }
+    }
+}
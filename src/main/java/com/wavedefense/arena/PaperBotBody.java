@@ -0,0 +1,196 @@
+package com.wavedefense.arena;
+
+import com.wavedefense.bot.BotBody;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.entity.Zombie;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.bukkit.util.Vector;
+
+/**
+ * BotBody of a bot's Zombie. refresh() captures the entity currently behind the BotAI (chunk
+ * reloads swap it) and its location; the commands go to that captured entity.
+ */
+final class PaperBotBody implements BotBody {
+    private static final PotionEffect ABSORPTION = new PotionEffect(PotionEffectType.ABSORPTION, 120 * 20, 0);
+    private static final PotionEffect SPEED = new PotionEffect(PotionEffectType.SPEED, 600, 1);
+    private static final PotionEffect STRENGTH = new PotionEffect(PotionEffectType.STRENGTH, 600, 0);
+
+    private final BotAI ai;
+    private final Location scratchLoc = new Location(null, 0, 0, 0);
+    private final Vector scratchVec = new Vector();
+
+    // Captured by refresh()
+    private Zombie entity;
+    private World world;
+    private double x, y, z;
+    private float yaw;
+    private Vector velocity;
+
+    // MAX_HEALTH is only set when the bot is spawned; read again when the handle changes
+    private Zombie measured;
+    private double maxHealth = 20.0;
+
+    PaperBotBody(BotAI ai) {
+        this.ai = ai;
+    }
+
+    BotAI getAi() {
+        return ai;
+    }
+
+    Zombie getEntity() {
+        return entity;
+    }
+
+    @Override
+    public boolean refresh() {
+        Zombie bot = ai.getBot();
+        velocity = null;
+        if (bot == null || !bot.isValid()) {
+            entity = null;
+            world = null;
+            return false;
+        }
+        entity = bot;
+        bot.getLocation(scratchLoc);
+        world = scratchLoc.getWorld();
+        x = scratchLoc.getX();
+        y = scratchLoc.getY();
+        z = scratchLoc.getZ();
+        yaw = scratchLoc.getYaw();
+        scratchLoc.setWorld(null);
+        if (measured != bot) {
+            measured = bot;
+            var attr = bot.getAttribute(Attribute.MAX_HEALTH);
+            maxHealth = attr != null ? attr.getValue() : 20.0;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isValid() {
+        return entity != null && entity.isValid();
+    }
+
+    @Override
+    public Object getWorld() {
+        return world;
+    }
+
+    @Override
+    public double getX() {
+        return x;
+    }
+
+    @Override
+    public double getY() {
+        return y;
+    }
+
+    @Override
+    public double getZ() {
+        return z;
+    }
+
+    @Override
+    public float getYaw() {
+        return yaw;
+    }
+
+    @Override
+    public double getEyeHeight() {
+        return entity.getEyeHeight();
+    }
+
+    @Override
+    public boolean isOnGround() {
+        return entity.isOnGround();
+    }
+
+    @Override
+    public double getHealth() {
+        return entity.getHealth();
+    }
+
+    @Override
+    public double getMaxHealth() {
+        return maxHealth;
+    }
+
+    // One getVelocity() copy per refresh, read only for the bots that run
+    private Vector velocity() {
+        if (velocity == null) {
+            velocity = entity.getVelocity();
+        }
+        return velocity;
+    }
+
+    @Override
+    public double getVelocityX() {
+        return velocity().getX();
+    }
+
+    @Override
+    public double getVelocityY() {
+        return velocity().getY();
+    }
+
+    @Override
+    public double getVelocityZ() {
+        return velocity().getZ();
+    }
+
+    @Override
+    public boolean hasEffects() {
+        return !entity.getActivePotionEffects().isEmpty();
+    }
+
+    @Override
+    public void setRotation(float yaw, float pitch) {
+        entity.setRotation(yaw, pitch);
+    }
+
+    @Override
+    public void setVelocity(double x, double y, double z) {
+        entity.setVelocity(scratchVec.setX(x).setY(y).setZ(z));
+    }
+
+    @Override
+    public void setHorizontalVelocity(double x, double z) {
+        Vector current = entity.getVelocity();
+        entity.setVelocity(current.setX(x).setZ(z));
+    }
+
+    @Override
+    public void setVerticalVelocity(double y) {
+        Vector current = entity.getVelocity();
+        entity.setVelocity(current.setY(y));
+    }
+
+    @Override
+    public void heal(double amount) {
+        // Simulated gapple
+        entity.setHealth(Math.min(entity.getHealth() + amount, maxHealth));
+        entity.addPotionEffect(ABSORPTION);
+    }
+
+    @Override
+    public void buff() {
+        entity.addPotionEffect(SPEED);
+        entity.addPotionEffect(STRENGTH);
+    }
+
+    @Override
+    public void swing() {
+        entity.swingMainHand();
+    }
+
+    @Override
+    public void damage(double amount) {
+        entity.damage(amount);
+    }
+}
@@ -0,0 +1,100 @@
+package com.wavedefense.arena;
+
+import com.wavedefense.WaveDefensePlugin;
+import com.wavedefense.bot.TargetMotion;
+import com.wavedefense.bot.TargetView;
+
+import org.bukkit.entity.Player;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.bukkit.util.Vector;
+
+/**
+ * TargetView of the player a BotAI fights. Motion comes from the plugin's MotionTracker, so bots
+ * chasing the same player share one history.
+ */
+final class PaperTargetView implements TargetView {
+    private final BotAI ai;
+    // Melee damage is dealt by this body's entity
+    private final PaperBotBody attacker;
+
+    // Captured by refresh()
+    private Player player;
+
+    PaperTargetView(BotAI ai, PaperBotBody attacker) {
+        this.ai = ai;
+        this.attacker = attacker;
+    }
+
+    @Override
+    public boolean refresh() {
+        Player target = ai.getTarget();
+        if (target == null || !target.isOnline() || target.isDead()) {
+            player = null;
+            return false;
+        }
+        player = target;
+        return true;
+    }
+
+    @Override
+    public boolean isValid() {
+        return player != null && player.isValid();
+    }
+
+    @Override
+    public Object getWorld() {
+        return player.getWorld();
+    }
+
+    @Override
+    public TargetMotion observe() {
+        return WaveDefensePlugin.getInstance().getMotionTracker().observe(player);
+    }
+
+    @Override
+    public double getEyeHeight() {
+        return player.getEyeHeight();
+    }
+
+    @Override
+    public double getHeight() {
+        return player.getHeight();
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return player.isBlocking();
+    }
+
+    @Override
+    public boolean isHandRaised() {
+        return player.isHandRaised();
+    }
+
+    @Override
+    public double getHealth() {
+        return player.getHealth();
+    }
+
+    @Override
+    public void attack(double amount) {
+        player.damage(amount, attacker.getEntity());
+    }
+
+    @Override
+    public void damage(double amount) {
+        player.damage(amount);
+    }
+
+    @Override
+    public void push(double x, double y, double z) {
+        Vector velocity = player.getVelocity();
+        player.setVelocity(velocity.setX(velocity.getX() + x).setY(velocity.getY() + y).setZ(velocity.getZ() + z));
+    }
+
+    @Override
+    public void slow(int ticks) {
+        player.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, ticks, 1));
+    }
+}
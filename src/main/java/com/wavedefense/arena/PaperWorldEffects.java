@@ -0,0 +1,70 @@
+package com.wavedefense.arena;
+
+import com.wavedefense.bot.BotBody;
+import com.wavedefense.bot.WorldEffects;
+
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.entity.Arrow;
+import org.bukkit.entity.Zombie;
+import org.bukkit.util.Vector;
+
+/**
+ * Sounds, particles and arrows of the bots of one BotSystem, played in the bot's world.
+ */
+final class PaperWorldEffects implements WorldEffects {
+    private final Location scratchLoc = new Location(null, 0, 0, 0);
+    private final Vector scratchVec = new Vector();
+
+    @Override
+    public void play(BotBody body, int fx, double botX, double botY, double botZ,
+                     double targetX, double targetY, double targetZ) {
+        Zombie bot = ((PaperBotBody) body).getEntity();
+        World world = bot.getWorld();
+        if ((fx & FX_BURP) != 0) world.playSound(bot, Sound.ENTITY_PLAYER_BURP, 1.0f, 1.0f);
+        if ((fx & FX_DRINK) != 0) world.playSound(bot, Sound.ENTITY_GENERIC_DRINK, 1.0f, 1.0f);
+        if ((fx & FX_WIND_BURST) != 0) world.playSound(bot, Sound.ENTITY_WIND_CHARGE_WIND_BURST, 1.0f, 1.0f);
+        if ((fx & FX_ARROW) != 0) world.playSound(bot, Sound.ENTITY_ARROW_SHOOT, 1.0f, 1.0f);
+        if ((fx & FX_SMASH) != 0) {
+            world.spawnParticle(Particle.EXPLOSION, botX, botY, botZ, 5, 1.0, 0.5, 1.0, 0.1);
+        }
+        if ((fx & FX_CRIT) != 0) {
+            world.spawnParticle(Particle.CRIT, targetX, targetY + 1, targetZ, 8, 0.3, 0.5, 0.3, 0.1);
+        }
+        if ((fx & FX_SPLASH) != 0) {
+            world.spawnParticle(Particle.SPLASH, targetX, targetY + 1, targetZ, 15, 0.5, 0.5, 0.5, 0.1);
+        }
+
+        if ((fx & (FX_HURT | FX_SHIELD_BREAK | FX_ROD | FX_SPLASH)) != 0) {
+            scratchLoc.setWorld(world);
+            scratchLoc.set(targetX, targetY, targetZ);
+            if ((fx & FX_SHIELD_BREAK) != 0) world.playSound(scratchLoc, Sound.ITEM_SHIELD_BREAK, 1.0f, 1.0f);
+            if ((fx & FX_ROD) != 0) world.playSound(scratchLoc, Sound.ENTITY_FISHING_BOBBER_RETRIEVE, 1.0f, 1.0f);
+            if ((fx & FX_SPLASH) != 0) world.playSound(scratchLoc, Sound.ENTITY_SPLASH_POTION_BREAK, 1.0f, 1.0f);
+            if ((fx & FX_HURT) != 0) world.playSound(scratchLoc, Sound.ENTITY_PLAYER_HURT, 0.5f, 1.0f);
+        }
+        if ((fx & FX_CRYSTAL) != 0) {
+            // Crystal explosion between bot and target
+            scratchLoc.setWorld(world);
+            scratchLoc.set((botX + targetX) / 2, (botY + targetY) / 2, (botZ + targetZ) / 2);
+            world.spawnParticle(Particle.EXPLOSION_EMITTER, scratchLoc, 1, 0, 0, 0, 0);
+            world.playSound(scratchLoc, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.0f);
+        }
+        scratchLoc.setWorld(null);
+    }
+
+    @Override
+    public void shootArrow(BotBody shooter, double x, double y, double z, double dirX, double dirY, double dirZ,
+                           double speed, double damage) {
+        Zombie bot = ((PaperBotBody) shooter).getEntity();
+        World world = bot.getWorld();
+        scratchLoc.setWorld(world);
+        scratchLoc.set(x, y, z);
+        Arrow arrow = world.spawnArrow(scratchLoc, scratchVec.setX(dirX).setY(dirY).setZ(dirZ), (float) speed, 0f);
+        arrow.setShooter(bot);
+        arrow.setDamage(damage);
+        scratchLoc.setWorld(null);
+    }
+}
@@ -2,30 +2,29 @@ package com.wavedefense.arena;
 
 import com.wavedefense.WaveDefensePlugin;
 import com.wavedefense.lobby.PlayerStats;
+import com.wavedefense.message.Message;
+import com.wavedefense.perf.PerfMonitor;
 
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.title.Title;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 
 import java.time.Duration;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PvPManager {
     private final WaveDefensePlugin plugin;
     private final Map<Kit, Queue<UUID>> queues = new EnumMap<>(Kit.class);
-    private final Map<UUID, PvPSession> activeSessions = new HashMap<>();
+    private final Map<UUID, PvPSession> activeSessions = new ConcurrentHashMap<>();
 
     public PvPManager(WaveDefensePlugin plugin) {
         this.plugin = plugin;
@@ -46,27 +45,29 @@ public class PvPManager {
         UUID id = player.getUniqueId();
         // Check not already in queue or match
         if (isInPvP(id) || isInQueue(id)) {
-            player.sendMessage(Component.text("Du bist bereits in einer Warteschlange oder einem Match!")
-                    .color(NamedTextColor.RED));
+            plugin.getMessages().send(player, Message.PVP_ALREADY_QUEUED);
             return;
         }
-        queues.get(kit).add(id);
-        player.sendMessage(Component.text("Warteschlange beigetreten für Kit: " + kit.getName())
-                .color(NamedTextColor.GREEN));
-        player.sendMessage(Component.text("Warte auf Gegner...")
-                .color(NamedTextColor.YELLOW));
-
-        // Try to match
-        tryMatch(kit);
+        plugin.getMessages().send(player, Message.PVP_QUEUE_JOINED, kit.getName());
+
+        // Queues are shared by players on all regions
+        synchronized (queues) {
+            queues.get(kit).add(id);
+            tryMatch(kit);
+        }
     }
 
     public void leaveQueue(Player player) {
-        UUID id = player.getUniqueId();
-        for (Queue<UUID> q : queues.values()) {
-            q.remove(id);
+        removeFromQueues(player.getUniqueId());
+        plugin.getMessages().send(player, Message.PVP_QUEUE_LEFT);
+    }
+
+    private void removeFromQueues(UUID id) {
+        synchronized (queues) {
+            for (Queue<UUID> q : queues.values()) {
+                q.remove(id);
+            }
         }
-        player.sendMessage(Component.text("Warteschlange verlassen.")
-                .color(NamedTextColor.YELLOW));
     }
 
     private void tryMatch(Kit kit) {
@@ -83,102 +84,97 @@ public class PvPManager {
     }
 
     private void startMatch(Player p1, Player p2, Kit kit) {
-        World arenaWorld = ArenaManager.getOrCreateArenaWorld();
-
-        // Hash-based arena position (avoid overlaps)
-        int hash = (p1.getUniqueId().hashCode() ^ p2.getUniqueId().hashCode()) & 0x7FFFFFFF;
-        int arenaX = (hash % 1000) * 100;
-        int arenaZ = ((hash / 1000) % 1000) * 100;
-        int arenaY = 100;
-        Location center = new Location(arenaWorld, arenaX, arenaY, arenaZ);
-
-        // Build arena (same 41x41 checkerboard as bot arena)
-        buildArena(arenaWorld, arenaX, arenaY, arenaZ);
+        // Lease a pooled arena
+        ArenaSlot slot = plugin.getArenaPool().lease();
 
         // Create session
-        PvPSession session = new PvPSession(p1, p2, kit, center);
+        PvPSession session = new PvPSession(p1, p2, kit, slot.getCenter());
+        session.setSlot(slot);
         activeSessions.put(p1.getUniqueId(), session);
         activeSessions.put(p2.getUniqueId(), session);
+        plugin.getSessionEngine().register(session);
+
+        plugin.getMessages().send(p1, Message.PVP_OPPONENT_FOUND);
+        plugin.getMessages().send(p2, Message.PVP_OPPONENT_FOUND);
 
-        // Apply kit to both
-        p1.getInventory().clear();
-        p2.getInventory().clear();
-        kit.applyToPlayer(p1);
-        kit.applyToPlayer(p2);
+        if (slot.isReady()) {
+            beginMatch(session);
+            return;
+        }
+        slot.whenReady(() -> beginMatch(session));
+    }
+
+    /**
+     * Called once the arena blocks are in place: applies the kit and moves both players in.
+     */
+    private void beginMatch(PvPSession session) {
+        if (session.isFinished()) return;
+
+        Player p1 = session.getPlayer1();
+        Player p2 = session.getPlayer2();
+        if (p1 == null || p2 == null) return;
+
+        Kit kit = session.getKit();
+        Location center = session.getArenaCenter();
+        World arenaWorld = center.getWorld();
+        int arenaX = center.getBlockX();
+        int arenaY = center.getBlockY();
+        int arenaZ = center.getBlockZ();
 
-        // Teleport
         Location spawn1 = new Location(arenaWorld, arenaX - 15 + 0.5, arenaY + 1, arenaZ + 0.5, -90, 0);
         Location spawn2 = new Location(arenaWorld, arenaX + 15 + 0.5, arenaY + 1, arenaZ + 0.5, 90, 0);
-        p1.teleport(spawn1);
-        p2.teleport(spawn2);
-
-        // Messages
-        Component msg = Component.text("=== PVP ARENA ===")
-                .color(NamedTextColor.GOLD)
-                .decorate(TextDecoration.BOLD);
-        p1.sendMessage(msg);
-        p2.sendMessage(msg);
-        p1.sendMessage(Component.text("Gegner: " + p2.getName() + " | Kit: " + kit.getName())
-                .color(NamedTextColor.YELLOW));
-        p2.sendMessage(Component.text("Gegner: " + p1.getName() + " | Kit: " + kit.getName())
-                .color(NamedTextColor.YELLOW));
+        enterArena(p1, p2, kit, spawn1, center);
+        enterArena(p2, p1, kit, spawn2, center);
+        session.startWarmup(plugin.getTimerWheel());
     }
 
-    private void buildArena(World world, int cx, int cy, int cz) {
-        // Same checkerboard pattern as ArenaManager
-        for (int x = -20; x <= 20; x++) {
-            for (int z = -20; z <= 20; z++) {
-                Material mat = (Math.abs(x) + Math.abs(z)) % 2 == 0
-                        ? Material.WHITE_CONCRETE : Material.LIGHT_GRAY_CONCRETE;
-                world.getBlockAt(cx + x, cy, cz + z).setType(mat);
-            }
-        }
-        // Blue platform (player 1)
-        for (int x = -17; x <= -13; x++) {
-            for (int z = -2; z <= 2; z++) {
-                world.getBlockAt(cx + x, cy, cz + z).setType(Material.BLUE_CONCRETE);
-            }
-        }
-        // Red platform (player 2)
-        for (int x = 13; x <= 17; x++) {
-            for (int z = -2; z <= 2; z++) {
-                world.getBlockAt(cx + x, cy, cz + z).setType(Material.RED_CONCRETE);
-            }
-        }
-        // Barrier walls
-        for (int x = -21; x <= 21; x++) {
-            for (int y = cy + 1; y <= cy + 50; y++) {
-                world.getBlockAt(cx + x, y, cz - 21).setType(Material.BARRIER);
-                world.getBlockAt(cx + x, y, cz + 21).setType(Material.BARRIER);
-            }
-        }
-        for (int z = -21; z <= 21; z++) {
-            for (int y = cy + 1; y <= cy + 50; y++) {
-                world.getBlockAt(cx - 21, y, cz + z).setType(Material.BARRIER);
-                world.getBlockAt(cx + 21, y, cz + z).setType(Material.BARRIER);
-            }
-        }
-        // Barrier ceiling
-        for (int x = -21; x <= 21; x++) {
-            for (int z = -21; z <= 21; z++) {
-                world.getBlockAt(cx + x, cy + 51, cz + z).setType(Material.BARRIER);
-            }
-        }
+    /**
+     * Applies the kit and moves one player into the arena. Runs on the player's own scheduler,
+     * since the match may begin on the opponent's or the arena's thread.
+     */
+    private void enterArena(Player player, Player opponent, Kit kit, Location spawn, Location center) {
+        player.getScheduler().run(plugin, task -> {
+            player.getInventory().clear();
+            kit.applyToPlayer(player);
+            player.teleportAsync(spawn).thenAccept(success -> {
+                if (success) ArenaBorder.apply(player, center);
+            });
+
+            plugin.getMessages().send(player, Message.PVP_MATCH_START, opponent.getName(), kit.getName());
+        }, null);
     }
 
-    public void tick(World world) {
-        // Only process for the arena world
-        if (!ArenaManager.ARENA_WORLD_NAME.equals(world.getName())) {
-            return;
+    /**
+     * Ticks one match; called by the SessionEngine. Returns false once the match is finished.
+     */
+    boolean tickSession(PvPSession session, long now) {
+        if (session.isFinished()) return false;
+
+        Player p1 = session.getPlayer1();
+        Player p2 = session.getPlayer2();
+
+        // Arena still being built - show progress to the waiting players
+        if (!session.isArenaReady()) {
+            if (now % 10 == 0) {
+                int percent = (int) (session.getSlot().getProgress() * 100);
+                if (p1 != null) showBuildProgress(p1, percent);
+                if (p2 != null) showBuildProgress(p2, percent);
+            }
+            return true;
         }
 
-        // Tick warmup and check for disconnected players
-        for (var entry : new HashMap<>(activeSessions).entrySet()) {
-            PvPSession session = entry.getValue();
-            if (session.isFinished()) continue;
+        // Keep the players inside the virtual border
+        if (p1 != null) ArenaBorder.clamp(p1, session.getArenaCenter());
+        if (p2 != null) ArenaBorder.clamp(p2, session.getArenaCenter());
+        return true;
+    }
 
-            session.tickWarmup();
-        }
+    /**
+     * The players still wait outside the arena, in regions of their own on Folia.
+     */
+    private void showBuildProgress(Player player, int percent) {
+        player.getScheduler().run(plugin, task -> player.sendActionBar(
+                plugin.getMessages().render(player, Message.ARENA_BUILD_PROGRESS, percent)), null);
     }
 
     public void handlePlayerDeath(Player dead) {
@@ -189,55 +185,51 @@ public class PvPManager {
         session.setFinished(true);
 
         if (winner != null && winner.isOnline()) {
-            winner.sendMessage(Component.text("SIEG!")
-                    .color(NamedTextColor.GREEN)
-                    .decorate(TextDecoration.BOLD));
+            Component victory = plugin.getMessages().render(winner, Message.VICTORY);
+            winner.sendMessage(victory);
             winner.showTitle(Title.title(
-                    Component.text("SIEG!")
-                            .color(NamedTextColor.GREEN)
-                            .decorate(TextDecoration.BOLD),
+                    victory,
                     Component.empty(),
                     Title.Times.times(Duration.ofMillis(200), Duration.ofMillis(2000), Duration.ofMillis(500))
             ));
             PlayerStats.addWin(winner.getUniqueId());
 
             // Restore winner
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            plugin.getTimerWheel().schedule(winner, 60L, () -> { // 3 seconds
+                ArenaBorder.remove(winner);
                 session.restore(winner);
                 plugin.getLobbyManager().teleportToLobby(winner);
-            }, 60L); // 3 seconds
+            });
         }
 
-        dead.sendMessage(Component.text("NIEDERLAGE!")
-                .color(NamedTextColor.RED)
-                .decorate(TextDecoration.BOLD));
+        plugin.getMessages().send(dead, Message.DEFEAT);
         PlayerStats.addLoss(dead.getUniqueId());
 
         // Cleanup
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        plugin.getTimerWheel().schedule(session.getArenaCenter(), 60L, () -> {
             cleanupArena(session);
             activeSessions.remove(session.getPlayer1Id());
             activeSessions.remove(session.getPlayer2Id());
-        }, 60L);
+        });
     }
 
     public void handlePlayerQuit(Player player) {
         // Remove from queues
         UUID id = player.getUniqueId();
-        for (Queue<UUID> q : queues.values()) {
-            q.remove(id);
-        }
+        removeFromQueues(id);
 
         // If in active match, opponent wins
         PvPSession session = activeSessions.get(id);
         if (session != null && !session.isFinished()) {
             Player opponent = session.getOpponent(player);
             if (opponent != null && opponent.isOnline()) {
-                opponent.sendMessage(Component.text("Dein Gegner hat das Spiel verlassen. Du gewinnst!")
-                        .color(NamedTextColor.GREEN));
+                plugin.getMessages().send(opponent, Message.PVP_OPPONENT_LEFT);
                 PlayerStats.addWin(opponent.getUniqueId());
-                session.restore(opponent);
-                plugin.getLobbyManager().teleportToLobby(opponent);
+                opponent.getScheduler().run(plugin, task -> {
+                    ArenaBorder.remove(opponent);
+                    session.restore(opponent);
+                    plugin.getLobbyManager().teleportToLobby(opponent);
+                }, null);
             }
             PlayerStats.addLoss(id);
             session.setFinished(true);
@@ -248,17 +240,21 @@ public class PvPManager {
     }
 
     private void cleanupArena(PvPSession session) {
-        Location center = session.getArenaCenter();
-        if (center == null || center.getWorld() == null) return;
-        World world = center.getWorld();
-        int cx = center.getBlockX(), cy = center.getBlockY(), cz = center.getBlockZ();
-        for (int x = -22; x <= 22; x++) {
-            for (int y = cy; y <= cy + 52; y++) {
-                for (int z = -22; z <= 22; z++) {
-                    world.getBlockAt(cx + x, y, cz + z).setType(Material.AIR);
-                }
+        PerfMonitor perf = plugin.getPerfMonitor();
+        long start = perf.start();
+        plugin.getSessionEngine().unregister(session);
+
+        for (Player player : new Player[]{session.getPlayer1(), session.getPlayer2()}) {
+            if (player != null) {
+                player.getScheduler().run(plugin, task -> ArenaBorder.remove(player), null);
             }
         }
+
+        // Return the arena to the pool
+        if (session.getSlot() != null) {
+            plugin.getArenaPool().release(session.getSlot());
+        }
+        perf.record(PerfMonitor.Phase.ARENA_CLEANUP, start);
     }
 
     public boolean isInPvP(UUID playerId) {
@@ -266,7 +262,9 @@ public class PvPManager {
     }
 
     public boolean isInQueue(UUID playerId) {
-        return queues.values().stream().anyMatch(q -> q.contains(playerId));
+        synchronized (queues) {
+            return queues.values().stream().anyMatch(q -> q.contains(playerId));
+        }
     }
 
     public PvPSession getSession(UUID playerId) {
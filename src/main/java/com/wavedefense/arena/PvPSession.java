@@ -1,20 +1,24 @@
 package com.wavedefense.arena;
 
+import com.wavedefense.WaveDefensePlugin;
+import com.wavedefense.message.Message;
+
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.title.Title;
 
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
 import java.time.Duration;
 import java.util.UUID;
 
-public class PvPSession {
+public class PvPSession implements TickableSession {
     private final UUID player1Id, player2Id;
+    // A match ends when either player quits, so the handles never need refreshing
+    private final Player player1, player2;
     private final Kit kit;
     private final Location arenaCenter;
 
@@ -26,12 +30,17 @@ public class PvPSession {
     private final float savedHealth1, savedHealth2;
     private final int savedFood1, savedFood2;
 
-    private int warmupTicks = 60; // 3 second warmup
-    private boolean finished = false;
+    private static final int WARMUP_TICKS = 60; // 3 second warmup
+    // TimerWheel tick at which the warmup ends, -1 until the match began
+    private volatile long warmupEndsAt = -1;
+    private volatile boolean finished = false;
+    private ArenaSlot slot;
 
     public PvPSession(Player p1, Player p2, Kit kit, Location arenaCenter) {
         this.player1Id = p1.getUniqueId();
         this.player2Id = p2.getUniqueId();
+        this.player1 = p1;
+        this.player2 = p2;
         this.kit = kit;
         this.arenaCenter = arenaCenter;
 
@@ -58,28 +67,29 @@ public class PvPSession {
         return clone;
     }
 
-    public void tickWarmup() {
-        if (warmupTicks <= 0 || finished) return;
-        warmupTicks--;
-        Player p1 = Bukkit.getPlayer(player1Id);
-        Player p2 = Bukkit.getPlayer(player2Id);
-
-        if (warmupTicks == 40 || warmupTicks == 20) {
-            int seconds = warmupTicks / 20;
-            Component msg = Component.text(String.valueOf(seconds))
-                    .color(NamedTextColor.YELLOW)
-                    .decorate(TextDecoration.BOLD);
+    /**
+     * Starts the warmup and queues its countdown titles on the timer wheel (arena region).
+     */
+    public void startWarmup(TimerWheel wheel) {
+        warmupEndsAt = wheel.now() + WARMUP_TICKS;
+
+        for (int remaining = 40; remaining > 0; remaining -= 20) {
+            int seconds = remaining / 20;
             Title.Times times = Title.Times.times(Duration.ZERO, Duration.ofMillis(800), Duration.ofMillis(200));
-            if (p1 != null) p1.showTitle(Title.title(msg, Component.empty(), times));
-            if (p2 != null) p2.showTitle(Title.title(msg, Component.empty(), times));
+            wheel.schedule(arenaCenter, WARMUP_TICKS - remaining, () -> showTitle(Message.PVP_COUNTDOWN, times, seconds));
         }
-        if (warmupTicks == 0) {
-            Component fight = Component.text("FIGHT!")
-                    .color(NamedTextColor.GREEN)
-                    .decorate(TextDecoration.BOLD);
-            Title.Times times = Title.Times.times(Duration.ZERO, Duration.ofMillis(1000), Duration.ofMillis(500));
-            if (p1 != null) p1.showTitle(Title.title(fight, Component.empty(), times));
-            if (p2 != null) p2.showTitle(Title.title(fight, Component.empty(), times));
+
+        Title.Times times = Title.Times.times(Duration.ZERO, Duration.ofMillis(1000), Duration.ofMillis(500));
+        wheel.schedule(arenaCenter, WARMUP_TICKS, () -> showTitle(Message.PVP_FIGHT_TITLE, times));
+    }
+
+    private void showTitle(Message message, Title.Times times, Object... args) {
+        if (finished) return;
+        for (Player player : new Player[]{getPlayer1(), getPlayer2()}) {
+            if (player != null) {
+                Component text = WaveDefensePlugin.getInstance().getMessages().render(player, message, args);
+                player.showTitle(Title.title(text, Component.empty(), times));
+            }
         }
     }
 
@@ -93,20 +103,34 @@ public class PvPSession {
             player.getInventory().setItemInOffHand(savedOffhand1);
             player.setHealth(savedHealth1);
             player.setFoodLevel(savedFood1);
-            player.teleport(originalLocation1);
+            player.teleportAsync(originalLocation1);
         } else {
             player.getInventory().setContents(savedInventory2);
             player.getInventory().setArmorContents(savedArmor2);
             player.getInventory().setItemInOffHand(savedOffhand2);
             player.setHealth(savedHealth2);
             player.setFoodLevel(savedFood2);
-            player.teleport(originalLocation2);
+            player.teleportAsync(originalLocation2);
         }
     }
 
     public Player getOpponent(Player player) {
-        if (player.getUniqueId().equals(player1Id)) return Bukkit.getPlayer(player2Id);
-        return Bukkit.getPlayer(player1Id);
+        if (player.getUniqueId().equals(player1Id)) return getPlayer2();
+        return getPlayer1();
+    }
+
+    /**
+     * The first player, or null once they went offline.
+     */
+    public Player getPlayer1() {
+        return player1.isOnline() ? player1 : null;
+    }
+
+    /**
+     * The second player, or null once they went offline.
+     */
+    public Player getPlayer2() {
+        return player2.isOnline() ? player2 : null;
     }
 
     // Getters
@@ -116,5 +140,41 @@ public class PvPSession {
     public Location getArenaCenter() { return arenaCenter; }
     public boolean isFinished() { return finished; }
     public void setFinished(boolean f) { this.finished = f; }
-    public boolean isWarmup() { return warmupTicks > 0; }
+    public boolean isWarmup() {
+        return warmupEndsAt < 0 || WaveDefensePlugin.getInstance().getTimerWheel().now() < warmupEndsAt;
+    }
+    public ArenaSlot getSlot() { return slot; }
+    public void setSlot(ArenaSlot slot) { this.slot = slot; }
+    public boolean isArenaReady() { return slot == null || slot.isReady(); }
+
+    @Override
+    public Mode getMode() {
+        return Mode.PVP;
+    }
+
+    @Override
+    public World getWorld() {
+        return arenaCenter.getWorld();
+    }
+
+    @Override
+    public Entity getOwner() {
+        // Both players fight in the arena region
+        return null;
+    }
+
+    @Override
+    public Location getAnchor() {
+        return arenaCenter;
+    }
+
+    @Override
+    public boolean tick(long now) {
+        return WaveDefensePlugin.getInstance().getPvPManager().tickSession(this, now);
+    }
+
+    @Override
+    public String describe() {
+        return getMode() + " " + player1.getName() + " vs " + player2.getName();
+    }
 }
@@ -0,0 +1,122 @@
+package com.wavedefense.arena;
+
+import com.wavedefense.WaveDefensePlugin;
+import com.wavedefense.perf.PerfMonitor;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Owns all live sessions and ticks exactly those, once per server tick.
+ * Managers register a session when it starts (or its player comes back online) and unregister it
+ * when it ends, so the per-tick cost only depends on the number of live sessions.
+ * Sessions are also indexed by mode and by world for lookups.
+ *
+ * Every session runs as its own repeating task on the scheduler that owns it: the entity
+ * scheduler of its owner, or the region scheduler at its anchor. On Paper these all run on the
+ * main thread; on Folia sessions in different regions tick in parallel. A session whose owner
+ * leaves the server is unregistered automatically.
+ */
+public class SessionEngine {
+    private final WaveDefensePlugin plugin;
+    private final Map<TickableSession, Entry> live = new ConcurrentHashMap<>();
+    private final Map<TickableSession.Mode, Set<TickableSession>> byMode = new EnumMap<>(TickableSession.Mode.class);
+    private final Map<UUID, Set<TickableSession>> byWorld = new ConcurrentHashMap<>();
+
+    public SessionEngine(WaveDefensePlugin plugin) {
+        this.plugin = plugin;
+        for (TickableSession.Mode mode : TickableSession.Mode.values()) {
+            byMode.put(mode, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    public void register(TickableSession session) {
+        Entry entry = new Entry(session);
+        if (live.putIfAbsent(session, entry) != null) return;
+
+        byMode.get(session.getMode()).add(session);
+        if (entry.worldId != null) {
+            byWorld.computeIfAbsent(entry.worldId, k -> ConcurrentHashMap.newKeySet()).add(session);
+        }
+
+        Entity owner = session.getOwner();
+        if (owner != null) {
+            entry.task = owner.getScheduler().runAtFixedRate(plugin, entry::run, () -> unregister(session), 1L, 1L);
+        } else {
+            entry.task = Bukkit.getRegionScheduler().runAtFixedRate(plugin, session.getAnchor(), entry::run, 1L, 1L);
+        }
+
+        // Owner was removed before the task could be scheduled
+        if (entry.task == null) {
+            unregister(session);
+        }
+    }
+
+    public void unregister(TickableSession session) {
+        Entry entry = live.remove(session);
+        if (entry == null) return;
+
+        byMode.get(session.getMode()).remove(session);
+        if (entry.worldId != null) {
+            byWorld.computeIfPresent(entry.worldId, (k, sessions) -> {
+                sessions.remove(session);
+                return sessions.isEmpty() ? null : sessions;
+            });
+        }
+        if (entry.task != null) {
+            entry.task.cancel();
+        }
+        plugin.getPerfMonitor().forget(session);
+    }
+
+    public boolean isRegistered(TickableSession session) {
+        return live.containsKey(session);
+    }
+
+    public Collection<TickableSession> getSessions(TickableSession.Mode mode) {
+        return Collections.unmodifiableSet(byMode.get(mode));
+    }
+
+    public Collection<TickableSession> getSessions(World world) {
+        Set<TickableSession> sessions = byWorld.get(world.getUID());
+        return sessions != null ? Collections.unmodifiableSet(sessions) : Collections.emptySet();
+    }
+
+    public int getLiveCount() {
+        return live.size();
+    }
+
+    private class Entry {
+        private final TickableSession session;
+        private final UUID worldId;
+        private volatile ScheduledTask task;
+        private long ticks = 0;
+
+        Entry(TickableSession session) {
+            this.session = session;
+            World world = session.getWorld();
+            this.worldId = world != null ? world.getUID() : null;
+        }
+
+        private void run(ScheduledTask task) {
+            PerfMonitor perf = plugin.getPerfMonitor();
+            long start = perf.start();
+            boolean running = session.tick(++ticks);
+            perf.recordSession(session, start);
+            if (!running) {
+                unregister(session);
+            }
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.wavedefense.arena;
 
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.text.format.TextDecoration;
+import com.wavedefense.WaveDefensePlugin;
+import com.wavedefense.bot.Difficulty;
+import com.wavedefense.message.Message;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Entity;
 import org.bukkit.Location;
@@ -15,6 +15,9 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.Vector;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Survival Arena - Open world with bots spawning every ~100 blocks
@@ -25,23 +28,23 @@ public class SurvivalArena {
     private static final int MAX_BOTS_PER_PLAYER = 5;
     private static final int SPAWN_COOLDOWN_TICKS = 100; // 5 seconds between spawn attempts
 
-    private final Map<UUID, PlayerData> playerData = new HashMap<>();
-    private final Map<UUID, List<UUID>> playerBots = new HashMap<>();
-    private final Map<UUID, BotAI> botAIs = new HashMap<>();
-    private final Map<UUID, Integer> spawnCooldowns = new HashMap<>();
-    private final Random random = new Random();
+    private final Map<UUID, PlayerData> playerData = new ConcurrentHashMap<>();
+    private final Map<UUID, List<UUID>> playerBots = new ConcurrentHashMap<>();
+    private final Map<UUID, BotAI> botAIs = new ConcurrentHashMap<>();
+    // Bot entity -> owning player, to route entity events without scanning the bot lists
+    private final Map<UUID, UUID> botOwners = new ConcurrentHashMap<>();
+    // TimerWheel tick from which the next bot may spawn, per player
+    private final Map<UUID, Long> spawnReadyAt = new ConcurrentHashMap<>();
 
     public void startSurvival(Player player, Kit kit) {
         // Use overworld for survival
         World survivalWorld = Bukkit.getWorlds().get(0);
 
         // Save player data including original world
-        PlayerData data = new PlayerData(player);
+        PlayerData data = new PlayerData(player, survivalWorld);
         playerData.put(player.getUniqueId(), data);
-        playerBots.put(player.getUniqueId(), new ArrayList<>());
-
-        // Find spawn location - use world spawn
-        Location spawnLoc = findSafeSpawn(survivalWorld, 0, 0);
+        playerBots.put(player.getUniqueId(), new CopyOnWriteArrayList<>());
+        WaveDefensePlugin.getInstance().getSessionEngine().register(data);
 
         // Clear inventory and apply kit
         player.getInventory().clear();
@@ -49,20 +52,10 @@ public class SurvivalArena {
         player.setHealth(Objects.requireNonNull(player.getAttribute(Attribute.MAX_HEALTH)).getValue());
         player.setFoodLevel(20);
 
-        // Teleport
-        player.teleport(new Location(survivalWorld, spawnLoc.getX() + 0.5, spawnLoc.getY() + 1, spawnLoc.getZ() + 0.5, 0, 0));
-        player.setVelocity(new Vector(0, 0, 0));
-
-        player.sendMessage(Component.text("=== SURVIVAL ARENA ===")
-                .color(NamedTextColor.GOLD).decorate(TextDecoration.BOLD));
-        player.sendMessage(Component.text("Kit: " + kit.getName())
-                .color(NamedTextColor.YELLOW));
-        player.sendMessage(Component.text("Bots spawnen alle ~100 Blöcke!")
-                .color(NamedTextColor.AQUA));
-        player.sendMessage(Component.text("Besiege sie und sammle Erfahrung!")
-                .color(NamedTextColor.GREEN));
-        player.sendMessage(Component.text("Nutze /wd exit um zu verlassen")
-                .color(NamedTextColor.GRAY));
+        // Teleport to world spawn
+        teleportToSurface(player, survivalWorld, 0, 0);
+
+        WaveDefensePlugin.getInstance().getMessages().send(player, Message.SURVIVAL_START, kit.getName());
     }
 
     public void leaveSurvival(Player player) {
@@ -71,14 +64,18 @@ public class SurvivalArena {
         // Remove all bots
         List<UUID> bots = playerBots.getOrDefault(playerId, new ArrayList<>());
         for (UUID botId : bots) {
-            Entity bot = Bukkit.getEntity(botId);
-            if (bot != null) bot.remove();
-            botAIs.remove(botId);
+            botOwners.remove(botId);
+            BotAI ai = botAIs.remove(botId);
+            if (ai != null) WaveDefensePlugin.getInstance().getBotSystem().detach(ai);
+            Entity bot = ai != null ? ai.getBot() : Bukkit.getEntity(botId);
+            if (bot != null) bot.getScheduler().run(WaveDefensePlugin.getInstance(), task -> bot.remove(), null);
         }
 
         // Restore player and teleport back
         PlayerData data = playerData.get(playerId);
         if (data != null) {
+            WaveDefensePlugin.getInstance().getSessionEngine().unregister(data);
+
             // Get original world from stored location
             Location originalLoc = data.originalLocation;
             World originalWorld = originalLoc.getWorld();
@@ -88,105 +85,91 @@ public class SurvivalArena {
                         originalLoc.getYaw(), originalLoc.getPitch());
             }
 
-            // Teleport back first
-            player.teleport(originalLoc);
-            player.setVelocity(new Vector(0, 0, 0));
-
-            // Then restore inventory
-            data.restore(player);
+            // Teleport back first, then restore inventory
+            player.teleportAsync(originalLoc).thenRun(() -> {
+                player.setVelocity(new Vector(0, 0, 0));
+                data.restore(player);
+            });
         } else {
             // Fallback: teleport to overworld spawn
-            World overworld = Bukkit.getWorlds().get(0);
-            int y = overworld.getHighestBlockYAt(0, 0);
-            player.teleport(new Location(overworld, 0.5, y + 1, 0.5, 0, 0));
+            teleportToSurface(player, Bukkit.getWorlds().get(0), 0, 0);
         }
 
         playerData.remove(playerId);
         playerBots.remove(playerId);
-        spawnCooldowns.remove(playerId);
+        spawnReadyAt.remove(playerId);
 
-        player.sendMessage(Component.text("Survival Arena verlassen!")
-                .color(NamedTextColor.YELLOW));
+        WaveDefensePlugin.getInstance().getMessages().send(player, Message.SURVIVAL_LEFT);
     }
 
-    public void tick(World world) {
-        // Only tick in overworld (survival uses overworld now)
-        if (world.getEnvironment() != World.Environment.NORMAL) return;
+    /**
+     * Ticks one survival run; called by the SessionEngine. Survival runs end only through leaveSurvival.
+     */
+    void tickPlayer(PlayerData data) {
+        Player player = data.getPlayer();
+        if (player == null) return;
+        UUID playerId = data.playerId;
 
-        for (UUID playerId : new HashSet<>(playerData.keySet())) {
-            Player player = Bukkit.getPlayer(playerId);
-            if (player == null) continue;
-            if (player.getWorld().getEnvironment() != World.Environment.NORMAL) continue;
-
-            // Use computeIfAbsent to ensure the list is stored (fixes getOrDefault bug)
-            List<UUID> bots = playerBots.computeIfAbsent(playerId, k -> new ArrayList<>());
-
-            // Remove dead bots
-            bots.removeIf(botId -> {
-                Entity bot = Bukkit.getEntity(botId);
-                if (bot == null || bot.isDead()) {
-                    botAIs.remove(botId);
-                    player.giveExp(50);
-                    return true;
-                }
-                return false;
-            });
+        // Survival uses the overworld
+        World world = player.getWorld();
+        if (world.getEnvironment() != World.Environment.NORMAL) return;
 
-            // Decrement spawn cooldown
-            int cooldown = spawnCooldowns.getOrDefault(playerId, 0);
-            if (cooldown > 0) {
-                spawnCooldowns.put(playerId, cooldown - 1);
-            } else if (bots.size() < MAX_BOTS_PER_PLAYER) {
-                trySpawnBot(player, world, bots);
-                spawnCooldowns.put(playerId, SPAWN_COOLDOWN_TICKS);
-            }
+        // Use computeIfAbsent to ensure the list is stored (fixes getOrDefault bug)
+        List<UUID> bots = playerBots.computeIfAbsent(playerId, k -> new CopyOnWriteArrayList<>());
 
-            // Tick bot AIs
-            for (UUID botId : bots) {
-                BotAI ai = botAIs.get(botId);
-                if (ai != null) ai.tick();
-            }
+        // Decrement spawn cooldown
+        long now = WaveDefensePlugin.getInstance().getTimerWheel().now();
+        if (now >= spawnReadyAt.getOrDefault(playerId, 0L) && bots.size() < MAX_BOTS_PER_PLAYER) {
+            trySpawnBot(player, world, bots);
+            spawnReadyAt.put(playerId, now + SPAWN_COOLDOWN_TICKS);
         }
     }
 
     private void trySpawnBot(Player player, World world, List<UUID> bots) {
         // Find a position ~100 blocks away
+        ThreadLocalRandom random = ThreadLocalRandom.current();
         double angle = random.nextDouble() * Math.PI * 2;
         int distance = BOT_SPAWN_DISTANCE + random.nextInt(50) - 25;
 
-        int spawnX = (int) (player.getLocation().getX() + Math.cos(angle) * distance);
-        int spawnZ = (int) (player.getLocation().getZ() + Math.sin(angle) * distance);
+        Location playerLoc = player.getLocation();
+        int spawnX = (int) (playerLoc.getX() + Math.cos(angle) * distance);
+        int spawnZ = (int) (playerLoc.getZ() + Math.sin(angle) * distance);
 
-        Location spawnLoc = findSafeSpawn(world, spawnX, spawnZ);
-        if (spawnLoc == null) return;
+        // The spawn point usually lies in another region than the player
+        Bukkit.getRegionScheduler().execute(WaveDefensePlugin.getInstance(), world, spawnX >> 4, spawnZ >> 4, () -> {
+            Location spawnLoc = findSafeSpawn(world, spawnX, spawnZ);
+            if (spawnLoc == null) return;
 
-        // Check if too close to player (within 50 blocks)
-        if (spawnLoc.distance(player.getLocation()) < 50) return;
+            // Check if too close to player (within 50 blocks)
+            if (spawnLoc.distance(playerLoc) < 50) return;
 
-        // Random kit for bot
-        Kit kit = getRandomKit();
-        Difficulty difficulty = getRandomDifficulty();
+            // Random kit for bot
+            Kit kit = getRandomKit();
+            Difficulty difficulty = getRandomDifficulty();
 
-        // Spawn bot
-        Zombie bot = (Zombie) world.spawnEntity(spawnLoc, EntityType.ZOMBIE);
-        setupBot(bot, player, kit, difficulty);
-        bots.add(bot.getUniqueId());
+            // Spawn bot
+            Zombie bot = (Zombie) world.spawnEntity(spawnLoc, EntityType.ZOMBIE);
+            setupBot(bot, player, kit, difficulty);
+            bots.add(bot.getUniqueId());
+            botOwners.put(bot.getUniqueId(), player.getUniqueId());
 
-        BotAI ai = new BotAI(bot, player, kit, difficulty, world);
-        botAIs.put(bot.getUniqueId(), ai);
+            // The bot's AI runs in the BotSystem until the bot dies or is removed (onBotGone)
+            BotAI ai = new BotAI(bot, player, kit, difficulty);
+            botAIs.put(bot.getUniqueId(), ai);
+            WaveDefensePlugin.getInstance().getBotSystem().attach(ai);
 
-        // Notify player via action bar
-        player.sendActionBar(Component.text("Ein " + kit.getName() + " Bot ist in der Nähe erschienen!")
-                .color(NamedTextColor.RED));
+            // Notify player via action bar
+            player.sendActionBar(WaveDefensePlugin.getInstance().getMessages().render(player, Message.SURVIVAL_BOT_SPAWNED, kit.getName()));
+        });
     }
 
     private void setupBot(Zombie bot, Player player, Kit kit, Difficulty difficulty) {
-        bot.customName(Component.text(kit.getName() + " [" + difficulty.getName() + "]")
-                .color(NamedTextColor.RED).decorate(TextDecoration.BOLD));
+        bot.customName(WaveDefensePlugin.getInstance().getMessages().render(Message.SURVIVAL_BOT_NAME, kit.getName(), difficulty.getName()));
         bot.setCustomNameVisible(true);
         bot.setBaby(false);
         bot.setAI(false); // Disable vanilla AI, BotAI controls it
         bot.setRemoveWhenFarAway(false);
+        bot.setPersistent(false); // Discarded with its chunk instead of lingering in the world
 
         Objects.requireNonNull(bot.getAttribute(Attribute.MAX_HEALTH)).setBaseValue(difficulty.getHealth());
         Objects.requireNonNull(bot.getAttribute(Attribute.MOVEMENT_SPEED)).setBaseValue(difficulty.getMovementSpeed());
@@ -198,6 +181,19 @@ public class SurvivalArena {
         kit.applyToBot(bot);
     }
 
+    /**
+     * Looks up the surface on the region owning (x, z), then teleports the player there from its own thread.
+     */
+    private void teleportToSurface(Player player, World world, int x, int z) {
+        WaveDefensePlugin plugin = WaveDefensePlugin.getInstance();
+        Bukkit.getRegionScheduler().execute(plugin, world, x >> 4, z >> 4, () -> {
+            Location spawnLoc = findSafeSpawn(world, x, z);
+            Location target = new Location(world, x + 0.5, spawnLoc.getY() + 1, z + 0.5, 0, 0);
+            player.getScheduler().run(plugin, task -> player.teleportAsync(target)
+                    .thenRun(() -> player.setVelocity(new Vector(0, 0, 0))), null);
+        });
+    }
+
     private Location findSafeSpawn(World world, int x, int z) {
         int y = world.getHighestBlockYAt(x, z);
         if (y < 1) y = 100;
@@ -206,19 +202,61 @@ public class SurvivalArena {
 
     private Kit getRandomKit() {
         Kit[] kits = Kit.values();
-        return kits[random.nextInt(kits.length)];
+        return kits[ThreadLocalRandom.current().nextInt(kits.length)];
     }
 
     private Difficulty getRandomDifficulty() {
         Difficulty[] diffs = Difficulty.values();
-        return diffs[random.nextInt(diffs.length)];
+        return diffs[ThreadLocalRandom.current().nextInt(diffs.length)];
+    }
+
+    /**
+     * Resumes ticking the survival run of a player who reconnected.
+     */
+    public void onPlayerJoin(Player player) {
+        PlayerData data = playerData.get(player.getUniqueId());
+        if (data != null) {
+            data.player = player;
+            for (UUID botId : playerBots.getOrDefault(player.getUniqueId(), List.of())) {
+                BotAI ai = botAIs.get(botId);
+                if (ai != null) ai.setTarget(player);
+            }
+            WaveDefensePlugin.getInstance().getSessionEngine().register(data);
+        }
+    }
+
+    /**
+     * Called from EntityDeathEvent/EntityRemoveEvent: drops a survival bot that died, was removed
+     * or unloaded with its chunk. Only a kill earns the owner experience.
+     */
+    public void onBotGone(Entity entity, boolean killed) {
+        UUID botId = entity.getUniqueId();
+        UUID ownerId = botOwners.remove(botId);
+        if (ownerId == null) return;
+
+        BotAI ai = botAIs.remove(botId);
+        if (ai != null) WaveDefensePlugin.getInstance().getBotSystem().detach(ai);
+        List<UUID> bots = playerBots.get(ownerId);
+        if (bots != null) bots.remove(botId);
+
+        if (killed) {
+            PlayerData data = playerData.get(ownerId);
+            Player player = data != null ? data.getPlayer() : null;
+            if (player != null) {
+                player.getScheduler().run(WaveDefensePlugin.getInstance(), task -> player.giveExp(50), null);
+            }
+        }
     }
 
     public boolean isInSurvival(Player player) {
         return playerData.containsKey(player.getUniqueId());
     }
 
-    private static class PlayerData {
+    private static class PlayerData implements TickableSession {
+        final UUID playerId;
+        // Refreshed on reconnect, the old handle goes stale when the player logs out
+        volatile Player player;
+        final World world;
         final Location originalLocation;
         final List<ItemStack> inventory = new ArrayList<>();
         final ItemStack[] armor;
@@ -226,7 +264,10 @@ public class SurvivalArena {
         final double health;
         final int food;
 
-        PlayerData(Player player) {
+        PlayerData(Player player, World world) {
+            this.playerId = player.getUniqueId();
+            this.player = player;
+            this.world = world;
             this.originalLocation = player.getLocation().clone();
             this.health = player.getHealth();
             this.food = player.getFoodLevel();
@@ -243,6 +284,11 @@ public class SurvivalArena {
             this.offhand = off.getType().isAir() ? null : off.clone();
         }
 
+        Player getPlayer() {
+            Player p = player;
+            return p != null && p.isOnline() ? p : null;
+        }
+
         void restore(Player player) {
             player.getInventory().clear();
             for (int i = 0; i < inventory.size() && i < 36; i++) {
@@ -260,5 +306,31 @@ public class SurvivalArena {
             player.setHealth(health);
             player.setFoodLevel(food);
         }
+
+        @Override
+        public Mode getMode() {
+            return Mode.SURVIVAL;
+        }
+
+        @Override
+        public World getWorld() {
+            return world;
+        }
+
+        @Override
+        public Entity getOwner() {
+            return getPlayer();
+        }
+
+        @Override
+        public Location getAnchor() {
+            return originalLocation;
+        }
+
+        @Override
+        public boolean tick(long now) {
+            WaveDefensePlugin.getInstance().getSurvivalArena().tickPlayer(this);
+            return true;
+        }
     }
 }
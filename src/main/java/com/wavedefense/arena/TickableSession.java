@@ -0,0 +1,48 @@
+package com.wavedefense.arena;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+/**
+ * A running game session (PvE arena, PvP match or survival run) that the SessionEngine ticks.
+ */
+public interface TickableSession {
+    enum Mode { ARENA, PVP, SURVIVAL }
+
+    Mode getMode();
+
+    /**
+     * World the session plays in; used to index the session, read once on registration.
+     */
+    World getWorld();
+
+    /**
+     * Entity whose scheduler runs the session, so the tick follows it across regions.
+     * Null to tick on the region owning getAnchor() instead.
+     */
+    Entity getOwner();
+
+    /**
+     * Location whose region runs the session when there is no owner entity.
+     */
+    Location getAnchor();
+
+    /**
+     * Advances the session by one tick; now counts the ticks since registration.
+     * Returns false once the session is over, which unregisters it from the engine.
+     */
+    boolean tick(long now);
+
+    /**
+     * Short human-readable name, shown by /wd perf.
+     */
+    default String describe() {
+        Entity owner = getOwner();
+        if (owner != null) {
+            return getMode() + " " + owner.getName();
+        }
+        Location anchor = getAnchor();
+        return getMode() + " @" + anchor.getBlockX() + "," + anchor.getBlockZ();
+    }
+}
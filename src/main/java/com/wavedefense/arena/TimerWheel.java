@@ -0,0 +1,195 @@
+package com.wavedefense.arena;
+
+import com.wavedefense.WaveDefensePlugin;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plugin-wide tick clock and hierarchical timer wheel, advanced once per server tick on the
+ * global region.
+ *
+ * Cooldowns are stored as absolute tick numbers (now() + duration) and checked with a compare,
+ * so nothing has to count them down. Delayed actions (restores, cleanups, countdown titles) go
+ * into the wheel instead of being one-shot scheduler tasks: 256 one-tick buckets, then 64 buckets
+ * of 256 ticks and 64 buckets of 16384 ticks, which cascade down as their time comes closer.
+ *
+ * Actions bound to an entity or location run on the thread that owns it. On Paper that is the
+ * main thread the wheel already runs on; on Folia the action hops to the entity or region
+ * scheduler only when it fires.
+ */
+public class TimerWheel {
+    private static final int LEVEL0_BITS = 8;
+    private static final int LEVEL_BITS = 6;
+    private static final int LEVEL0_SIZE = 1 << LEVEL0_BITS;
+    private static final int LEVEL_SIZE = 1 << LEVEL_BITS;
+    private static final int LEVEL1_SHIFT = LEVEL0_BITS;
+    private static final int LEVEL2_SHIFT = LEVEL0_BITS + LEVEL_BITS;
+    private static final long LEVEL1_SPAN = 1L << LEVEL2_SHIFT;
+    private static final long LEVEL2_SPAN = 1L << (LEVEL2_SHIFT + LEVEL_BITS);
+
+    private final WaveDefensePlugin plugin;
+    private final List<Timer>[] level0 = newBuckets(LEVEL0_SIZE);
+    private final List<Timer>[] level1 = newBuckets(LEVEL_SIZE);
+    private final List<Timer>[] level2 = newBuckets(LEVEL_SIZE);
+    // Swapped with the due bucket so firing does not allocate
+    private List<Timer> firing = new ArrayList<>();
+    private volatile long now = 0;
+
+    public TimerWheel(WaveDefensePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Timer>[] newBuckets(int size) {
+        List<Timer>[] buckets = new List[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        return buckets;
+    }
+
+    /**
+     * Server ticks since the plugin was enabled. Safe to read from any thread.
+     */
+    public long now() {
+        return now;
+    }
+
+    /**
+     * Runs the action on the global region after the given number of ticks (at least one).
+     */
+    public Timer schedule(long delayTicks, Runnable action) {
+        return add(new Timer(null, null, action), delayTicks);
+    }
+
+    /**
+     * Runs the action on the entity's thread after the given number of ticks. Dropped if the
+     * entity is gone by then (for players: logged out), like an entity scheduler task.
+     */
+    public Timer schedule(Entity entity, long delayTicks, Runnable action) {
+        return add(new Timer(entity, null, action), delayTicks);
+    }
+
+    /**
+     * Runs the action on the region owning the location after the given number of ticks.
+     */
+    public Timer schedule(Location location, long delayTicks, Runnable action) {
+        return add(new Timer(null, location.clone(), action), delayTicks);
+    }
+
+    private synchronized Timer add(Timer timer, long delayTicks) {
+        timer.deadline = now + Math.max(1, delayTicks);
+        place(timer);
+        return timer;
+    }
+
+    private void place(Timer timer) {
+        long delta = timer.deadline - now;
+        if (delta < LEVEL0_SIZE) {
+            level0[(int) (Math.max(timer.deadline, now) & (LEVEL0_SIZE - 1))].add(timer);
+        } else if (delta < LEVEL1_SPAN) {
+            level1[(int) ((timer.deadline >> LEVEL1_SHIFT) & (LEVEL_SIZE - 1))].add(timer);
+        } else if (delta < LEVEL2_SPAN) {
+            level2[(int) ((timer.deadline >> LEVEL2_SHIFT) & (LEVEL_SIZE - 1))].add(timer);
+        } else {
+            // Beyond the wheel: park in the furthest bucket, it is re-placed when that cascades
+            level2[(int) (((now >> LEVEL2_SHIFT) - 1) & (LEVEL_SIZE - 1))].add(timer);
+        }
+    }
+
+    /**
+     * Advances the clock by one tick and fires the timers that are due. Called by the plugin once
+     * per server tick on the global region.
+     */
+    public void tick() {
+        List<Timer> due;
+        synchronized (this) {
+            long tick = now + 1;
+            now = tick;
+
+            // Move the next coarse bucket down once the finer level wrapped around
+            if ((tick & (LEVEL0_SIZE - 1)) == 0) {
+                if (((tick >> LEVEL1_SHIFT) & (LEVEL_SIZE - 1)) == 0) {
+                    cascade(level2[(int) ((tick >> LEVEL2_SHIFT) & (LEVEL_SIZE - 1))]);
+                }
+                cascade(level1[(int) ((tick >> LEVEL1_SHIFT) & (LEVEL_SIZE - 1))]);
+            }
+
+            int index = (int) (tick & (LEVEL0_SIZE - 1));
+            due = level0[index];
+            level0[index] = firing;
+            firing = due;
+        }
+
+        for (int i = 0; i < due.size(); i++) {
+            due.get(i).fire();
+        }
+        due.clear();
+    }
+
+    private void cascade(List<Timer> bucket) {
+        if (bucket.isEmpty()) return;
+        List<Timer> timers = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Timer timer : timers) {
+            place(timer);
+        }
+    }
+
+    /**
+     * Handle of a scheduled action.
+     */
+    public class Timer {
+        private final Entity entity;
+        private final Location location;
+        private final Runnable action;
+        private long deadline;
+        private volatile boolean cancelled = false;
+
+        private Timer(Entity entity, Location location, Runnable action) {
+            this.entity = entity;
+            this.location = location;
+            this.action = action;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void fire() {
+            if (cancelled) return;
+
+            if (entity != null) {
+                if (WaveDefensePlugin.isFolia()) {
+                    entity.getScheduler().run(plugin, task -> runIfActive(), null);
+                } else if (entity instanceof Player player ? player.isOnline() : entity.isValid()) {
+                    runIfActive();
+                }
+            } else if (location != null && WaveDefensePlugin.isFolia()) {
+                Bukkit.getRegionScheduler().execute(plugin, location, this::runIfActive);
+            } else {
+                runIfActive();
+            }
+        }
+
+        private void runIfActive() {
+            if (cancelled) return;
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                plugin.getLogger().severe("Timer action failed: " + e);
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -2,11 +2,14 @@ package com.wavedefense.command;
 
 import com.wavedefense.WaveDefensePlugin;
 import com.wavedefense.arena.*;
+import com.wavedefense.bot.Difficulty;
 import com.wavedefense.lobby.LobbyManager;
 import com.wavedefense.lobby.PlayerStats;
+import com.wavedefense.message.Message;
+import com.wavedefense.message.Messages;
+import com.wavedefense.perf.PerfMonitor;
+import com.wavedefense.perf.RollingWindow;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.text.format.TextDecoration;
 import org.bukkit.command.*;
 import org.bukkit.entity.Player;
 import java.util.*;
@@ -22,8 +25,13 @@ public class WaveDefenseCommand implements CommandExecutor, TabCompleter {
 
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        // Also available from the console
+        if (args.length > 0 && args[0].equalsIgnoreCase("perf")) {
+            handlePerf(sender);
+            return true;
+        }
         if (!(sender instanceof Player player)) {
-            sender.sendMessage(Component.text("Nur Spieler können diesen Befehl nutzen!").color(NamedTextColor.RED));
+            plugin.getMessages().send(sender, Message.PLAYERS_ONLY);
             return true;
         }
         if (args.length == 0) { showHelp(player); return true; }
@@ -47,18 +55,18 @@ public class WaveDefenseCommand implements CommandExecutor, TabCompleter {
 
     private void handleArena(Player player, String[] args) {
         if (args.length < 2) {
-            player.sendMessage(Component.text("Nutze: /wd arena <kit> [schwierigkeit]").color(NamedTextColor.RED));
-            player.sendMessage(Component.text("Kits: " + Arrays.stream(Kit.values()).map(Kit::getName).collect(Collectors.joining(", "))).color(NamedTextColor.GRAY));
+            plugin.getMessages().send(player, Message.USAGE_ARENA,
+                    Arrays.stream(Kit.values()).map(Kit::getName).collect(Collectors.joining(", ")));
             return;
         }
         Kit kit = parseKit(args[1]);
         if (kit == null) {
-            player.sendMessage(Component.text("Unbekanntes Kit: " + args[1]).color(NamedTextColor.RED));
+            plugin.getMessages().send(player, Message.UNKNOWN_KIT, args[1]);
             return;
         }
         Difficulty diff = args.length >= 3 ? parseDifficulty(args[2]) : Difficulty.MEDIUM;
         if (diff == null) {
-            player.sendMessage(Component.text("Unbekannte Schwierigkeit: " + args[2]).color(NamedTextColor.RED));
+            plugin.getMessages().send(player, Message.UNKNOWN_DIFFICULTY, args[2]);
             return;
         }
         lastKit.put(player.getUniqueId(), kit);
@@ -68,12 +76,12 @@ public class WaveDefenseCommand implements CommandExecutor, TabCompleter {
 
     private void handlePvP(Player player, String[] args) {
         if (args.length < 2) {
-            player.sendMessage(Component.text("Nutze: /wd pvp <kit>").color(NamedTextColor.RED));
+            plugin.getMessages().send(player, Message.USAGE_PVP);
             return;
         }
         Kit kit = parseKit(args[1]);
         if (kit == null) {
-            player.sendMessage(Component.text("Unbekanntes Kit: " + args[1]).color(NamedTextColor.RED));
+            plugin.getMessages().send(player, Message.UNKNOWN_KIT, args[1]);
             return;
         }
         plugin.getPvPManager().joinQueue(player, kit);
@@ -83,11 +91,11 @@ public class WaveDefenseCommand implements CommandExecutor, TabCompleter {
         if (plugin.getArenaManager().isInArena(player)) {
             plugin.getArenaManager().leaveArena(player);
         } else if (plugin.getPvPManager().isInPvP(player.getUniqueId())) {
-            player.sendMessage(Component.text("Du kannst ein PvP-Match nicht verlassen!").color(NamedTextColor.RED));
+            plugin.getMessages().send(player, Message.CANNOT_LEAVE_PVP);
         } else if (plugin.getPvPManager().isInQueue(player.getUniqueId())) {
             plugin.getPvPManager().leaveQueue(player);
         } else {
-            player.sendMessage(Component.text("Du bist in keiner Arena!").color(NamedTextColor.RED));
+            plugin.getMessages().send(player, Message.ARENA_NOT_IN);
         }
     }
 
@@ -97,12 +105,12 @@ public class WaveDefenseCommand implements CommandExecutor, TabCompleter {
 
     private void handleSurvival(Player player, String[] args) {
         if (args.length < 2) {
-            player.sendMessage(Component.text("Nutze: /wd survival <kit>").color(NamedTextColor.RED));
+            plugin.getMessages().send(player, Message.USAGE_SURVIVAL);
             return;
         }
         Kit kit = parseKit(args[1]);
         if (kit == null) {
-            player.sendMessage(Component.text("Unbekanntes Kit: " + args[1]).color(NamedTextColor.RED));
+            plugin.getMessages().send(player, Message.UNKNOWN_KIT, args[1]);
             return;
         }
         plugin.getSurvivalArena().startSurvival(player, kit);
@@ -112,29 +120,29 @@ public class WaveDefenseCommand implements CommandExecutor, TabCompleter {
         if (plugin.getSurvivalArena().isInSurvival(player)) {
             plugin.getSurvivalArena().leaveSurvival(player);
         } else {
-            player.sendMessage(Component.text("Du bist nicht im Survival-Modus!").color(NamedTextColor.RED));
+            plugin.getMessages().send(player, Message.NOT_IN_SURVIVAL);
         }
     }
 
     private void handleKit(Player player, String[] args) {
         if (args.length < 2) {
-            player.sendMessage(Component.text("Nutze: /wd kit <kit>").color(NamedTextColor.RED));
+            plugin.getMessages().send(player, Message.USAGE_KIT);
             return;
         }
         Kit kit = parseKit(args[1]);
         if (kit == null) {
-            player.sendMessage(Component.text("Unbekanntes Kit: " + args[1]).color(NamedTextColor.RED));
+            plugin.getMessages().send(player, Message.UNKNOWN_KIT, args[1]);
             return;
         }
         kit.applyToPlayer(player);
-        player.sendMessage(Component.text("Kit " + kit.getName() + " erhalten!").color(NamedTextColor.GREEN));
+        plugin.getMessages().send(player, Message.KIT_RECEIVED, kit.getName());
     }
 
     private void handleRematch(Player player) {
         Kit kit = lastKit.get(player.getUniqueId());
         Difficulty diff = lastDifficulty.get(player.getUniqueId());
         if (kit == null) {
-            player.sendMessage(Component.text("Kein letztes Match gefunden!").color(NamedTextColor.RED));
+            plugin.getMessages().send(player, Message.NO_LAST_MATCH);
             return;
         }
         if (diff == null) diff = Difficulty.MEDIUM;
@@ -143,30 +151,68 @@ public class WaveDefenseCommand implements CommandExecutor, TabCompleter {
 
     private void handleConfig(Player player, String[] args) {
         if (!player.hasPermission("wavedefense.admin")) {
-            player.sendMessage(Component.text("Keine Berechtigung!").color(NamedTextColor.RED));
+            plugin.getMessages().send(player, Message.NO_PERMISSION);
             return;
         }
         if (args.length >= 2 && args[1].equalsIgnoreCase("reload")) {
             new BotConfig().reload();
-            player.sendMessage(Component.text("Config neu geladen!").color(NamedTextColor.GREEN));
+            plugin.getMessages().reload();
+            plugin.getMessages().send(player, Message.CONFIG_RELOADED);
         } else {
-            player.sendMessage(Component.text("Nutze: /wd config reload").color(NamedTextColor.YELLOW));
+            plugin.getMessages().send(player, Message.USAGE_CONFIG);
         }
     }
 
+    private void handlePerf(CommandSender sender) {
+        Messages messages = plugin.getMessages();
+        if (!sender.hasPermission("wavedefense.admin")) {
+            messages.send(sender, Message.NO_PERMISSION);
+            return;
+        }
+        if (!BotConfig.getInstance().enablePerfMonitor) {
+            messages.send(sender, Message.PERF_DISABLED);
+            return;
+        }
+
+        PerfMonitor perf = plugin.getPerfMonitor();
+        messages.send(sender, Message.PERF_HEADER, PerfMonitor.WINDOW_NANOS / 1_000_000_000L,
+                plugin.getSessionEngine().getLiveCount(), plugin.getBuildQueue().size());
+
+        messages.send(sender, Message.PERF_PHASES);
+        for (PerfMonitor.Phase phase : PerfMonitor.Phase.values()) {
+            RollingWindow.Stats stats = perf.getStats(phase);
+            if (stats.count() == 0) continue;
+            sendPerfLine(sender, messages.render(sender, phase.getDisplayName()), stats);
+        }
+
+        messages.send(sender, Message.PERF_TOP_SESSIONS);
+        sendTopEntries(sender, perf.getTop(false, 5));
+        messages.send(sender, Message.PERF_TOP_BOTS);
+        sendTopEntries(sender, perf.getTop(true, 5));
+    }
+
+    private void sendTopEntries(CommandSender sender, List<PerfMonitor.Entry> entries) {
+        if (entries.isEmpty()) {
+            plugin.getMessages().send(sender, Message.PERF_NONE);
+            return;
+        }
+        for (PerfMonitor.Entry entry : entries) {
+            sendPerfLine(sender, Component.text(entry.label()), entry.stats());
+        }
+    }
+
+    private void sendPerfLine(CommandSender sender, Component name, RollingWindow.Stats stats) {
+        plugin.getMessages().send(sender, Message.PERF_LINE, name,
+                stats.nanosPerTick() / 1_000_000.0,
+                stats.p50() / 1000.0, stats.p95() / 1000.0, stats.p99() / 1000.0, stats.count());
+    }
+
     private void showHelp(Player player) {
-        player.sendMessage(Component.text(""));
-        player.sendMessage(Component.text("=== Wave Defense Hilfe ===").color(NamedTextColor.GOLD).decorate(TextDecoration.BOLD));
-        player.sendMessage(Component.text("/wd arena <kit> [schwierigkeit]").color(NamedTextColor.YELLOW).append(Component.text(" - PvE Arena").color(NamedTextColor.GRAY)));
-        player.sendMessage(Component.text("/wd pvp <kit>").color(NamedTextColor.YELLOW).append(Component.text(" - PvP Queue").color(NamedTextColor.GRAY)));
-        player.sendMessage(Component.text("/wd survival <kit>").color(NamedTextColor.YELLOW).append(Component.text(" - Survival Modus").color(NamedTextColor.GRAY)));
-        player.sendMessage(Component.text("/wd leave").color(NamedTextColor.YELLOW).append(Component.text(" - Arena verlassen").color(NamedTextColor.GRAY)));
-        player.sendMessage(Component.text("/wd exit").color(NamedTextColor.YELLOW).append(Component.text(" - Survival verlassen").color(NamedTextColor.GRAY)));
-        player.sendMessage(Component.text("/wd lobby").color(NamedTextColor.YELLOW).append(Component.text(" - Zur Lobby").color(NamedTextColor.GRAY)));
-        player.sendMessage(Component.text("/wd stats").color(NamedTextColor.YELLOW).append(Component.text(" - Statistiken").color(NamedTextColor.GRAY)));
-        player.sendMessage(Component.text("/wd rematch").color(NamedTextColor.YELLOW).append(Component.text(" - Letztes Match wiederholen").color(NamedTextColor.GRAY)));
-        player.sendMessage(Component.text("/wd kit <kit>").color(NamedTextColor.YELLOW).append(Component.text(" - Kit erhalten").color(NamedTextColor.GRAY)));
-        player.sendMessage(Component.text(""));
+        plugin.getMessages().send(player, Message.HELP);
+        if (player.hasPermission("wavedefense.admin")) {
+            plugin.getMessages().send(player, Message.HELP_ADMIN);
+        }
+        player.sendMessage(Component.empty());
     }
 
     private Kit parseKit(String name) {
@@ -180,7 +226,11 @@ public class WaveDefenseCommand implements CommandExecutor, TabCompleter {
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String label, String[] args) {
         if (args.length == 1) {
-            return filterStartsWith(args[0], List.of("arena", "pvp", "survival", "leave", "exit", "lobby", "stats", "rematch", "kit", "config", "help"));
+            List<String> subcommands = new ArrayList<>(List.of("arena", "pvp", "survival", "leave", "exit", "lobby", "stats", "rematch", "kit", "config", "help"));
+            if (sender.hasPermission("wavedefense.admin")) {
+                subcommands.add("perf");
+            }
+            return filterStartsWith(args[0], subcommands);
         }
         if (args.length == 2) {
             String sub = args[0].toLowerCase();
@@ -1,15 +1,27 @@
 package com.wavedefense.listener;
 
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
 import com.wavedefense.WaveDefensePlugin;
+import com.wavedefense.arena.ArenaBorder;
 import com.wavedefense.arena.ArenaManager;
+import com.wavedefense.arena.ArenaPool;
+import com.wavedefense.arena.ArenaSlot;
 import com.wavedefense.arena.BotAI;
 import com.wavedefense.arena.PvPManager;
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
 import org.bukkit.entity.*;
 import org.bukkit.event.*;
+import org.bukkit.event.block.*;
 import org.bukkit.event.entity.*;
 import org.bukkit.event.player.*;
+import org.bukkit.event.world.EntitiesLoadEvent;
 import org.bukkit.inventory.EquipmentSlot;
 
+import java.util.List;
+
 public class WaveDefenseListener implements Listener {
     private final WaveDefensePlugin plugin;
 
@@ -18,6 +30,7 @@ public class WaveDefenseListener implements Listener {
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
         plugin.getArenaManager().onPlayerJoin(event.getPlayer());
+        plugin.getSurvivalArena().onPlayerJoin(event.getPlayer());
     }
 
     @EventHandler
@@ -35,17 +48,24 @@ public class WaveDefenseListener implements Listener {
     public void onPlayerQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
         plugin.getPvPManager().handlePlayerQuit(player);
+        plugin.getMotionTracker().forget(player);
         // Arena sessions persist via ArenaDataStorage
     }
 
     @EventHandler
-    public void onPlayerInteractAtEntity(PlayerInteractAtEntityEvent event) {
+    public void onPlayerInteractEntity(PlayerInteractEntityEvent event) {
         if (event.getHand() != EquipmentSlot.HAND) return;
-        if (!(event.getRightClicked() instanceof ArmorStand armorStand)) return;
+        if (!(event.getRightClicked() instanceof Interaction interaction)) return;
 
         Player player = event.getPlayer();
-        plugin.getLobbyManager().handleArmorStandInteraction(player, armorStand);
-        event.setCancelled(true);
+        if (plugin.getLobbyManager().handleKitInteraction(player, interaction)) {
+            event.setCancelled(true);
+        }
+    }
+
+    @EventHandler
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        plugin.getLobbyManager().onEntitiesLoad(event.getChunk(), event.getEntities());
     }
 
     // Track entity damage for BotAI hurt detection
@@ -61,6 +81,55 @@ public class WaveDefenseListener implements Listener {
         }
     }
 
+    // Keep foreign mobs out of the arenas - only the plugin itself spawns creatures there
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onCreatureSpawn(CreatureSpawnEvent event) {
+        if (event.getSpawnReason() == CreatureSpawnEvent.SpawnReason.CUSTOM) return;
+        if (plugin.getArenaPool().getSlotAt(event.getLocation()) != null) {
+            event.setCancelled(true);
+        }
+    }
+
+    // Endermen, shulkers, chorus fruit and the like must not hop into an arena from outside
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onEntityTeleport(EntityTeleportEvent event) {
+        Location to = event.getTo();
+        if (to == null) return;
+
+        ArenaPool pool = plugin.getArenaPool();
+        ArenaSlot target = pool.getSlotAt(to);
+        if (target != null && target != pool.getSlotAt(event.getFrom())) {
+            event.setCancelled(true);
+        }
+    }
+
+    // Bot deaths and removals are pushed to the sessions instead of polled every tick
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+        if (!(event.getEntity() instanceof Zombie zombie)) return;
+        plugin.getArenaManager().onBotGone(zombie);
+        plugin.getSurvivalArena().onBotGone(zombie, true);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveEvent event) {
+        if (!(event.getEntity() instanceof Zombie zombie)) return;
+        if (event.getCause() == EntityRemoveEvent.Cause.UNLOAD) {
+            // Arena bots come back with their chunk; survival bots are not persistent and are gone
+            plugin.getArenaManager().onBotUnloaded(zombie);
+        } else {
+            plugin.getArenaManager().onBotGone(zombie);
+        }
+        plugin.getSurvivalArena().onBotGone(zombie, false);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityAddToWorld(EntityAddToWorldEvent event) {
+        if (event.getEntity() instanceof Zombie zombie) {
+            plugin.getArenaManager().onBotLoaded(zombie);
+        }
+    }
+
     // Prevent item drops in arena
     @EventHandler
     public void onPlayerDropItem(PlayerDropItemEvent event) {
@@ -77,6 +146,116 @@ public class WaveDefenseListener implements Listener {
         if (plugin.getArenaManager().isInArena(player) || plugin.getPvPManager().isInPvP(player.getUniqueId())) {
             // Respawn at lobby (arena cleanup handles the rest)
             event.setRespawnLocation(plugin.getLobbyManager().getLobbySpawn());
+            ArenaBorder.remove(player);
+        }
+    }
+
+    // Arena block journal - record every block a match changes so the slot reset only rewrites those
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        if (event instanceof BlockMultiPlaceEvent multi) {
+            for (BlockState state : multi.getReplacedBlockStates()) {
+                plugin.getArenaPool().recordChange(state.getBlock());
+            }
+        }
+        plugin.getArenaPool().recordChange(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        plugin.getArenaPool().recordChange(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(PlayerBucketEmptyEvent event) {
+        plugin.getArenaPool().recordChange(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketFill(PlayerBucketFillEvent event) {
+        plugin.getArenaPool().recordChange(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        ArenaPool pool = plugin.getArenaPool();
+        for (Block block : event.blockList()) {
+            pool.recordChange(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        ArenaPool pool = plugin.getArenaPool();
+        pool.recordChange(event.getBlock());
+        for (Block block : event.blockList()) {
+            pool.recordChange(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFromTo(BlockFromToEvent event) {
+        plugin.getArenaPool().recordChange(event.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(BlockFormEvent event) {
+        plugin.getArenaPool().recordChange(event.getBlock());
+    }
+
+    // Spread and grow have handler lists of their own, form does not see them
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockSpread(BlockSpreadEvent event) {
+        plugin.getArenaPool().recordChange(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockGrow(BlockGrowEvent event) {
+        plugin.getArenaPool().recordChange(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFade(BlockFadeEvent event) {
+        plugin.getArenaPool().recordChange(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLeavesDecay(LeavesDecayEvent event) {
+        plugin.getArenaPool().recordChange(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        plugin.getArenaPool().recordChange(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockIgnite(BlockIgniteEvent event) {
+        plugin.getArenaPool().recordChange(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        plugin.getArenaPool().recordChange(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        recordPistonMove(event.getBlock(), event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        recordPistonMove(event.getBlock(), event.getBlocks(), event.getDirection());
+    }
+
+    private void recordPistonMove(Block piston, List<Block> moved, BlockFace direction) {
+        ArenaPool pool = plugin.getArenaPool();
+        pool.recordChange(piston);
+        pool.recordChange(piston.getRelative(direction));
+        for (Block block : moved) {
+            pool.recordChange(block);
+            pool.recordChange(block.getRelative(direction));
         }
     }
 }
@@ -2,34 +2,57 @@ package com.wavedefense.lobby;
 
 import com.wavedefense.WaveDefensePlugin;
 import com.wavedefense.arena.ArenaManager;
-import com.wavedefense.arena.Difficulty;
 import com.wavedefense.arena.Kit;
-
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.text.format.TextDecoration;
+import com.wavedefense.bot.Difficulty;
+import com.wavedefense.message.Message;
 
 import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.World;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Interaction;
 import org.bukkit.entity.Player;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.util.Vector;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class LobbyManager {
     private static final int LOBBY_X = 0;
     private static final int LOBBY_Y = 101;
     private static final int LOBBY_Z = 0;
-    private boolean lobbyCreated = false;
-    private final Map<UUID, Kit> selectedKits = new HashMap<>();
-    private final Map<UUID, Difficulty> selectedDifficulties = new HashMap<>();
+    // Horizontal reach of the lobby area around its center (platform, walls and margin)
+    private static final int LOBBY_EXTENT = 20;
+    // Bump whenever setupLobby changes - the lobby is rebuilt once when the stored version differs
+    private static final int LOBBY_VERSION = 3;
+
+    private final NamespacedKey versionKey;
+    private final NamespacedKey kitKey;
+    private volatile boolean lobbyCreated = false;
+    private volatile UUID lobbyWorldId;
+    private final Map<UUID, Kit> selectedKits = new ConcurrentHashMap<>();
+    private final Map<UUID, Difficulty> selectedDifficulties = new ConcurrentHashMap<>();
+    // Kit selection Interaction entities by entity id
+    private final Map<UUID, Kit> kitStands = new ConcurrentHashMap<>();
+
+    public LobbyManager() {
+        WaveDefensePlugin plugin = WaveDefensePlugin.getInstance();
+        this.versionKey = new NamespacedKey(plugin, "lobby_version");
+        this.kitKey = new NamespacedKey(plugin, "lobby_kit");
+    }
 
     /**
      * Gets the lobby world (same as arena world).
@@ -42,22 +65,96 @@ public class LobbyManager {
         return world;
     }
 
+    /**
+     * Makes sure the lobby exists. The built lobby version is stored in the world's
+     * PersistentDataContainer, so the blocks and entities are only rebuilt when the layout changed.
+     * Kit entities carry the version they were spawned with; entities from an older lobby are
+     * removed and current ones indexed whenever they load (see {@link #onEntitiesLoad}).
+     */
     public void createLobby() {
         if (lobbyCreated) return;
 
         World world = getLobbyWorld();
         if (world == null) return;
 
-        setupLobby(world);
+        lobbyWorldId = world.getUID();
+        PersistentDataContainer worldData = world.getPersistentDataContainer();
+        Integer version = worldData.get(versionKey, PersistentDataType.INTEGER);
+        boolean rebuild = version == null || version != LOBBY_VERSION;
+
+        // Entities usually load after this runs; the ones that are already there are handled now
+        for (int cx = (LOBBY_X - LOBBY_EXTENT) >> 4; cx <= (LOBBY_X + LOBBY_EXTENT) >> 4; cx++) {
+            for (int cz = (LOBBY_Z - LOBBY_EXTENT) >> 4; cz <= (LOBBY_Z + LOBBY_EXTENT) >> 4; cz++) {
+                if (world.isChunkLoaded(cx, cz)) {
+                    scanLobbyEntities(Arrays.asList(world.getChunkAt(cx, cz).getEntities()));
+                }
+            }
+        }
+        if (rebuild) {
+            setupLobby(world);
+            worldData.set(versionKey, PersistentDataType.INTEGER, LOBBY_VERSION);
+            // The arena world does not autosave - persist the new lobby right away
+            // (Folia saves worlds itself and does not allow it from plugins)
+            if (!WaveDefensePlugin.isFolia()) {
+                world.save();
+            }
+        }
         lobbyCreated = true;
     }
 
+    /**
+     * Called when the entities of a chunk have been loaded; cleans up and indexes the lobby chunks.
+     */
+    public void onEntitiesLoad(Chunk chunk, List<Entity> entities) {
+        if (!chunk.getWorld().getUID().equals(lobbyWorldId)) return;
+        int cx = chunk.getX();
+        int cz = chunk.getZ();
+        if (cx < (LOBBY_X - LOBBY_EXTENT) >> 4 || cx > (LOBBY_X + LOBBY_EXTENT) >> 4
+                || cz < (LOBBY_Z - LOBBY_EXTENT) >> 4 || cz > (LOBBY_Z + LOBBY_EXTENT) >> 4) {
+            return;
+        }
+        scanLobbyEntities(entities);
+    }
+
+    /**
+     * Goes over entities in the lobby chunks. Armor stands and kit entities from older lobby
+     * versions are removed, current kit click boxes are put into the kit index.
+     */
+    private void scanLobbyEntities(List<Entity> entities) {
+        for (Entity entity : entities) {
+            if (entity instanceof ArmorStand) {
+                entity.remove();
+                continue;
+            }
+
+            Kit kit = getTaggedKit(entity);
+            if (kit == null) {
+                if (entity.getPersistentDataContainer().has(kitKey)) {
+                    entity.remove();
+                }
+            } else if (entity instanceof Interaction) {
+                kitStands.put(entity.getUniqueId(), kit);
+            }
+        }
+    }
+
+    /**
+     * Returns the kit an entity of the current lobby version is tagged with, or null.
+     */
+    private Kit getTaggedKit(Entity entity) {
+        PersistentDataContainer data = entity.getPersistentDataContainer();
+        String kitName = data.get(kitKey, PersistentDataType.STRING);
+        Integer version = data.get(versionKey, PersistentDataType.INTEGER);
+        if (kitName == null || version == null || version != LOBBY_VERSION) return null;
+        return parseKit(kitName);
+    }
+
     /**
      * Creates the lobby structure in the given world.
      * - Circular platform (radius 15) of polished blackstone
      * - Gold block center (5x5)
      * - Sea lanterns underneath
-     * - 8 armor stands in a circle, one per kit, on colored platforms
+     * - One text display and click box per kit in a circle, on colored platforms
      * - Barrier walls around lobby
      */
     public void setupLobby(World world) {
@@ -103,7 +200,7 @@ public class LobbyManager {
                 }
             }
 
-            // Spawn armor stand display for this kit
+            // Spawn label and click box for this kit
             spawnKitDisplay(world, kitX, centerY + 1, kitZ, kit);
         }
 
@@ -122,6 +219,10 @@ public class LobbyManager {
         }
     }
 
+    private static Kit parseKit(String name) {
+        try { return Kit.valueOf(name); } catch (IllegalArgumentException e) { return null; }
+    }
+
     /**
      * Returns the platform Material color for a given kit.
      */
@@ -146,39 +247,25 @@ public class LobbyManager {
     }
 
     /**
-     * Spawns the armor stand display for a kit (name + description lines).
+     * Spawns the label (one text display with name + description lines) and the click box for a kit.
+     * Both are tagged with the kit and the lobby version so they can be found again after a restart.
      */
     private void spawnKitDisplay(World world, int x, int y, int z, Kit kit) {
-        // Kit name armor stand
-        world.spawn(new Location(world, x + 0.5, y + 1.5, z + 0.5), ArmorStand.class, stand -> {
-            stand.customName(Component.text(kit.getName())
-                    .color(NamedTextColor.GOLD)
-                    .decorate(TextDecoration.BOLD));
-            stand.setCustomNameVisible(true);
-            stand.setInvisible(true);
-            stand.setInvulnerable(true);
-            stand.setGravity(false);
-        });
-
-        // Description line 1
-        world.spawn(new Location(world, x + 0.5, y + 1.0, z + 0.5), ArmorStand.class, stand -> {
-            stand.customName(Component.text("Rechtsklick = Spielen")
-                    .color(NamedTextColor.GREEN));
-            stand.setCustomNameVisible(true);
-            stand.setInvisible(true);
-            stand.setInvulnerable(true);
-            stand.setGravity(false);
+        world.spawn(new Location(world, x + 0.5, y + 2.0, z + 0.5), TextDisplay.class, display -> {
+            display.text(WaveDefensePlugin.getInstance().getMessages().render(Message.LOBBY_KIT_LABEL, kit.getName()));
+            display.setBillboard(Display.Billboard.CENTER);
+            display.getPersistentDataContainer().set(kitKey, PersistentDataType.STRING, kit.name());
+            display.getPersistentDataContainer().set(versionKey, PersistentDataType.INTEGER, LOBBY_VERSION);
         });
 
-        // Description line 2
-        world.spawn(new Location(world, x + 0.5, y + 0.7, z + 0.5), ArmorStand.class, stand -> {
-            stand.customName(Component.text("Shift+Klick = Schwierigkeit")
-                    .color(NamedTextColor.GRAY));
-            stand.setCustomNameVisible(true);
-            stand.setInvisible(true);
-            stand.setInvulnerable(true);
-            stand.setGravity(false);
+        Interaction interaction = world.spawn(new Location(world, x + 0.5, y, z + 0.5), Interaction.class, box -> {
+            box.setInteractionWidth(2.0f);
+            box.setInteractionHeight(2.5f);
+            box.setResponsive(true);
+            box.getPersistentDataContainer().set(kitKey, PersistentDataType.STRING, kit.name());
+            box.getPersistentDataContainer().set(versionKey, PersistentDataType.INTEGER, LOBBY_VERSION);
         });
+        kitStands.put(interaction.getUniqueId(), kit);
     }
 
     /**
@@ -195,27 +282,14 @@ public class LobbyManager {
 
         // Teleport to lobby spawn
         Location lobbySpawn = new Location(lobbyWorld, LOBBY_X + 0.5, LOBBY_Y + 1, LOBBY_Z + 0.5, 0, 0);
-        player.teleport(lobbySpawn);
-
-        // Stop velocity
-        player.setVelocity(new Vector(0, 0, 0));
+        player.teleportAsync(lobbySpawn).thenRun(() -> player.setVelocity(new Vector(0, 0, 0)));
 
         // Reset health and food
         player.setHealth(Objects.requireNonNull(player.getAttribute(Attribute.MAX_HEALTH)).getValue());
         player.setFoodLevel(20);
 
         // Send welcome message
-        player.sendMessage(Component.empty());
-        player.sendMessage(Component.text("=== WAVE DEFENSE PVP ===")
-                .color(NamedTextColor.GOLD)
-                .decorate(TextDecoration.BOLD));
-        player.sendMessage(Component.text("Rechtsklick auf Kit-Schild = Spielen")
-                .color(NamedTextColor.GREEN));
-        player.sendMessage(Component.text("Shift + Rechtsklick = Schwierigkeit aendern")
-                .color(NamedTextColor.YELLOW));
-        player.sendMessage(Component.text("Oder nutze: /wd arena <kit> [easy/medium/hard]")
-                .color(NamedTextColor.GRAY));
-        player.sendMessage(Component.empty());
+        WaveDefensePlugin.getInstance().getMessages().send(player, Message.LOBBY_WELCOME);
     }
 
     public Kit getSelectedKit(UUID playerId) {
@@ -242,7 +316,15 @@ public class LobbyManager {
         int dx = Math.abs(loc.getBlockX() - LOBBY_X);
         int dz = Math.abs(loc.getBlockZ() - LOBBY_Z);
         int py = loc.getBlockY();
-        return dx <= 20 && dz <= 20 && py >= LOBBY_Y - 5 && py <= LOBBY_Y + 15;
+        return dx <= LOBBY_EXTENT && dz <= LOBBY_EXTENT && py >= LOBBY_Y - 5 && py <= LOBBY_Y + 15;
+    }
+
+    /**
+     * Checks if the region file at the given region coordinates contains part of the lobby.
+     */
+    public static boolean isLobbyRegion(int regionX, int regionZ) {
+        return regionX >= (LOBBY_X - LOBBY_EXTENT) >> 9 && regionX <= (LOBBY_X + LOBBY_EXTENT) >> 9
+                && regionZ >= (LOBBY_Z - LOBBY_EXTENT) >> 9 && regionZ <= (LOBBY_Z + LOBBY_EXTENT) >> 9;
     }
 
     public Difficulty getSelectedDifficulty(UUID playerId) {
@@ -254,31 +336,34 @@ public class LobbyManager {
     }
 
     /**
-     * Cycles the selected difficulty for a player and returns the new difficulty.
+     * Handles a click on a kit click box: sneaking cycles the difficulty, otherwise the arena starts.
+     * Returns false if the entity is not a kit click box.
      */
-    public void handleArmorStandInteraction(Player player, ArmorStand armorStand) {
-        // Find which kit this armor stand represents
-        for (Kit kit : Kit.values()) {
-            Component kitName = Component.text(kit.getName())
-                    .color(NamedTextColor.GOLD)
-                    .decorate(TextDecoration.BOLD);
-            Component standName = armorStand.customName();
-            if (standName != null && standName.equals(kitName)) {
-                if (player.isSneaking()) {
-                    // Cycle difficulty
-                    Difficulty newDiff = cycleDifficulty(player.getUniqueId());
-                    player.sendMessage(Component.text("Schwierigkeit: " + newDiff.getName())
-                            .color(WaveDefensePlugin.getDifficultyColor(newDiff)));
-                } else {
-                    // Start arena with this kit
-                    Difficulty diff = getSelectedDifficulty(player.getUniqueId());
-                    WaveDefensePlugin.getInstance().getArenaManager().startArena(player, kit, diff);
-                }
-                return;
-            }
+    public boolean handleKitInteraction(Player player, Entity entity) {
+        Kit kit = kitStands.get(entity.getUniqueId());
+        if (kit == null) {
+            // Not indexed yet (its entities load independently of the chunk) - go by the tag
+            kit = getTaggedKit(entity);
+            if (kit == null) return false;
+            kitStands.put(entity.getUniqueId(), kit);
         }
+
+        if (player.isSneaking()) {
+            // Cycle difficulty
+            Difficulty newDiff = cycleDifficulty(player.getUniqueId());
+            player.sendMessage(WaveDefensePlugin.getInstance().getMessages().render(player, Message.LOBBY_DIFFICULTY, newDiff.getName())
+                    .colorIfAbsent(WaveDefensePlugin.getDifficultyColor(newDiff)));
+        } else {
+            // Start arena with this kit
+            Difficulty diff = getSelectedDifficulty(player.getUniqueId());
+            WaveDefensePlugin.getInstance().getArenaManager().startArena(player, kit, diff);
+        }
+        return true;
     }
 
+    /**
+     * Cycles the selected difficulty for a player and returns the new difficulty.
+     */
     public Difficulty cycleDifficulty(UUID playerId) {
         Difficulty current = getSelectedDifficulty(playerId);
         Difficulty next = switch (current) {
@@ -1,20 +1,19 @@
 package com.wavedefense.lobby;
 
 import com.wavedefense.WaveDefensePlugin;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.text.format.TextDecoration;
+import com.wavedefense.message.Message;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PlayerStats {
-    private static final Map<UUID, Stats> cache = new HashMap<>();
+    // Updated from player threads on every region
+    private static final Map<UUID, Stats> cache = new ConcurrentHashMap<>();
 
     public static class Stats {
         public int wins = 0;
@@ -75,25 +74,18 @@ public class PlayerStats {
     public static void showStats(Player player) {
         Stats stats = getStats(player.getUniqueId());
 
-        player.sendMessage(Component.empty());
-        player.sendMessage(Component.text("=== DEINE STATISTIKEN ===")
-                .color(NamedTextColor.GOLD)
-                .decorate(TextDecoration.BOLD));
-        player.sendMessage(Component.text("Spiele: " + stats.gamesPlayed)
-                .color(NamedTextColor.YELLOW));
-        player.sendMessage(Component.text("Siege: " + stats.wins)
-                .color(NamedTextColor.GREEN));
-        player.sendMessage(Component.text("Niederlagen: " + stats.losses)
-                .color(NamedTextColor.RED));
-        player.sendMessage(Component.text("Win-Rate: " + String.format("%.1f", stats.getWinRate()) + "%")
-                .color(NamedTextColor.AQUA));
-        player.sendMessage(Component.text("K/D: " + String.format("%.2f", stats.getKD()))
-                .color(NamedTextColor.LIGHT_PURPLE));
-        player.sendMessage(Component.empty());
+        WaveDefensePlugin.getInstance().getMessages().send(player, Message.STATS_OVERVIEW,
+                stats.gamesPlayed, stats.wins, stats.losses, stats.getWinRate(), stats.getKD());
     }
 
     private static Stats loadStats(UUID playerId) {
-        File file = getStatsFile(playerId);
+        return readStats(getStatsFile(playerId));
+    }
+
+    /**
+     * Reads stats from the given file; a missing or broken file gives empty stats.
+     */
+    static Stats readStats(File file) {
         if (!file.exists()) {
             return new Stats();
         }
@@ -114,18 +106,21 @@ public class PlayerStats {
 
     private static void saveStats(UUID playerId, Stats stats) {
         try {
-            File file = getStatsFile(playerId);
-            YamlConfiguration yaml = new YamlConfiguration();
-            yaml.set("wins", stats.wins);
-            yaml.set("losses", stats.losses);
-            yaml.set("kills", stats.kills);
-            yaml.set("deaths", stats.deaths);
-            yaml.set("gamesPlayed", stats.gamesPlayed);
-
-            yaml.save(file);
+            writeStats(getStatsFile(playerId), stats);
             cache.put(playerId, stats);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
+
+    static void writeStats(File file, Stats stats) throws IOException {
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.set("wins", stats.wins);
+        yaml.set("losses", stats.losses);
+        yaml.set("kills", stats.kills);
+        yaml.set("deaths", stats.deaths);
+        yaml.set("gamesPlayed", stats.gamesPlayed);
+
+        yaml.save(file);
+    }
 }
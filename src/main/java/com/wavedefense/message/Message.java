@@ -0,0 +1,112 @@
+package com.wavedefense.message;
+
+/**
+ * All user-facing messages, with their key in the lang/*.yml files and the placeholders they
+ * take. Arguments are passed to Messages in the order the placeholders are declared here.
+ */
+public enum Message {
+    // Command
+    PLAYERS_ONLY("command.players-only"),
+    NO_PERMISSION("command.no-permission"),
+    USAGE_ARENA("command.usage-arena", "kits"),
+    USAGE_PVP("command.usage-pvp"),
+    USAGE_SURVIVAL("command.usage-survival"),
+    USAGE_KIT("command.usage-kit"),
+    USAGE_CONFIG("command.usage-config"),
+    UNKNOWN_KIT("command.unknown-kit", "kit"),
+    UNKNOWN_DIFFICULTY("command.unknown-difficulty", "difficulty"),
+    CANNOT_LEAVE_PVP("command.cannot-leave-pvp"),
+    NOT_IN_SURVIVAL("command.not-in-survival"),
+    KIT_RECEIVED("command.kit-received", "kit"),
+    NO_LAST_MATCH("command.no-last-match"),
+    CONFIG_RELOADED("command.config-reloaded"),
+    HELP("command.help"),
+    HELP_ADMIN("command.help-admin"),
+
+    // Profiler
+    PERF_DISABLED("perf.disabled"),
+    PERF_HEADER("perf.header", "seconds", "sessions", "jobs"),
+    PERF_PHASES("perf.phases"),
+    PERF_TOP_SESSIONS("perf.top-sessions"),
+    PERF_TOP_BOTS("perf.top-bots"),
+    PERF_NONE("perf.none"),
+    PERF_LINE("perf.line", "name", "ms", "p50", "p95", "p99", "count"),
+    PERF_PHASE_ARENA_SESSION("perf.phase.arena-session"),
+    PERF_PHASE_PVP_SESSION("perf.phase.pvp-session"),
+    PERF_PHASE_SURVIVAL_SESSION("perf.phase.survival-session"),
+    PERF_PHASE_BOT_AI("perf.phase.bot-ai"),
+    PERF_PHASE_ARENA_BUILD("perf.phase.arena-build"),
+    PERF_PHASE_ARENA_CLEANUP("perf.phase.arena-cleanup"),
+    PERF_PHASE_ARENA_POOL("perf.phase.arena-pool"),
+    PERF_PHASE_STORAGE_IO("perf.phase.storage-io"),
+
+    // Arena
+    ARENA_ALREADY_IN("arena.already-in-arena"),
+    ARENA_SAVED_ACTIVE("arena.saved-arena-active"),
+    ARENA_PREPARING("arena.preparing"),
+    ARENA_START_TITLE("arena.start-title", "kit"),
+    ARENA_START_SUBTITLE("arena.start-subtitle", "difficulty"),
+    ARENA_STARTED("arena.started", "kit", "difficulty", "seconds"),
+    ARENA_COUNTDOWN("arena.countdown", "seconds"),
+    ARENA_FIGHT_TITLE("arena.fight-title"),
+    ARENA_BOT_NAME("arena.bot-name", "kit", "difficulty"),
+    ARENA_NOT_IN("arena.not-in-arena"),
+    ARENA_LEFT("arena.left"),
+    ARENA_BUILD_PROGRESS("arena.build-progress", "percent"),
+    ARENA_VICTORY_TITLE("arena.victory-title"),
+    ARENA_VICTORY_SUBTITLE("arena.victory-subtitle", "kit"),
+    ARENA_VICTORY_STATS("arena.victory-stats", "duration", "hits", "taken", "dealt", "received"),
+    ARENA_DEFEAT_STATS("arena.defeat-stats", "duration", "hits", "taken"),
+    ARENA_REJOIN("arena.rejoin"),
+    ARENA_ABORTED("arena.aborted"),
+    ARENA_NO_PREVIOUS("arena.no-previous"),
+
+    // Match results (arena and PvP)
+    VICTORY("result.victory"),
+    DEFEAT("result.defeat"),
+
+    // Arena HUD
+    HUD_BOT_HEALTH("hud.bot-health", "kit", "percent"),
+    HUD_COMBAT("hud.combat", "hits", "taken"),
+    HUD_COMBAT_COMBO("hud.combat-combo", "hits", "taken", "combo"),
+
+    // PvP
+    PVP_ALREADY_QUEUED("pvp.already-queued"),
+    PVP_QUEUE_JOINED("pvp.queue-joined", "kit"),
+    PVP_QUEUE_LEFT("pvp.queue-left"),
+    PVP_OPPONENT_FOUND("pvp.opponent-found"),
+    PVP_MATCH_START("pvp.match-start", "opponent", "kit"),
+    PVP_COUNTDOWN("pvp.countdown", "seconds"),
+    PVP_FIGHT_TITLE("pvp.fight-title"),
+    PVP_OPPONENT_LEFT("pvp.opponent-left"),
+
+    // Survival
+    SURVIVAL_START("survival.start", "kit"),
+    SURVIVAL_BOT_NAME("survival.bot-name", "kit", "difficulty"),
+    SURVIVAL_BOT_SPAWNED("survival.bot-spawned", "kit"),
+    SURVIVAL_LEFT("survival.left"),
+
+    // Lobby
+    LOBBY_WELCOME("lobby.welcome"),
+    LOBBY_DIFFICULTY("lobby.difficulty", "difficulty"),
+    LOBBY_KIT_LABEL("lobby.kit-label", "kit"),
+
+    // Stats
+    STATS_OVERVIEW("stats.overview", "games", "wins", "losses", "winrate", "kd");
+
+    private final String key;
+    private final String[] placeholders;
+
+    Message(String key, String... placeholders) {
+        this.key = key;
+        this.placeholders = placeholders;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    String[] getPlaceholders() {
+        return placeholders;
+    }
+}
@@ -0,0 +1,114 @@
+package com.wavedefense.message;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * One message of one language, compiled once from its MiniMessage source.
+ *
+ * Placeholders are parsed into marker components. Rendering copies only the branches leading to
+ * a marker and shares everything else with the compiled tree, so sending a message parses
+ * nothing; messages without placeholders are returned as they are. A placeholder may carry a
+ * DecimalFormat pattern for numbers, e.g. {@code <kd:'0.00'>}, formatted for the template's locale.
+ */
+final class MessageTemplate {
+    // Private use characters, one per placeholder occurrence
+    private static final char MARKER = '\uE000';
+    private static final String DEFAULT_DECIMAL = "0.0";
+
+    private final Component compiled;
+    private final Locale locale;
+    // Per marker: index of the argument it shows and its number format (or null)
+    private final int[] markerArgs;
+    private final String[] markerFormats;
+
+    private MessageTemplate(Component compiled, Locale locale, List<Integer> markerArgs, List<String> markerFormats) {
+        this.compiled = compiled;
+        this.locale = locale;
+        this.markerArgs = markerArgs.stream().mapToInt(Integer::intValue).toArray();
+        this.markerFormats = markerFormats.toArray(new String[0]);
+    }
+
+    static MessageTemplate compile(MiniMessage miniMessage, String source, String[] placeholders, Locale locale) {
+        List<Integer> markerArgs = new ArrayList<>();
+        List<String> markerFormats = new ArrayList<>();
+
+        TagResolver.Builder resolvers = TagResolver.builder();
+        for (int i = 0; i < placeholders.length; i++) {
+            int argIndex = i;
+            resolvers.resolver(TagResolver.resolver(placeholders[i], (queue, context) -> {
+                String format = queue.hasNext() ? queue.pop().value() : null;
+                if (format != null) {
+                    try {
+                        new DecimalFormat(format);
+                    } catch (IllegalArgumentException e) {
+                        format = null;
+                    }
+                }
+                char marker = (char) (MARKER + markerArgs.size());
+                markerArgs.add(argIndex);
+                markerFormats.add(format);
+                return Tag.selfClosingInserting(Component.text(String.valueOf(marker)));
+            }));
+        }
+
+        Component compiled = miniMessage.deserialize(source, resolvers.build());
+        return new MessageTemplate(compiled, locale, markerArgs, markerFormats);
+    }
+
+    Component render(Object[] args) {
+        if (markerArgs.length == 0) return compiled;
+        return fill(compiled, args);
+    }
+
+    private Component fill(Component component, Object[] args) {
+        if (component instanceof TextComponent text) {
+            int marker = markerOf(text.content());
+            if (marker >= 0) {
+                return toComponent(args[markerArgs[marker]], markerFormats[marker]);
+            }
+        }
+
+        List<Component> children = component.children();
+        List<Component> filled = null;
+        for (int i = 0; i < children.size(); i++) {
+            Component child = children.get(i);
+            Component result = fill(child, args);
+            if (result != child && filled == null) {
+                filled = new ArrayList<>(children.subList(0, i));
+            }
+            if (filled != null) {
+                filled.add(result);
+            }
+        }
+        return filled != null ? component.children(filled) : component;
+    }
+
+    private int markerOf(String content) {
+        if (content.length() != 1) return -1;
+        int marker = content.charAt(0) - MARKER;
+        return marker >= 0 && marker < markerArgs.length ? marker : -1;
+    }
+
+    private Component toComponent(Object arg, String format) {
+        if (arg instanceof ComponentLike like) {
+            return like.asComponent();
+        }
+        if (arg instanceof Number number && (format != null || number instanceof Double || number instanceof Float)) {
+            DecimalFormat decimal = new DecimalFormat(format != null ? format : DEFAULT_DECIMAL,
+                    DecimalFormatSymbols.getInstance(locale));
+            return Component.text(decimal.format(number));
+        }
+        return Component.text(String.valueOf(arg));
+    }
+}
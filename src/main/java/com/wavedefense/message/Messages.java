@@ -0,0 +1,149 @@
+package com.wavedefense.message;
+
+import com.wavedefense.WaveDefensePlugin;
+import com.wavedefense.arena.BotConfig;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Message catalog. Every lang/<language>.yml in the plugin folder is compiled into templates when
+ * the plugin starts (and on /wd config reload); players get the language of their client locale,
+ * everyone else the configured default language. Keys missing from a file fall back to the
+ * bundled file of that language, then to the default language.
+ */
+public class Messages {
+    private static final List<String> BUNDLED = List.of("de", "en");
+
+    private final WaveDefensePlugin plugin;
+    // Compaction would merge placeholder markers into neighbouring text, so it is left out
+    private final MiniMessage miniMessage = MiniMessage.builder()
+            .postProcessor(UnaryOperator.identity())
+            .build();
+
+    private volatile Map<String, Map<Message, MessageTemplate>> languages = Map.of();
+    private volatile Map<Message, MessageTemplate> defaults = Map.of();
+
+    public Messages(WaveDefensePlugin plugin) {
+        this.plugin = plugin;
+        reload();
+    }
+
+    /**
+     * (Re)loads and compiles all language files.
+     */
+    public void reload() {
+        File dir = new File(plugin.getDataFolder(), "lang");
+        for (String language : BUNDLED) {
+            if (!new File(dir, language + ".yml").exists()) {
+                plugin.saveResource("lang/" + language + ".yml", false);
+            }
+        }
+
+        Map<String, YamlConfiguration> files = new HashMap<>();
+        File[] ymlFiles = dir.listFiles((d, name) -> name.endsWith(".yml"));
+        if (ymlFiles != null) {
+            for (File file : ymlFiles) {
+                String language = file.getName().substring(0, file.getName().length() - 4).toLowerCase(Locale.ROOT);
+                YamlConfiguration yaml = YamlConfiguration.loadConfiguration(file);
+                YamlConfiguration bundled = loadBundled(language);
+                if (bundled != null) {
+                    yaml.setDefaults(bundled);
+                }
+                files.put(language, yaml);
+            }
+        }
+
+        String defaultLanguage = BotConfig.getInstance().defaultLanguage.toLowerCase(Locale.ROOT);
+        if (!files.containsKey(defaultLanguage)) {
+            plugin.getLogger().warning("No messages for default language '" + defaultLanguage + "', using 'de'");
+            defaultLanguage = "de";
+        }
+
+        Map<Message, MessageTemplate> fallback = compile(files.get(defaultLanguage), defaultLanguage, null);
+        Map<String, Map<Message, MessageTemplate>> compiled = new HashMap<>();
+        for (Map.Entry<String, YamlConfiguration> entry : files.entrySet()) {
+            compiled.put(entry.getKey(), entry.getKey().equals(defaultLanguage)
+                    ? fallback : compile(entry.getValue(), entry.getKey(), fallback));
+        }
+
+        defaults = fallback;
+        languages = compiled;
+    }
+
+    private YamlConfiguration loadBundled(String language) {
+        InputStream in = plugin.getResource("lang/" + language + ".yml");
+        if (in == null) return null;
+        return YamlConfiguration.loadConfiguration(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    private Map<Message, MessageTemplate> compile(YamlConfiguration yaml, String language,
+                                                  Map<Message, MessageTemplate> fallback) {
+        Locale locale = Locale.forLanguageTag(language);
+        Map<Message, MessageTemplate> templates = new EnumMap<>(Message.class);
+        for (Message message : Message.values()) {
+            String source = yaml != null ? yaml.getString(message.getKey()) : null;
+            if (source == null && fallback != null) {
+                templates.put(message, fallback.get(message));
+                continue;
+            }
+            if (source == null) {
+                plugin.getLogger().warning("Missing message '" + message.getKey() + "' for language '" + language + "'");
+                source = message.getKey();
+            }
+            try {
+                templates.put(message, MessageTemplate.compile(miniMessage, source, message.getPlaceholders(), locale));
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("Invalid message '" + message.getKey() + "' for language '" + language + "': " + e.getMessage());
+                templates.put(message, fallback != null ? fallback.get(message)
+                        : MessageTemplate.compile(miniMessage, message.getKey(), new String[0], locale));
+            }
+        }
+        return templates;
+    }
+
+    /**
+     * Renders a message in the viewer's language (players) or the default language (console).
+     */
+    public Component render(CommandSender viewer, Message message, Object... args) {
+        Map<Message, MessageTemplate> templates = defaults;
+        if (viewer instanceof Player player) {
+            templates = languages.getOrDefault(player.locale().getLanguage(), templates);
+        }
+        return render(templates, message, args);
+    }
+
+    /**
+     * Renders a message in the default language, for texts everyone sees (entity names, displays).
+     */
+    public Component render(Message message, Object... args) {
+        return render(defaults, message, args);
+    }
+
+    public void send(CommandSender viewer, Message message, Object... args) {
+        viewer.sendMessage(render(viewer, message, args));
+    }
+
+    private Component render(Map<Message, MessageTemplate> templates, Message message, Object[] args) {
+        if (args.length != message.getPlaceholders().length) {
+            throw new IllegalArgumentException(message + " takes " + message.getPlaceholders().length
+                    + " arguments, got " + args.length);
+        }
+        return templates.get(message).render(args);
+    }
+}
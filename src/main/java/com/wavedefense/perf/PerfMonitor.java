@@ -0,0 +1,158 @@
+package com.wavedefense.perf;
+
+import com.wavedefense.arena.BotAI;
+import com.wavedefense.arena.BotConfig;
+import com.wavedefense.arena.TickableSession;
+import com.wavedefense.message.Message;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tick profiler for WaveDefense, read by /wd perf.
+ *
+ * Callers take a timestamp with start() and pass it to one of the record methods when done.
+ * Every phase, every live session and every bot gets a rolling window of its recent timings.
+ * Sessions and bots are dropped when they end (forget) or when they stopped reporting.
+ * Works from any thread; with enablePerfMonitor off, start() returns 0 and nothing is recorded.
+ */
+public class PerfMonitor {
+    public enum Phase {
+        ARENA_SESSION(Message.PERF_PHASE_ARENA_SESSION),
+        PVP_SESSION(Message.PERF_PHASE_PVP_SESSION),
+        SURVIVAL_SESSION(Message.PERF_PHASE_SURVIVAL_SESSION),
+        BOT_AI(Message.PERF_PHASE_BOT_AI),
+        ARENA_BUILD(Message.PERF_PHASE_ARENA_BUILD),
+        ARENA_CLEANUP(Message.PERF_PHASE_ARENA_CLEANUP),
+        ARENA_POOL(Message.PERF_PHASE_ARENA_POOL),
+        STORAGE_IO(Message.PERF_PHASE_STORAGE_IO);
+
+        private final Message displayName;
+
+        Phase(Message displayName) {
+            this.displayName = displayName;
+        }
+
+        /**
+         * Returns the message that names this phase in /wd perf.
+         */
+        public Message getDisplayName() {
+            return displayName;
+        }
+    }
+
+    public static final long WINDOW_NANOS = 10_000_000_000L;
+    // Sessions and bots that have not reported for this long are dropped
+    private static final long STALE_NANOS = 6 * WINDOW_NANOS;
+    private static final int PHASE_SAMPLES = 16384;
+    private static final int SUBJECT_SAMPLES = 256;
+
+    private final Map<Phase, RollingWindow> phases = new EnumMap<>(Phase.class);
+    private final Map<Object, Subject> subjects = new ConcurrentHashMap<>();
+
+    public PerfMonitor() {
+        // Filled once and only read afterwards, so the EnumMap is safe to share
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new RollingWindow(PHASE_SAMPLES));
+        }
+    }
+
+    /**
+     * Timestamp to pass to record(), or 0 while profiling is disabled.
+     */
+    public long start() {
+        return BotConfig.getInstance().enablePerfMonitor ? System.nanoTime() : 0L;
+    }
+
+    public void record(Phase phase, long start) {
+        if (start == 0L) return;
+        long now = System.nanoTime();
+        phases.get(phase).add(now, now - start);
+    }
+
+    public void recordSession(TickableSession session, long start) {
+        if (start == 0L) return;
+        long now = System.nanoTime();
+        long duration = now - start;
+        phases.get(phaseOf(session.getMode())).add(now, duration);
+        subjects.computeIfAbsent(session, PerfMonitor::sessionSubject).window.add(now, duration);
+    }
+
+    /**
+     * Records one batch of a BotSystem (all bots on Paper, a single bot on Folia) as a whole.
+     */
+    public void recordBots(long start) {
+        record(Phase.BOT_AI, start);
+    }
+
+    /**
+     * Records the share of a batch one bot cost, as measured by the bot engine.
+     */
+    public void recordBot(BotAI bot, long nanos) {
+        subjects.computeIfAbsent(bot, PerfMonitor::botSubject).window.add(System.nanoTime(), nanos);
+    }
+
+    // Non-capturing, so recording does not allocate a mapping function per call
+    private static Subject sessionSubject(Object session) {
+        return new Subject(((TickableSession) session).describe(), false);
+    }
+
+    private static Subject botSubject(Object bot) {
+        return new Subject(((BotAI) bot).describe(), true);
+    }
+
+    /**
+     * Drops the timings of a session or bot that ended.
+     */
+    public void forget(Object subject) {
+        subjects.remove(subject);
+    }
+
+    public RollingWindow.Stats getStats(Phase phase) {
+        return phases.get(phase).snapshot(System.nanoTime(), WINDOW_NANOS);
+    }
+
+    /**
+     * The most expensive sessions (bots = false) or bots (bots = true), by time per tick.
+     */
+    public List<Entry> getTop(boolean bots, int limit) {
+        long now = System.nanoTime();
+        List<Entry> entries = new ArrayList<>();
+        subjects.entrySet().removeIf(e -> now - e.getValue().window.getLastTime() > STALE_NANOS);
+        for (Subject subject : subjects.values()) {
+            if (subject.bot != bots) continue;
+            RollingWindow.Stats stats = subject.window.snapshot(now, WINDOW_NANOS);
+            if (stats.count() > 0) {
+                entries.add(new Entry(subject.label, stats));
+            }
+        }
+        entries.sort(Comparator.comparingDouble((Entry e) -> e.stats().nanosPerTick()).reversed());
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+
+    private static Phase phaseOf(TickableSession.Mode mode) {
+        return switch (mode) {
+            case ARENA -> Phase.ARENA_SESSION;
+            case PVP -> Phase.PVP_SESSION;
+            case SURVIVAL -> Phase.SURVIVAL_SESSION;
+        };
+    }
+
+    public record Entry(String label, RollingWindow.Stats stats) {
+    }
+
+    private static class Subject {
+        private final String label;
+        private final boolean bot;
+        private final RollingWindow window = new RollingWindow(SUBJECT_SAMPLES);
+
+        Subject(String label, boolean bot) {
+            this.label = label;
+            this.bot = bot;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.wavedefense.perf;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size ring buffer of timing samples (nanoseconds). Old samples are overwritten, and
+ * snapshots only look at samples newer than the requested age, so the window rolls by both
+ * count and time. Adding a sample never allocates.
+ */
+public class RollingWindow {
+    private final long[] durations;
+    private final long[] times;
+    private int next = 0;
+    private int size = 0;
+
+    public RollingWindow(int capacity) {
+        this.durations = new long[capacity];
+        this.times = new long[capacity];
+    }
+
+    public synchronized void add(long time, long duration) {
+        durations[next] = duration;
+        times[next] = time;
+        next = (next + 1) % durations.length;
+        if (size < durations.length) size++;
+    }
+
+    /**
+     * Time of the newest sample, or 0 if there is none.
+     */
+    public synchronized long getLastTime() {
+        if (size == 0) return 0;
+        return times[(next - 1 + times.length) % times.length];
+    }
+
+    /**
+     * Summarizes the samples taken within the last windowNanos before now.
+     */
+    public Stats snapshot(long now, long windowNanos) {
+        long since = now - windowNanos;
+        long[] values;
+        long oldest = now;
+        boolean wrapped;
+        int count = 0;
+
+        synchronized (this) {
+            values = new long[size];
+            for (int i = 0; i < size; i++) {
+                int index = (next - 1 - i + durations.length) % durations.length;
+                if (times[index] < since) break;
+                values[count++] = durations[index];
+                oldest = times[index];
+            }
+            // The buffer ran full before the window did: only part of the window is covered
+            wrapped = count == durations.length;
+        }
+
+        if (count == 0) return Stats.EMPTY;
+
+        Arrays.sort(values, 0, count);
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += values[i];
+        }
+        long span = wrapped ? Math.max(1, now - oldest) : windowNanos;
+        return new Stats(count, total, span,
+                percentile(values, count, 0.50),
+                percentile(values, count, 0.95),
+                percentile(values, count, 0.99),
+                values[count - 1]);
+    }
+
+    private static long percentile(long[] sorted, int count, double p) {
+        int index = (int) Math.ceil(p * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    /**
+     * Summary of one window. spanNanos is the time the samples cover, used for cost per tick.
+     */
+    public record Stats(int count, long totalNanos, long spanNanos, long p50, long p95, long p99, long max) {
+        public static final Stats EMPTY = new Stats(0, 0, 1, 0, 0, 0, 0);
+
+        /**
+         * Average time spent per server tick (50 ms), in nanoseconds.
+         */
+        public double nanosPerTick() {
+            return totalNanos / (spanNanos / 50_000_000.0);
+        }
+    }
+}